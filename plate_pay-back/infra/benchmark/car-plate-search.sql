@@ -0,0 +1,78 @@
+-- 번호판 부분검색 벤치마크 (차량 100만 대, trigram 인덱스 전/후 비교)
+--
+--   psql -h localhost -U postgres -d platepay_bench -f car-plate-search.sql
+--
+-- 운영 DB가 아닌 빈 DB에서 실행한다. (pg_trgm 확장 설치 권한 필요)
+-- bench 스키마에 car / inout_history 축소판을 만들고 ParkingLotRepositoryQueryDsl.findActiveCarsByParkingLotAndPlateNum과
+-- 같은 모양의 쿼리를 EXPLAIN ANALYZE로 비교한다.
+--  - 인덱스 전: car 순차 탐색 (LIKE '%1837%')
+--  - 인덱스 후: idx_car_plate_num_trgm Bitmap Index Scan
+-- 마지막 단계는 인덱스를 CONCURRENTLY로 다시 만드는 동안 다른 세션의 INSERT가 막히지 않는지 보는 용도다.
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench, public;
+
+CREATE TABLE car (
+    car_uid   bigserial PRIMARY KEY,
+    plate_num varchar(50) NOT NULL
+);
+
+CREATE TABLE inout_history (
+    inout_history_uid bigserial PRIMARY KEY,
+    parking_lot_id    bigint NOT NULL,
+    car_id            bigint NOT NULL REFERENCES car (car_uid),
+    in_time           timestamp NOT NULL,
+    out_time          timestamp
+);
+
+-- '123가4567' 형식 번호판 100만 개
+INSERT INTO car (plate_num)
+SELECT lpad((random() * 999)::int::text, 3, '0')
+           || (ARRAY['가','나','다','라','마','거','너','더','러','머','버','서','어','저','고','노','도','로','모','보','소','오','조','구','누','두','루','무','부','수','우','주','하','허','호'])[1 + (random() * 34)::int]
+           || lpad((random() * 9999)::int::text, 4, '0')
+FROM generate_series(1, 1000000);
+
+-- 주차장 100곳, 차량의 1%가 입차 중
+INSERT INTO inout_history (parking_lot_id, car_id, in_time, out_time)
+SELECT 1 + (car_uid % 100), car_uid, now() - interval '1 hour',
+       CASE WHEN car_uid % 100 = 0 THEN NULL ELSE now() END
+FROM car;
+CREATE INDEX ON inout_history (parking_lot_id, out_time);
+ANALYZE car;
+ANALYZE inout_history;
+
+\echo '--- 인덱스 전 ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT c.*
+FROM inout_history h
+JOIN car c ON c.car_uid = h.car_id
+WHERE h.parking_lot_id = 1 AND h.out_time IS NULL AND c.plate_num LIKE '%1837%';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM car WHERE plate_num LIKE '%1837%';
+
+CREATE INDEX CONCURRENTLY idx_car_plate_num_trgm ON car USING gin (plate_num gin_trgm_ops);
+ANALYZE car;
+
+\echo '--- 인덱스 후 ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT c.*
+FROM inout_history h
+JOIN car c ON c.car_uid = h.car_id
+WHERE h.parking_lot_id = 1 AND h.out_time IS NULL AND c.plate_num LIKE '%1837%';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM car WHERE plate_num LIKE '%1837%';
+
+-- 인덱스 재생성 중 쓰기 확인: 아래를 실행하는 동안 다른 psql 세션에서
+--   INSERT INTO bench.car (plate_num) VALUES ('999허9999');
+-- 가 바로 끝나는지 본다. (CONCURRENTLY 없이 CREATE INDEX를 하면 인덱스가 다 만들어질 때까지 대기한다)
+\echo '--- CONCURRENTLY 재생성 ---'
+DROP INDEX CONCURRENTLY idx_car_plate_num_trgm;
+CREATE INDEX CONCURRENTLY idx_car_plate_num_trgm ON car USING gin (plate_num gin_trgm_ops);
+
+RESET search_path;
+-- 정리: DROP SCHEMA bench CASCADE;
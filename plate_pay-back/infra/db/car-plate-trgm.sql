@@ -0,0 +1,13 @@
+-- 번호판 부분검색용 pg_trgm 확장 / trigram 인덱스 (DB 관리자 계정으로 한 번 실행)
+--
+--   psql -h <host> -U <admin> -d <db> -f car-plate-trgm.sql
+--
+-- 앱은 확장을 설치하지 않는다. 확장이 있으면 기동 시 같은 인덱스를 CONCURRENTLY로 만들고(이미 있으면 건너뜀),
+-- 없으면 LIKE 순차 탐색으로 동작한다. (CarPlateSearchIndexInitializer)
+-- 운영 스키마(plate)가 아니면 아래 스키마 이름을 바꾼다.
+-- CREATE INDEX CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 psql -1 / BEGIN 없이 실행한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_car_plate_num_trgm
+    ON plate.car USING gin (plate_num gin_trgm_ops);
@@ -0,0 +1,77 @@
+// 번호판 스캔 처리량 비교 (플랫폼 스레드 vs 가상 스레드)
+//
+//   VIRTUAL_THREADS_ENABLED=false 로 기동 후:
+//     k6 run -e BASE_URL=http://localhost:8080 -e PARKING_LOT_ID=1 -e IMAGE=./plate.jpg gate-scan.js
+//   VIRTUAL_THREADS_ENABLED=true 로 재기동 후 같은 명령 반복
+//
+// 접수(202)는 OCR 큐에 넣기만 하므로, 접수 후 GET /scan/{scanId} 를 폴링해 COMPLETED/FAILED 까지의 시간을 잰다.
+// scan_e2e_duration(p95), scan_completed/scan_failed/scan_timeout, scan_rejected(503) 를 비교한다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PARKING_LOT_ID = __ENV.PARKING_LOT_ID || '1';
+const POLL_INTERVAL_SEC = Number(__ENV.POLL_INTERVAL_MS || 100) / 1000;
+const POLL_TIMEOUT_MS = Number(__ENV.POLL_TIMEOUT_MS || 30000);
+const image = open(__ENV.IMAGE || './plate.jpg', 'b');
+
+const e2eDuration = new Trend('scan_e2e_duration', true);
+const accepted = new Counter('scan_accepted');
+const rejected = new Counter('scan_rejected');
+const completed = new Counter('scan_completed');
+const failed = new Counter('scan_failed');
+const timedOut = new Counter('scan_timeout');
+
+export const options = {
+    scenarios: {
+        gate_scan: {
+            executor: 'ramping-arrival-rate',
+            startRate: 10,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 1000,
+            stages: [
+                { target: 50, duration: '30s' },
+                { target: 200, duration: '1m' },
+                { target: 200, duration: '2m' },
+                { target: 0, duration: '15s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        scan_timeout: ['count==0'],
+    },
+};
+
+export default function () {
+    const eventType = Math.random() < 0.5 ? 'ENTRY' : 'EXIT';
+    const started = Date.now();
+    const res = http.post(
+        `${BASE_URL}/api/v1/plates/scan?eventType=${eventType}&parkingLotId=${PARKING_LOT_ID}`,
+        { image: http.file(image, 'plate.jpg', 'image/jpeg') },
+        { tags: { name: 'scan' } },
+    );
+    if (res.status === 503) {
+        rejected.add(1);
+        return;
+    }
+    if (!check(res, { 'accepted': (r) => r.status === 202 })) {
+        return;
+    }
+    accepted.add(1);
+
+    const scanId = res.json('data.scanId');
+    while (Date.now() - started < POLL_TIMEOUT_MS) {
+        sleep(POLL_INTERVAL_SEC);
+        const poll = http.get(`${BASE_URL}/api/v1/plates/scan/${scanId}`, { tags: { name: 'scan-status' } });
+        const stage = poll.status === 200 ? poll.json('data.stage') : null;
+        if (stage === 'COMPLETED' || stage === 'FAILED') {
+            e2eDuration.add(Date.now() - started);
+            (stage === 'COMPLETED' ? completed : failed).add(1);
+            return;
+        }
+    }
+    timedOut.add(1);
+}
@@ -0,0 +1,138 @@
+package com.pcarchu.platepay.common.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 초기 적재의 최근접 주차장 배정: 주차장 10k개, 매장 100k개
+ *
+ *  - importIndexed: KD-tree 생성(주차장 좌표 파싱 포함) + 매장 100k개 nearest (StoreUtil.initStores와 같은 순서)
+ *  - buildIndex: KD-tree 생성만
+ *  - nearestIndexed / nearestLinear: 매장 1개당 비용. nearestLinear는 이전 방식(주차장마다 문자열 좌표 파싱 + haversine 비교)이다.
+ *    이전 방식의 적재 비용은 매장당 수 ms라 100k개를 한 번에 재면 수 분이 걸리므로, 매장당 비용 x 100k로 비교한다.
+ *
+ *   ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoPointIndexBenchmark {
+    private static final int LOTS = 10_000;
+    private static final int STORES = 100_000;
+
+    private List<Lot> lots;
+    private double[] storeLat;
+    private double[] storeLon;
+    private GeoPointIndex<Lot> index;
+    private int cursor;
+
+    // ParkingLot처럼 좌표를 문자열로 가진 주차장
+    public record Lot(long uid, String latitude, String longitude) {
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lots = new ArrayList<>(LOTS);
+        for (int i = 0; i < LOTS; i++) {
+            lots.add(new Lot(i, String.valueOf(randomLat(random)), String.valueOf(randomLon(random))));
+        }
+        storeLat = new double[STORES];
+        storeLon = new double[STORES];
+        for (int i = 0; i < STORES; i++) {
+            storeLat[i] = randomLat(random);
+            storeLon[i] = randomLon(random);
+        }
+        index = buildLotIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void importIndexed(Blackhole bh) {
+        GeoPointIndex<Lot> built = buildLotIndex();
+        for (int i = 0; i < STORES; i++) {
+            bh.consume(built.nearest(storeLat[i], storeLon[i]));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public GeoPointIndex<Lot> buildIndex() {
+        return buildLotIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Lot nearestIndexed() {
+        int i = nextStore();
+        return index.nearest(storeLat[i], storeLon[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Lot nearestLinear() {
+        int i = nextStore();
+        double lat = storeLat[i];
+        double lon = storeLon[i];
+        return lots.stream()
+                .min((p1, p2) -> {
+                    double d1 = haversine(lat, lon,
+                            Double.parseDouble(p1.latitude()), Double.parseDouble(p1.longitude()));
+                    double d2 = haversine(lat, lon,
+                            Double.parseDouble(p2.latitude()), Double.parseDouble(p2.longitude()));
+                    return Double.compare(d1, d2);
+                })
+                .orElse(null);
+    }
+
+    private GeoPointIndex<Lot> buildLotIndex() {
+        return GeoPointIndex.build(lots,
+                p -> Double.parseDouble(p.latitude()),
+                p -> Double.parseDouble(p.longitude()));
+    }
+
+    private int nextStore() {
+        int i = cursor;
+        cursor = (i + 1) % STORES;
+        return i;
+    }
+
+    // 이전 StoreUtil.haversine
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double R = 6371;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // 국내 범위
+    private static double randomLat(Random random) {
+        return 33.0 + random.nextDouble() * 5.6;
+    }
+
+    private static double randomLon(Random random) {
+        return 124.6 + random.nextDouble() * 6.4;
+    }
+}
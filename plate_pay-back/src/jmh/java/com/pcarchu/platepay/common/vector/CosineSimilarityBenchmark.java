@@ -0,0 +1,69 @@
+package com.pcarchu.platepay.common.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 얼굴 임베딩 코사인 유사도: 펼친 단일 순회(CosineSimilarity) vs 원소당 한 누산기 3회 순회
+ *
+ *   ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CosineSimilarityBenchmark {
+
+    @Param({"128", "512", "4096"})
+    private int dimension;
+
+    private float[] a;
+    private float[] b;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(dimension);
+        a = new float[dimension];
+        b = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            a[i] = (float) random.nextGaussian();
+            b[i] = (float) random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    public double unrolled() {
+        return CosineSimilarity.cosine(a, b);
+    }
+
+    @Benchmark
+    public double naive() {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+        }
+        double normA = 0;
+        for (float v : a) {
+            normA += (double) v * v;
+        }
+        double normB = 0;
+        for (float v : b) {
+            normB += (double) v * v;
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,95 @@
+package com.pcarchu.platepay.security.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HS512 access token 검증 처리량: 기동 시 만든 키/파서(TokenVerifier) vs 호출마다 파서 생성 + 문자열 키 디코딩(이전 방식)
+ *
+ * 단일 스레드와 코어 수만큼의 스레드(@Threads(MAX)) 처리량을 함께 본다. 코어당 처리량 = MAX 결과 / 코어 수.
+ *  - legacyFilter: 이전 인증 필터처럼 validateToken + validateAndGetEmail로 요청마다 두 번 파싱
+ *
+ *   ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private String secret;
+    private TokenVerifier tokenVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[64];
+        new Random(42).nextBytes(keyBytes);
+        secret = Base64.getEncoder().encodeToString(keyBytes);
+        tokenVerifier = new TokenVerifier(secret, "", new StandardEnvironment());
+
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .setSubject("driver@platepay.com")
+                .claim("loginType", "KAKAO")
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(tokenVerifier.getSigningKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Claims prebuilt() {
+        return tokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @SuppressWarnings("deprecation")
+    public Claims legacy() {
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @SuppressWarnings("deprecation")
+    public Claims legacyFilter() {
+        Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Claims prebuiltAllCores() {
+        return tokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @SuppressWarnings("deprecation")
+    public Claims legacyAllCores() {
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+}
@@ -5,7 +5,7 @@ import com.pcarchu.platepay.account.dto.AccountRequestDto;
 import com.pcarchu.platepay.account.dto.AccountResponseDto;
 import com.pcarchu.platepay.account.service.AccountService;
 import com.pcarchu.platepay.common.dto.ResponseDto;
-import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import com.pcarchu.platepay.util.SsafyUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.persistence.EntityNotFoundException;
@@ -28,7 +28,7 @@ public class AccountController {
 
     @Operation(summary = "사용자 계좌 조회", description = "사용자가 등록한 계좌를 조회합니다.")
     @GetMapping
-    public ResponseEntity<?> getAccounts(@AuthenticationPrincipal Member loginMember) {
+    public ResponseEntity<?> getAccounts(@AuthenticationPrincipal LoginMember loginMember) {
         try {
             log.info("getAccounts occurred!");
             List<AccountResponseDto.AccountInfo> list = accountService.getAccounts(loginMember);
@@ -42,7 +42,7 @@ public class AccountController {
 
     @Operation(summary = "주 계좌 변경", description = "결제용 주 계좌를 변경합니다.")
     @PatchMapping("/{accountId}/primary")
-    public ResponseEntity<?> setMainAccount(@AuthenticationPrincipal Member loginMember, @PathVariable Long accountId) {
+    public ResponseEntity<?> setMainAccount(@AuthenticationPrincipal LoginMember loginMember, @PathVariable Long accountId) {
         try {
             accountService.setMainAccount(loginMember, accountId);
             return responseDto.success("주 계좌 변경 성공");
@@ -54,7 +54,7 @@ public class AccountController {
 
     @Operation(summary = "주 계좌 삭제", description = "계좌를 삭제합니다.")
     @DeleteMapping("/{accountId}")
-    public ResponseEntity<?> deleteAccount(@AuthenticationPrincipal Member loginMember, @PathVariable Long accountId) {
+    public ResponseEntity<?> deleteAccount(@AuthenticationPrincipal LoginMember loginMember, @PathVariable Long accountId) {
         try {
             accountService.deleteAccount(loginMember, accountId);
             return responseDto.success("계좌 삭제 성공");
@@ -66,7 +66,7 @@ public class AccountController {
 
     @Operation(summary = "계좌 이름 변경", description = "계좌 이름을 합니다.")
     @PatchMapping("/{accountId}")
-    public ResponseEntity<?> setAccountName(@AuthenticationPrincipal Member loginMember, @PathVariable Long accountId, @RequestBody AccountRequestDto.AccountNameRequestDto requestDto) {
+    public ResponseEntity<?> setAccountName(@AuthenticationPrincipal LoginMember loginMember, @PathVariable Long accountId, @RequestBody AccountRequestDto.AccountNameRequestDto requestDto) {
         try {
             log.info(requestDto.getNewName());
             accountService.setAccountName(loginMember, accountId, requestDto.getNewName());
@@ -79,14 +79,14 @@ public class AccountController {
 
     @Operation(summary = "계좌 등록 요청", description = "계좌 등록을 요청 합니다.")
     @PostMapping("/register")
-    public ResponseEntity<?> registerAccount(@AuthenticationPrincipal Member loginMember, @RequestBody AccountRequestDto.AccountRegisterRequest requestDto) {
+    public ResponseEntity<?> registerAccount(@AuthenticationPrincipal LoginMember loginMember, @RequestBody AccountRequestDto.AccountRegisterRequest requestDto) {
         accountService.registerAccountRequest(loginMember, requestDto.getAccountNo());
         return responseDto.success("1원 송금 요청 성공. 인증번호를 입력하세요.");
     }
 
     @Operation(summary = "계좌 1원 검증 요청", description = "계좌 등록을 위한 1원 검증을 요청 합니다.")
     @PostMapping("/verify")
-    public ResponseEntity<?> verifyAccount(@AuthenticationPrincipal Member loginMember, @RequestBody AccountRequestDto.AccountVerifyRequest requestDto) {
+    public ResponseEntity<?> verifyAccount(@AuthenticationPrincipal LoginMember loginMember, @RequestBody AccountRequestDto.AccountVerifyRequest requestDto) {
         accountService.verifyAccountRequest(loginMember, requestDto.getAccountNo(), requestDto.getAuthCode(), requestDto.getAccountName());
         return responseDto.success("1원 송금 검증 성공");
     }
@@ -94,7 +94,7 @@ public class AccountController {
     @Operation(summary = "계좌별 통계 내역", description = "계좌별 storeType 기준 총 결제 금액 및 거래 횟수를 조회합니다.")
     @GetMapping("/{accountId}/stats")
     public ResponseEntity<?> getAccountStats(
-        @AuthenticationPrincipal Member loginMember,
+        @AuthenticationPrincipal LoginMember loginMember,
         @PathVariable Long accountId,
         @RequestParam int year,
         @RequestParam int month) {
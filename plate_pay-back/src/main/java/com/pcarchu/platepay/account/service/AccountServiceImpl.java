@@ -8,7 +8,9 @@ import com.pcarchu.platepay.bank.domain.entity.Bank;
 import com.pcarchu.platepay.bank.domain.respository.BankRepository;
 import com.pcarchu.platepay.inOutHistory.domain.repository.InOutHistoryRepository;
 import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.member.domain.repository.MemberRepository;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryResponseDto;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import com.pcarchu.platepay.util.SsafyUtil;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -31,11 +33,12 @@ public class AccountServiceImpl implements AccountService {
     private final SsafyUtil ssafyUtil;
     private final BankRepository bankRepository;
     private final InOutHistoryRepository inOutHistoryRepository;
+    private final MemberRepository memberRepository;
 
     /**
      * 로그인한 사용자의 계좌 목록 조회
      */
-    public List<AccountResponseDto.AccountInfo> getAccounts(Member loginMember) {
+    public List<AccountResponseDto.AccountInfo> getAccounts(LoginMember loginMember) {
         // memberUid 기준으로 계좌 목록 조회
         List<Account> accounts = accountRepository.findAllByMember_MemberUidAndStatusIsTrue(loginMember.getMemberUid());
 
@@ -54,7 +57,7 @@ public class AccountServiceImpl implements AccountService {
      * 주 계좌 변경
      */
     @Transactional
-    public void setMainAccount(Member loginMember, Long accountId) {
+    public void setMainAccount(LoginMember loginMember, Long accountId) {
         Long memberUid = loginMember.getMemberUid();
 
         List<Account> accounts = accountRepository.findAllByMember_MemberUidAndStatusIsTrue(memberUid);
@@ -76,7 +79,7 @@ public class AccountServiceImpl implements AccountService {
      * 주 계좌 삭제
      */
     @Transactional
-    public void deleteAccount(Member loginMember, Long accountId) {
+    public void deleteAccount(LoginMember loginMember, Long accountId) {
         Long memberUid = loginMember.getMemberUid();
 
         Account account = accountRepository.findByAccountUidAndMember_MemberUidAndStatusIsTrue(accountId, memberUid)
@@ -93,7 +96,7 @@ public class AccountServiceImpl implements AccountService {
      * 계좌 이름 변경
      */
     @Transactional
-    public void setAccountName(Member loginMember, Long accountId, String newName) {
+    public void setAccountName(LoginMember loginMember, Long accountId, String newName) {
         Long memberUid = loginMember.getMemberUid();
 
         Account targetAccount = accountRepository.findByAccountUidAndMember_MemberUidAndStatusIsTrue(accountId, memberUid)
@@ -106,7 +109,7 @@ public class AccountServiceImpl implements AccountService {
     /**
      * 계좌 등록 요청
      */
-    public void registerAccountRequest(Member loginMember, String accountNo) {
+    public void registerAccountRequest(LoginMember loginMember, String accountNo) {
         int accountCount = accountRepository.countByMember_MemberUidAndStatusIsTrue(loginMember.getMemberUid());
         if (accountCount >= 3) {
             throw new IllegalStateException("계좌는 최대 3개까지만 등록할 수 있습니다.");
@@ -117,19 +120,20 @@ public class AccountServiceImpl implements AccountService {
             throw new IllegalArgumentException("이미 등록된 계좌입니다.");
         }
 
-        JsonObject rec = ssafyUtil.inquireAccountHolder(loginMember.getUserKey(), accountNo);
+        Member member = getMember(loginMember);
+        JsonObject rec = ssafyUtil.inquireAccountHolder(member.getUserKey(), accountNo);
         if (rec == null) {
             throw new IllegalArgumentException("계좌 정보를 불러오지 못했습니다.");
         }
 
         String holderName = rec.get("userName").getAsString();
-        String expected = loginMember.getEmail().split("@")[0];
+        String expected = member.getEmail().split("@")[0];
 
         if (holderName == null || !holderName.equals(expected)) {
             throw new IllegalArgumentException("정보가 일치하지 않습니다. 계좌번호를 다시 확인해주세요.");
         }
 
-        boolean transferOk = ssafyUtil.requestOneWonTransfer(loginMember.getUserKey(), accountNo);
+        boolean transferOk = ssafyUtil.requestOneWonTransfer(member.getUserKey(), accountNo);
         if (!transferOk) {
             throw new IllegalStateException("1원 송금 요청 실패");
         }
@@ -138,15 +142,16 @@ public class AccountServiceImpl implements AccountService {
     /**
      * 1원 검증 요청
      */
-    public void verifyAccountRequest(Member loginMember, String accountNo, String authCode, String accountName) {
-        boolean verifyOk = ssafyUtil.verifyOneWonCode(loginMember.getUserKey(), accountNo, authCode);
+    public void verifyAccountRequest(LoginMember loginMember, String accountNo, String authCode, String accountName) {
+        Member member = getMember(loginMember);
+        boolean verifyOk = ssafyUtil.verifyOneWonCode(member.getUserKey(), accountNo, authCode);
 
         if (!verifyOk) {
             throw new IllegalArgumentException("인증번호 불일치");
         }
 
 
-        JsonObject rec = ssafyUtil.inquireAccountHolder(loginMember.getUserKey(), accountNo);
+        JsonObject rec = ssafyUtil.inquireAccountHolder(member.getUserKey(), accountNo);
         if (rec == null) {
             throw new IllegalArgumentException("계좌 정보를 불러오지 못했습니다.");
         }
@@ -159,7 +164,7 @@ public class AccountServiceImpl implements AccountService {
         boolean isMain = accountRepository.findAllByMember_MemberUidAndStatusIsTrue(loginMember.getMemberUid()).isEmpty();
 
         Account account = Account.builder()
-                .member(loginMember)
+                .member(member)
                 .bank(bank)
                 .accountNo(accountNo)
                 .accountName(accountName)
@@ -171,7 +176,7 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AccountResponseDto.StoreTypeUsage> getAccountUsageStats(Member loginMember, Long accountId, int year, int month) {
+    public List<AccountResponseDto.StoreTypeUsage> getAccountUsageStats(LoginMember loginMember, Long accountId, int year, int month) {
         // 계좌 소유자 검증 + 존재 확인
         // accountRepository.findByAccountUidAndMember_MemberUid(accountId, loginMember.getMemberUid())
         //     .orElseThrow(() -> new EntityNotFoundException("해당 계좌가 존재하지 않거나, 접근 권한이 없습니다."));
@@ -179,4 +184,9 @@ public class AccountServiceImpl implements AccountService {
         // QueryDsl 통계 조회
         return accountRepository.getTotalCostByStoreType(accountId, year, month);
     }
-}
\ No newline at end of file
+
+    private Member getMember(LoginMember loginMember) {
+        return memberRepository.findByMemberUid(loginMember.getMemberUid())
+                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다."));
+    }
+}
@@ -8,7 +8,7 @@ import com.pcarchu.platepay.car.dto.CarResponseDto;
 import com.pcarchu.platepay.car.service.CarService;
 import com.pcarchu.platepay.common.dto.ResponseDto;
 import com.pcarchu.platepay.common.error.BusinessException;
-import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +29,7 @@ public class CarController {
 	@Operation(summary = "차량 등록 1차 검증", description = "사용자 차량 등록 1차 검증 과정을 수행합니다.")
 	@PostMapping("/car-registration-a/issuance/initial")
 	public ResponseEntity<?> registerCarFirstPhase(@RequestBody CarRequestDto.RegisterCar registerCar,
-												   @AuthenticationPrincipal Member member) {
+												   @AuthenticationPrincipal LoginMember member) {
 		try {
 			CarResponseDto.FirstPhaseInfo firstPhaseInfo = carService.registerCarFirstPhase(registerCar, member);
 
@@ -54,7 +54,7 @@ public class CarController {
 
 	@Operation(summary = "차량 등록 2차 검증", description = "사용자 차량 등록 2차 검증 과정을 수행합니다.")
 	@PostMapping("/car-registration-a/issuance/secondary")
-	public ResponseEntity<?> registerCarSecondPhase(@AuthenticationPrincipal Member member) {
+	public ResponseEntity<?> registerCarSecondPhase(@AuthenticationPrincipal LoginMember member) {
 		try {
 			Map<String, String> resMap = carService.registerCarSecondPhase(member);
 
@@ -72,7 +72,7 @@ public class CarController {
 	@Operation(summary = "소유 차량 조회", description = "사용자가 소유한 모든 차량을 조회합니다.")
 	@GetMapping
 	public ResponseEntity<?> getAllCarsByUser(
-			@AuthenticationPrincipal Member member
+			@AuthenticationPrincipal LoginMember member
 	) {
 		try {
 			if (member.getMemberUid() == null) {
@@ -90,7 +90,7 @@ public class CarController {
 	@Operation(summary = "특정 차량 조회", description = "사용자가 소유한 차량 중 특정 차량을 조회합니다.")
 	@GetMapping("/{carId}")
 	public ResponseEntity<?> getCarById(
-			@AuthenticationPrincipal Member member,
+			@AuthenticationPrincipal LoginMember member,
 			@PathVariable Long carId
 	) {
 		try {
@@ -111,7 +111,7 @@ public class CarController {
 	@Operation(summary = "차량 별명 바꾸기", description = "사용자가 소유한 차량의 별명을 바꿉니다.")
 	@PatchMapping("/{carId}")
 	public ResponseEntity<?> changeCarNickName(
-			@AuthenticationPrincipal Member member,
+			@AuthenticationPrincipal LoginMember member,
 			@PathVariable Long carId,
 			@RequestBody String nickname
 	) {
@@ -131,7 +131,7 @@ public class CarController {
 	@Operation(summary = "차량 삭제", description = "사용자가 소유한 차량을 삭제합니다.")
 	@DeleteMapping("/{carId}")
 	public ResponseEntity<?> deleteCar(
-			@AuthenticationPrincipal Member member,
+			@AuthenticationPrincipal LoginMember member,
 			@PathVariable("carId") Long carUid
 	) {
 		try {
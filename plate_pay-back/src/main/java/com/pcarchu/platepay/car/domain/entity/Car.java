@@ -40,7 +40,7 @@ public class Car extends BaseTimeEntity {
 	@Column(name = "status")
 	private Boolean status;
 
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name="carImgId")
 	private PlatePayFile platePayFile;
 
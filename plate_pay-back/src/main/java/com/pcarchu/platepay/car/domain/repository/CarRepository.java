@@ -9,6 +9,8 @@ public interface CarRepository {
 
 	List<Car> findByMemberId(Long memberId);
 
+	long countByMemberId(Long memberId);
+
 	Optional<Car> findByUid(Long uid);
 
 	Optional<Car> findByPlateNum(String plateNum);
@@ -0,0 +1,140 @@
+package com.pcarchu.platepay.car.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 번호판 부분검색용 trigram 인덱스 (PostgreSQL)
+ *
+ * car.plateNum.contains(...)는 LIKE '%1837%'로 나가 B-tree를 쓰지 못한다.
+ * pg_trgm GIN 인덱스를 만들어 두면 입차 세션 인덱스가 준비되지 않았을 때의 DB 조회도 인덱스를 탄다.
+ *  - pg_trgm 확장 설치는 DB 관리자 권한이 필요하므로 앱에서 하지 않는다. (infra/db/car-plate-trgm.sql)
+ *    확장이 없으면 인덱스 없이 LIKE 순차 탐색으로 동작한다.
+ *  - ddl-auto로는 만들 수 없어 기동 시 CREATE INDEX CONCURRENTLY로 만든다. 생성 중에도 car 쓰기를 막지 않으며,
+ *    트랜잭션 안에서는 실행할 수 없으므로 autocommit 커넥션에서 직접 실행한다.
+ *  - 여러 인스턴스가 동시에 기동해도 advisory lock을 잡은 한 곳만 만든다.
+ *    이전 생성이 중단되어 INVALID로 남은 인덱스는 지우고 다시 만든다.
+ * (PostgreSQL 외 DB에서는 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CarPlateSearchIndexInitializer {
+    private static final String INDEX_NAME = "idx_car_plate_num_trgm";
+    private static final long ADVISORY_LOCK_KEY = 0x706c617465L; // "plate"
+
+    private final DataSource dataSource;
+
+    @Value("${plate-search.trigram-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String defaultSchema;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        if (!enabled) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("번호판 trigram 인덱스 생략: {}", product);
+                return;
+            }
+            connection.setAutoCommit(true);
+
+            if (!hasTrigramExtension(connection)) {
+                log.warn("pg_trgm 확장이 없어 번호판 trigram 인덱스 생략 (infra/db/car-plate-trgm.sql 참고)");
+                return;
+            }
+            if (!tryLock(connection)) {
+                log.info("번호판 trigram 인덱스는 다른 인스턴스에서 확인 중");
+                return;
+            }
+            try {
+                createIndex(connection);
+            } finally {
+                unlock(connection);
+            }
+        } catch (Exception e) {
+            log.warn("번호판 trigram 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private void createIndex(Connection connection) throws SQLException {
+        Boolean valid = indexValid(connection);
+        if (Boolean.TRUE.equals(valid)) {
+            log.info("번호판 trigram 인덱스 확인 완료");
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            if (valid != null) {
+                log.warn("번호판 trigram 인덱스가 INVALID 상태, 다시 생성");
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + qualified(INDEX_NAME));
+            }
+            long start = System.currentTimeMillis();
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX_NAME
+                    + " ON " + qualified("car") + " USING gin (plate_num gin_trgm_ops)");
+            log.info("번호판 trigram 인덱스 생성 완료: {}ms", System.currentTimeMillis() - start);
+        }
+    }
+
+    private boolean hasTrigramExtension(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+            return rs.next();
+        }
+    }
+
+    // 인덱스가 없으면 null
+    private Boolean indexValid(Connection connection) throws SQLException {
+        String sql = "SELECT i.indisvalid FROM pg_index i"
+                + " JOIN pg_class c ON c.oid = i.indexrelid"
+                + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE c.relname = ? AND n.nspname = COALESCE(?, current_schema())";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, INDEX_NAME);
+            statement.setString(2, hasSchema() ? defaultSchema : null);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private boolean hasSchema() {
+        return defaultSchema != null && !defaultSchema.isBlank();
+    }
+
+    private String qualified(String name) {
+        return hasSchema() ? defaultSchema + "." + name : name;
+    }
+}
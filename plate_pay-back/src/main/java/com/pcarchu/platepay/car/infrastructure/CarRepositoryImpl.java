@@ -21,6 +21,11 @@ public class CarRepositoryImpl implements CarRepository {
 		return carRepositoryJpa.findByMember_MemberUidAndStatusIsTrue(memberId);
 	}
 
+	@Override
+	public long countByMemberId(Long memberId) {
+		return carRepositoryJpa.countByMember_MemberUid(memberId);
+	}
+
 	@Override
 	public Optional<Car> findByUid(Long uid) {
 		return carRepositoryJpa.findByCarUidAndStatusIsTrue(uid);
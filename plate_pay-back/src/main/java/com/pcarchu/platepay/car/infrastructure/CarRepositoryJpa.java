@@ -10,10 +10,14 @@ import com.pcarchu.platepay.car.domain.entity.Car;
 
 
 public interface CarRepositoryJpa extends JpaRepository<Car, Long> {
+	@EntityGraph(attributePaths = "platePayFile")
 	List<Car> findByMember_MemberUidAndStatusIsTrue(Long memberId);
 
+	@EntityGraph(attributePaths = "platePayFile")
 	Optional<Car> findByCarUidAndStatusIsTrue(Long memberId);
 
+	long countByMember_MemberUid(Long memberId);
+
 	@EntityGraph(attributePaths = "member")
 	Optional<Car> findByPlateNumAndStatusIsTrue(String plateNum);
 
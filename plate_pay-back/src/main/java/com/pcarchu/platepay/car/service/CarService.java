@@ -3,7 +3,7 @@ package com.pcarchu.platepay.car.service;
 import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.car.dto.CarRequestDto;
 import com.pcarchu.platepay.car.dto.CarResponseDto;
-import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.security.dto.LoginMember;
 
 import java.util.List;
 import java.util.Map;
@@ -15,6 +15,6 @@ public interface CarService {
     Optional<Car> getCarByPlateNum(String plateNum);
     CarResponseDto.CarInfo changeNickName(Long carUid, String nickname);
     void deleteCar(Long memberId, Long carUid);
-    CarResponseDto.FirstPhaseInfo registerCarFirstPhase(CarRequestDto.RegisterCar registerCar, Member member);
-    Map<String, String> registerCarSecondPhase(Member member);
+    CarResponseDto.FirstPhaseInfo registerCarFirstPhase(CarRequestDto.RegisterCar registerCar, LoginMember loginMember);
+    Map<String, String> registerCarSecondPhase(LoginMember loginMember);
 }
@@ -14,6 +14,8 @@ import com.pcarchu.platepay.config.cache.CacheConfig;
 import com.pcarchu.platepay.file.domain.entity.PlatePayFile;
 import com.pcarchu.platepay.file.service.PlatePayFileService;
 import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.member.domain.repository.MemberRepository;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import com.pcarchu.platepay.util.CodefUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +44,7 @@ public class CarServiceImpl implements CarService {
 	private final Cache<Long, CacheConfig.PendingCarRegistration> pendingCarRegistrationCache;
 
 	private final CarRepository carRepository;
+	private final MemberRepository memberRepository;
 
 	/**
 	 * 특정 사용자의 모든 차량 조회
@@ -127,14 +130,15 @@ public class CarServiceImpl implements CarService {
 	 */
 	@Override
 	@Transactional
-	public CarResponseDto.FirstPhaseInfo registerCarFirstPhase(CarRequestDto.RegisterCar registerCar, Member member) {
+	public CarResponseDto.FirstPhaseInfo registerCarFirstPhase(CarRequestDto.RegisterCar registerCar, LoginMember loginMember) {
+		Member member = getMember(loginMember);
 		Optional<CodefToken> optionalCodefToken = codefTokenService.getToken();
 
 		if (optionalCodefToken.isEmpty()) {
 			// codefToken이 비어있으면 새로 생성
 			optionalCodefToken = codefTokenService.create();
 		}
-		if (member.getCars().size() >= 3) {
+		if (carRepository.countByMemberId(member.getMemberUid()) >= 3) {
 			// 차는 3개까지 등록 가능
 			throw new BusinessException(ErrorCode.MEMBER_CAR_LIMIT_EXCEEDED);
 		}
@@ -171,7 +175,8 @@ public class CarServiceImpl implements CarService {
 	 */
 	@Override
 	@Transactional
-	public Map<String, String> registerCarSecondPhase(Member member) {
+	public Map<String, String> registerCarSecondPhase(LoginMember loginMember) {
+		Member member = getMember(loginMember);
 		Long memberId = member.getMemberUid();
 		CacheConfig.PendingCarRegistration pending = pendingCarRegistrationCache.getIfPresent(memberId);
         if (pending == null) {
@@ -259,6 +264,11 @@ public class CarServiceImpl implements CarService {
 		return carRepository.findByPlateNum(plateNum);
 	}
 
+	private Member getMember(LoginMember loginMember) {
+		return memberRepository.findByMemberUid(loginMember.getMemberUid())
+				.orElseThrow(() -> new IllegalStateException("회원이 존재하지 않습니다."));
+	}
+
 	/**
 	 * 네이버에서 차량 이미지 크롤링
 	 */
@@ -0,0 +1,23 @@
+package com.pcarchu.platepay.common.domain;
+
+/**
+ * 중심점 기준 반경을 감싸는 위경도 사각형 (마이크로도)
+ *
+ * (lat_e6, lon_e6) 인덱스 범위 조회용 1차 필터이며, 정확한 반경 판정은 호출자가 한다.
+ * 서비스 지역(국내)만 다루므로 경도 ±180° 경계는 고려하지 않는다.
+ */
+public record GeoBoundingBox(int minLatE6, int maxLatE6, int minLonE6, int maxLonE6) {
+    // 위도 1도 ≈ 111.195km (지구 반지름 6371km 기준)
+    public static final double KM_PER_DEGREE = 111.195;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double dLon = Math.min(radiusKm / (KM_PER_DEGREE * cosLat), 180);
+        return new GeoBoundingBox(
+                GeoPoint.toE6(Math.max(latitude - dLat, -90)),
+                GeoPoint.toE6(Math.min(latitude + dLat, 90)),
+                GeoPoint.toE6(longitude - dLon),
+                GeoPoint.toE6(longitude + dLon));
+    }
+}
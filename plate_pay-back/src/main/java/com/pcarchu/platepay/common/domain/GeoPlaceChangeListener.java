@@ -0,0 +1,38 @@
+package com.pcarchu.platepay.common.domain;
+
+import com.pcarchu.platepay.common.event.GeoPlaceChanged;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLotFee;
+import com.pcarchu.platepay.store.domain.entity.Store;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장/주차장/주차장 요금 엔티티 변경 시 GeoPlaceChanged 발행 (JPA 엔티티 리스너)
+ * 요금은 주차장을 역참조하지 않으므로 uid 없이 주차장 변경으로 발행한다. (캐시는 종류 단위로 비운다)
+ *
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입을 받는다.
+ * 벌크 쿼리(backfillLocation)는 엔티티 리스너를 거치지 않지만, 검색 캐시가 채워지기 전인 기동 시에만 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeoPlaceChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Store s) {
+            eventPublisher.publishEvent(new GeoPlaceChanged(GeoPlaceChanged.Type.STORE, s.getStoreUid()));
+        } else if (entity instanceof ParkingLot p) {
+            eventPublisher.publishEvent(new GeoPlaceChanged(GeoPlaceChanged.Type.PARKING_LOT, p.getParkingLotUid()));
+        } else if (entity instanceof ParkingLotFee) {
+            eventPublisher.publishEvent(new GeoPlaceChanged(GeoPlaceChanged.Type.PARKING_LOT, null));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.pcarchu.platepay.common.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 위경도 고정소수점 좌표 (마이크로도, 도 × 10^6)
+ *
+ * int 두 개로 저장해 DB에서 (lat_e6, lon_e6) 복합 인덱스로 범위 조회를 할 수 있게 한다 (PostGIS 불필요).
+ * 10^-6도는 약 11cm이므로 매장/주차장 위치 표현에는 충분하다.
+ * 문자열 위경도 컬럼(latitude, longitude)은 기존 데이터/검색 색인 호환을 위해 그대로 두고, 이 값은 저장 시 함께 채운다.
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeoPoint {
+    public static final double SCALE = 1_000_000d;
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    @Comment("위도 (마이크로도)")
+    @Column(name = "lat_e6")
+    private Integer latE6;
+
+    @Comment("경도 (마이크로도)")
+    @Column(name = "lon_e6")
+    private Integer lonE6;
+
+    private GeoPoint(int latE6, int lonE6) {
+        this.latE6 = latE6;
+        this.lonE6 = lonE6;
+    }
+
+    public static GeoPoint of(double latitude, double longitude) {
+        return new GeoPoint(toE6(latitude), toE6(longitude));
+    }
+
+    public static GeoPoint of(String latitude, String longitude) {
+        return of(Double.parseDouble(latitude), Double.parseDouble(longitude));
+    }
+
+    public double latitude() {
+        return latE6 / SCALE;
+    }
+
+    public double longitude() {
+        return lonE6 / SCALE;
+    }
+
+    public double distanceKm(double latitude, double longitude) {
+        return distanceKm(latitude(), longitude(), latitude, longitude);
+    }
+
+    public static int toE6(double degrees) {
+        return (int) Math.round(degrees * SCALE);
+    }
+
+    /** Haversine 공식 (단위: km) */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
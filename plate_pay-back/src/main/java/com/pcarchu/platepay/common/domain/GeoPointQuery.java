@@ -0,0 +1,35 @@
+package com.pcarchu.platepay.common.domain;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+/**
+ * GeoPoint 컬럼 반경 검색 조건 (QueryDSL)
+ *
+ * 사각형 범위 조건으로 (lat_e6, lon_e6) 인덱스를 타고, 남은 후보만 등거리 근사 거리로 원 안인지 판정/정렬한다.
+ * 등거리 근사는 수십 km 이내에서 haversine과 순서가 사실상 같으므로, 응답의 거리 값만 haversine으로 다시 계산한다.
+ * 곱셈은 int 범위를 넘으므로 double로 바꿔서 계산한다.
+ */
+public final class GeoPointQuery {
+
+    private GeoPointQuery() {
+    }
+
+    public static BooleanExpression within(QGeoPoint point, double latitude, double longitude, double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        double radiusE6 = radiusKm / GeoBoundingBox.KM_PER_DEGREE * GeoPoint.SCALE;
+        return point.latE6.between(box.minLatE6(), box.maxLatE6())
+                .and(point.lonE6.between(box.minLonE6(), box.maxLonE6()))
+                .and(distanceSquared(point, latitude, longitude).loe(radiusE6 * radiusE6));
+    }
+
+    /**
+     * 중심점까지의 등거리 근사 거리² (위도 방향 마이크로도 단위)
+     */
+    public static NumberExpression<Double> distanceSquared(QGeoPoint point, double latitude, double longitude) {
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        NumberExpression<Double> dLat = point.latE6.castToNum(Double.class).subtract((double) GeoPoint.toE6(latitude));
+        NumberExpression<Double> dLon = point.lonE6.castToNum(Double.class).subtract((double) GeoPoint.toE6(longitude)).multiply(cosLat);
+        return dLat.multiply(dLat).add(dLon.multiply(dLon));
+    }
+}
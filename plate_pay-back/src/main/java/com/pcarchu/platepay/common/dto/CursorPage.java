@@ -0,0 +1,21 @@
+package com.pcarchu.platepay.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 (무한 스크롤)
+ * 다음 페이지는 nextCursor를 그대로 넘겨 요청한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+    private Long totalHits;    // 전체 개수를 세지 않은 경우 null
+}
@@ -0,0 +1,16 @@
+package com.pcarchu.platepay.common.event;
+
+/**
+ * 위치 검색 대상(매장, 주차장) 추가/수정/삭제 (커밋 이후 근접 검색 캐시 무효화)
+ *
+ * @param uid 바뀐 매장/주차장 UID (주차장 요금 변경처럼 알 수 없으면 null)
+ */
+public record GeoPlaceChanged(
+        Type type,
+        Long uid
+) {
+    public enum Type {
+        STORE,
+        PARKING_LOT
+    }
+}
@@ -0,0 +1,13 @@
+package com.pcarchu.platepay.common.event;
+
+/**
+ * 매장 주문 저장 (주문 내역 커밋 이후 발행)
+ */
+public record OrderPlaced(
+        Long orderHistoryUid,
+        Long inOutHistoryUid,
+        String storeName,
+        Integer cost,
+        String memberEmail
+) {
+}
@@ -0,0 +1,13 @@
+package com.pcarchu.platepay.common.event;
+
+import java.util.List;
+
+/**
+ * 출차 정산 기록 완료 (결제 outbox 커밋 이후 발행)
+ */
+public record SettlementCompleted(
+        Long inOutHistoryUid,
+        List<Long> paymentOutboxIds,
+        Integer totalAmount
+) {
+}
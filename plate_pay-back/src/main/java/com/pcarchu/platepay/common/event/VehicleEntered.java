@@ -0,0 +1,15 @@
+package com.pcarchu.platepay.common.event;
+
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
+
+/**
+ * 입차 확정 (입출차 내역 커밋 이후 발행)
+ */
+public record VehicleEntered(
+        Long inOutHistoryUid,
+        Long parkingLotUid,
+        String parkingLotName,
+        String memberEmail,
+        InOutHistoryResponseDto.ActiveSession session
+) {
+}
@@ -0,0 +1,15 @@
+package com.pcarchu.platepay.common.event;
+
+/**
+ * 출차 확정 (출차 시각과 정산 outbox 커밋 이후 발행)
+ */
+public record VehicleExited(
+        Long inOutHistoryUid,
+        Long parkingLotUid,
+        String parkingLotName,
+        Long carUid,
+        String plateNum,
+        String memberEmail,
+        Integer totalAmount
+) {
+}
@@ -0,0 +1,173 @@
+package com.pcarchu.platepay.common.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위경도 최근접 검색용 KD-tree (불변)
+ *
+ * 각 지점을 단위 구 위의 3차원 좌표(x, y, z)로 바꿔 저장한다.
+ * 두 점 사이의 직선(현) 거리는 대원 거리와 단조 관계이므로, 유클리드 KD-tree로 구한 최근접이 그대로 구면 최근접이 되고
+ * 경도 ±180° 경계나 고위도에서도 보정이 필요 없다.
+ *  - 생성: 축마다 quickselect로 중앙값을 골라 배열 안에서 트리를 구성 (O(n log n), 노드 객체 없음)
+ *  - 검색: k개 최대 힙으로 가지치기 (평균 O(log n + k))
+ *
+ * 생성 이후에는 바뀌지 않으므로 여러 스레드에서 그대로 사용해도 된다. 지점이 바뀌면 새로 만든다.
+ */
+public final class GeoPointIndex<T> {
+    private final Object[] items;
+    private final double[] xyz;
+
+    private GeoPointIndex(Object[] items, double[] xyz) {
+        this.items = items;
+        this.xyz = xyz;
+    }
+
+    public static <T> GeoPointIndex<T> build(Collection<? extends T> values,
+                                             ToDoubleFunction<? super T> latitude,
+                                             ToDoubleFunction<? super T> longitude) {
+        int n = values.size();
+        Object[] src = values.toArray();
+        double[] pts = new double[n * 3];
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            T v = (T) src[i];
+            toUnitVector(latitude.applyAsDouble(v), longitude.applyAsDouble(v), pts, i * 3);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        buildTree(order, pts, 0, n, 0);
+
+        Object[] items = new Object[n];
+        double[] xyz = new double[n * 3];
+        for (int i = 0; i < n; i++) {
+            items[i] = src[order[i]];
+            System.arraycopy(pts, order[i] * 3, xyz, i * 3, 3);
+        }
+        return new GeoPointIndex<>(items, xyz);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * 가장 가까운 지점 (비어 있으면 null)
+     */
+    public T nearest(double lat, double lon) {
+        List<T> res = nearest(lat, lon, 1);
+        return res.isEmpty() ? null : res.get(0);
+    }
+
+    /**
+     * 가까운 순서대로 최대 k개
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> nearest(double lat, double lon, int k) {
+        if (k <= 0 || items.length == 0) {
+            return Collections.emptyList();
+        }
+        double[] q = new double[3];
+        toUnitVector(lat, lon, q, 0);
+
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.dist2(), a.dist2()));
+        search(0, items.length, 0, q, k, heap);
+
+        List<T> res = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            res.add((T) items[heap.poll().index()]);
+        }
+        Collections.reverse(res);
+        return res;
+    }
+
+    // [lo, hi) 구간의 가운데가 노드, 왼쪽/오른쪽 절반이 자식
+    private void search(int lo, int hi, int depth, double[] q, int k, PriorityQueue<Neighbor> heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % 3;
+
+        double dx = xyz[mid * 3] - q[0];
+        double dy = xyz[mid * 3 + 1] - q[1];
+        double dz = xyz[mid * 3 + 2] - q[2];
+        double d2 = dx * dx + dy * dy + dz * dz;
+        if (heap.size() < k) {
+            heap.add(new Neighbor(mid, d2));
+        } else if (d2 < heap.peek().dist2()) {
+            heap.poll();
+            heap.add(new Neighbor(mid, d2));
+        }
+
+        double diff = q[axis] - xyz[mid * 3 + axis];
+        if (diff < 0) {
+            search(lo, mid, depth + 1, q, k, heap);
+            if (heap.size() < k || diff * diff < heap.peek().dist2()) {
+                search(mid + 1, hi, depth + 1, q, k, heap);
+            }
+        } else {
+            search(mid + 1, hi, depth + 1, q, k, heap);
+            if (heap.size() < k || diff * diff < heap.peek().dist2()) {
+                search(lo, mid, depth + 1, q, k, heap);
+            }
+        }
+    }
+
+    private static void buildTree(int[] order, double[] pts, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % 3;
+        select(order, pts, lo, hi - 1, mid, axis);
+        buildTree(order, pts, lo, mid, depth + 1);
+        buildTree(order, pts, mid + 1, hi, depth + 1);
+    }
+
+    // order[lo..hi]에서 k번째를 제자리에 두고, 왼쪽은 작거나 같게 / 오른쪽은 크거나 같게 나눈다 (Hoare quickselect)
+    private static void select(int[] order, double[] pts, int lo, int hi, int k, int axis) {
+        while (hi > lo) {
+            double pivot = pts[order[(lo + hi) >>> 1] * 3 + axis];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (pts[order[i] * 3 + axis] < pivot) i++;
+                while (pts[order[j] * 3 + axis] > pivot) j--;
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void toUnitVector(double lat, double lon, double[] out, int offset) {
+        double phi = Math.toRadians(lat);
+        double lambda = Math.toRadians(lon);
+        double cosPhi = Math.cos(phi);
+        out[offset] = cosPhi * Math.cos(lambda);
+        out[offset + 1] = cosPhi * Math.sin(lambda);
+        out[offset + 2] = Math.sin(phi);
+    }
+
+    private record Neighbor(int index, double dist2) {
+    }
+}
@@ -0,0 +1,355 @@
+package com.pcarchu.platepay.common.index;
+
+import com.pcarchu.platepay.common.domain.GeoBoundingBox;
+import com.pcarchu.platepay.common.domain.GeoPoint;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 위치 + 이름 + 분류 복합 검색용 인메모리 인덱스 (불변)
+ *
+ * 조건(분류, 이름 검색어)에 맞는 값을 가까운 순(같은 거리면 id 순)으로 offset 페이지 또는 커서(searchAfter) 단위로 돌려준다.
+ *  - 위치: cellDegrees 크기의 균일 격자. 검색 지점의 칸부터 한 바퀴(ring)씩 넓혀 가며,
+ *          필요한 개수를 채우고 다음 ring의 최소 거리보다 모두 가까워지면 멈춘다.
+ *  - 이름: NFC 정규화 + 소문자 + 공백 제거 후 bigram 역색인(BitSet). 검색어를 공백으로 나눈 단어 중
+ *          하나라도 이름에 포함되면 일치한다 (ES match 쿼리의 OR 의미).
+ *  - 분류: 값별 BitSet
+ * 조건으로 걸러진 후보가 적으면 격자를 거치지 않고 후보 전체의 거리를 바로 계산한다.
+ *
+ * 생성 이후에는 바뀌지 않으므로 여러 스레드에서 그대로 사용해도 된다. 데이터가 바뀌면 새로 만든다.
+ */
+public final class GeoTextIndex<T> {
+    private static final int SCAN_THRESHOLD = 512;
+
+    private final Object[] items;
+    private final long[] ids;
+    private final double[] lat;
+    private final double[] lon;
+    private final String[] names;
+    private final Map<Object, BitSet> categories;
+    private final Map<String, BitSet> grams;
+    private final Map<Long, int[]> cells;
+    private final double cellDegrees;
+    private final int minCellX;
+    private final int maxCellX;
+    private final int minCellY;
+    private final int maxCellY;
+
+    private GeoTextIndex(Object[] items, long[] ids, double[] lat, double[] lon, String[] names,
+                         Map<Object, BitSet> categories, Map<String, BitSet> grams, Map<Long, int[]> cells,
+                         double cellDegrees, int minCellX, int maxCellX, int minCellY, int maxCellY) {
+        this.items = items;
+        this.ids = ids;
+        this.lat = lat;
+        this.lon = lon;
+        this.names = names;
+        this.categories = categories;
+        this.grams = grams;
+        this.cells = cells;
+        this.cellDegrees = cellDegrees;
+        this.minCellX = minCellX;
+        this.maxCellX = maxCellX;
+        this.minCellY = minCellY;
+        this.maxCellY = maxCellY;
+    }
+
+    /**
+     * @param id 정렬 동률 처리 및 커서용 고유 id
+     * @param category 분류 (없으면 null 반환)
+     * @param cellDegrees 격자 한 칸의 크기 (도)
+     */
+    public static <T> GeoTextIndex<T> build(List<? extends T> values,
+                                            ToLongFunction<? super T> id,
+                                            ToDoubleFunction<? super T> latitude,
+                                            ToDoubleFunction<? super T> longitude,
+                                            Function<? super T, String> name,
+                                            Function<? super T, ?> category,
+                                            double cellDegrees) {
+        int n = values.size();
+        Object[] items = new Object[n];
+        long[] ids = new long[n];
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        String[] names = new String[n];
+        Map<Object, BitSet> categories = new HashMap<>();
+        Map<String, BitSet> grams = new HashMap<>();
+        Map<Long, List<Integer>> cellLists = new HashMap<>();
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            T v = values.get(i);
+            items[i] = v;
+            ids[i] = id.applyAsLong(v);
+            lat[i] = latitude.applyAsDouble(v);
+            lon[i] = longitude.applyAsDouble(v);
+            names[i] = normalize(name.apply(v));
+
+            Object c = category.apply(v);
+            if (c != null) {
+                categories.computeIfAbsent(c, k -> new BitSet(n)).set(i);
+            }
+            for (int j = 0; j + 1 < names[i].length(); j++) {
+                grams.computeIfAbsent(names[i].substring(j, j + 2), k -> new BitSet(n)).set(i);
+            }
+
+            int x = cell(lon[i], cellDegrees);
+            int y = cell(lat[i], cellDegrees);
+            cellLists.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(i);
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>(cellLists.size() * 2);
+        cellLists.forEach((k, list) -> cells.put(k, list.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new GeoTextIndex<>(items, ids, lat, lon, names, categories, grams, cells,
+                cellDegrees, minX, maxX, minY, maxY);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * 가까운 순으로 [offset, offset + limit) 구간과 조건에 맞는 전체 개수
+     *
+     * @param category 분류 조건 (null이면 전체)
+     * @param keyword 이름 검색어 (비어 있으면 전체)
+     */
+    public Result<T> search(double latitude, double longitude, Object category, String keyword, long offset, int limit) {
+        BitSet filter = filter(category, keyword);
+        long total = filter == null ? items.length : filter.cardinality();
+        int need = (int) Math.min(offset + limit, total);
+        if (limit <= 0 || need <= offset) {
+            return new Result<>(Collections.emptyList(), total);
+        }
+
+        List<Candidate> nearest = nearest(filter, total, latitude, longitude, need, null);
+        return new Result<>(hits(nearest, (int) offset, need), total);
+    }
+
+    /**
+     * after(마지막으로 받은 결과의 거리, id) 다음부터 가까운 순으로 최대 limit개
+     *
+     * @param after 처음 페이지면 null
+     * @param countTotal false면 전체 개수를 세지 않는다 (total = null)
+     */
+    public Scroll<T> searchAfter(double latitude, double longitude, Object category, String keyword,
+                                 Position after, int limit, boolean countTotal) {
+        BitSet filter = filter(category, keyword);
+        long matched = filter == null ? items.length : filter.cardinality();
+        Long total = countTotal ? matched : null;
+        if (limit <= 0 || matched == 0) {
+            return new Scroll<>(Collections.emptyList(), false, total);
+        }
+
+        // 다음 페이지 여부를 알기 위해 하나 더 찾는다
+        List<Candidate> nearest = nearest(filter, matched, latitude, longitude, limit + 1, after);
+        boolean hasNext = nearest.size() > limit;
+        return new Scroll<>(hits(nearest, 0, Math.min(limit, nearest.size())), hasNext, total);
+    }
+
+    // 조건/커서를 만족하는 것 중 가장 가까운 need개 (정렬됨)
+    private List<Candidate> nearest(BitSet filter, long matched, double latitude, double longitude, int need, Position after) {
+        List<Candidate> res = (filter != null && matched <= Math.max(SCAN_THRESHOLD, need))
+                ? scan(filter, latitude, longitude, after)
+                : ringSearch(filter, latitude, longitude, need, after);
+        res.sort(ORDER);
+        return res.size() > need ? res.subList(0, need) : res;
+    }
+
+    private List<Hit<T>> hits(List<Candidate> nearest, int from, int to) {
+        List<Hit<T>> hits = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            Candidate c = nearest.get(i);
+            @SuppressWarnings("unchecked")
+            T value = (T) items[c.index()];
+            hits.add(new Hit<>(value, ids[c.index()], c.distanceKm()));
+        }
+        return hits;
+    }
+
+    private List<Candidate> scan(BitSet filter, double latitude, double longitude, Position after) {
+        List<Candidate> res = new ArrayList<>(filter.cardinality());
+        for (int i = filter.nextSetBit(0); i >= 0; i = filter.nextSetBit(i + 1)) {
+            Candidate c = new Candidate(i, ids[i], GeoPoint.distanceKm(latitude, longitude, lat[i], lon[i]));
+            if (isAfter(c, after)) {
+                res.add(c);
+            }
+        }
+        return res;
+    }
+
+    private List<Candidate> ringSearch(BitSet filter, double latitude, double longitude, int need, Position after) {
+        int cx = cell(longitude, cellDegrees);
+        int cy = cell(latitude, cellDegrees);
+        int maxRing = Math.max(Math.max(Math.abs(cx - minCellX), Math.abs(cx - maxCellX)),
+                Math.max(Math.abs(cy - minCellY), Math.abs(cy - maxCellY)));
+
+        // 지금까지 가장 가까운 need개 (가장 먼 것이 맨 앞)
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(need + 1, ORDER.reversed());
+
+        for (int r = 0; r <= maxRing; r++) {
+            if (r == 0) {
+                collect(cx, cy, filter, latitude, longitude, need, after, heap);
+            } else {
+                for (int x = cx - r; x <= cx + r; x++) {
+                    collect(x, cy - r, filter, latitude, longitude, need, after, heap);
+                    collect(x, cy + r, filter, latitude, longitude, need, after, heap);
+                }
+                for (int y = cy - r + 1; y <= cy + r - 1; y++) {
+                    collect(cx - r, y, filter, latitude, longitude, need, after, heap);
+                    collect(cx + r, y, filter, latitude, longitude, need, after, heap);
+                }
+            }
+
+            // 다음 ring 바깥의 점은 적어도 r칸 떨어져 있다 (경도 방향은 고위도 쪽 cos으로 보수적으로 계산)
+            if (heap.size() == need) {
+                double farLat = Math.min(89, Math.abs(latitude) + (r + 1) * cellDegrees);
+                double minKm = r * cellDegrees * GeoBoundingBox.KM_PER_DEGREE * Math.cos(Math.toRadians(farLat)) * 0.99;
+                if (heap.peek().distanceKm() <= minKm) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+
+    private void collect(int x, int y, BitSet filter, double latitude, double longitude,
+                         int need, Position after, PriorityQueue<Candidate> heap) {
+        int[] docs = cells.get(key(x, y));
+        if (docs == null) {
+            return;
+        }
+        for (int i : docs) {
+            if (filter != null && !filter.get(i)) {
+                continue;
+            }
+            Candidate c = new Candidate(i, ids[i], GeoPoint.distanceKm(latitude, longitude, lat[i], lon[i]));
+            if (!isAfter(c, after)) {
+                continue;
+            }
+            if (heap.size() < need) {
+                heap.add(c);
+            } else if (ORDER.compare(c, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(c);
+            }
+        }
+    }
+
+    // 조건에 맞는 문서 집합 (조건이 없으면 null)
+    private BitSet filter(Object category, String keyword) {
+        BitSet res = null;
+        if (category != null) {
+            BitSet c = categories.get(category);
+            if (c == null) {
+                return new BitSet();
+            }
+            res = (BitSet) c.clone();
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            BitSet k = new BitSet(items.length);
+            for (String term : keyword.trim().split("\\s+")) {
+                k.or(termMatches(normalize(term)));
+            }
+            if (res == null) {
+                res = k;
+            } else {
+                res.and(k);
+            }
+        }
+        return res;
+    }
+
+    private BitSet termMatches(String q) {
+        BitSet candidates;
+        if (q.length() < 2) {
+            // 한 글자 검색은 bigram으로 좁힐 수 없으므로 전체 확인
+            candidates = new BitSet(items.length);
+            candidates.set(0, items.length);
+        } else {
+            candidates = null;
+            for (int j = 0; j + 1 < q.length(); j++) {
+                BitSet posting = grams.get(q.substring(j, j + 2));
+                if (posting == null) {
+                    return new BitSet();
+                }
+                if (candidates == null) {
+                    candidates = (BitSet) posting.clone();
+                } else {
+                    candidates.and(posting);
+                }
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (!names[i].contains(q)) {
+                candidates.clear(i);
+            }
+        }
+        return candidates;
+    }
+
+    public static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        s = Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isAfter(Candidate c, Position after) {
+        if (after == null) {
+            return true;
+        }
+        int cmp = Double.compare(c.distanceKm(), after.distanceKm());
+        return cmp > 0 || (cmp == 0 && c.id() > after.id());
+    }
+
+    private static int cell(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) y << 32) | (x & 0xffffffffL);
+    }
+
+    private static final Comparator<Candidate> ORDER =
+            Comparator.comparingDouble(Candidate::distanceKm).thenComparingLong(Candidate::id);
+
+    private record Candidate(int index, long id, double distanceKm) {
+    }
+
+    public record Position(double distanceKm, long id) {
+    }
+
+    public record Hit<T>(T value, long id, double distanceKm) {
+    }
+
+    public record Result<T>(List<Hit<T>> hits, long total) {
+    }
+
+    public record Scroll<T>(List<Hit<T>> hits, boolean hasNext, Long total) {
+    }
+}
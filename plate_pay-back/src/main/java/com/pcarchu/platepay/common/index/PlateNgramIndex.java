@@ -0,0 +1,223 @@
+package com.pcarchu.platepay.common.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 번호판 부분 검색용 bigram 인덱스
+ *
+ * 번호판의 연속된 두 글자(예: "227루1837" → 22, 27, 7루, 루1, 18, 83, 37)마다 키 목록을 유지하고,
+ * 검색어의 bigram 목록을 교집합한 뒤 contains로 최종 확인한다.
+ * 한글 음절은 char 하나이므로 "7루", "루1"처럼 음절 단위로 색인된다.
+ * 입력은 NFC로 정규화하므로 자모가 분리된 입력(ㄹ+ㅜ)도 음절("루")로 합쳐서 비교한다.
+ *
+ * 키오스크 검색의 대부분인 "뒷자리 숫자 4개" 검색은 별도의 뒷자리 인덱스로 바로 찾는다.
+ * 국내 번호판의 앞자리 숫자는 최대 3자리이므로, 숫자 4개가 연속으로 나오는 곳은 뒷자리뿐이다.
+ *
+ * 읽기/쓰기 락으로 보호되므로 여러 스레드에서 그대로 사용해도 된다.
+ */
+public class PlateNgramIndex<K, V> {
+
+    private final Map<K, Entry<V>> entries = new HashMap<>();
+    private final Map<String, Set<K>> grams = new HashMap<>();
+    private final Map<String, Set<K>> suffixes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(K key, String plateNum, V value) {
+        String plate = normalize(plateNum);
+        lock.writeLock().lock();
+        try {
+            Entry<V> prev = entries.put(key, new Entry<>(plate, value));
+            if (prev != null) {
+                unindex(key, prev.plate());
+            }
+            for (String gram : bigrams(plate)) {
+                grams.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+            }
+            String suffix = digitSuffix(plate);
+            if (suffix != null) {
+                suffixes.computeIfAbsent(suffix, g -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public V remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Entry<V> prev = entries.remove(key);
+            if (prev == null) {
+                return null;
+            }
+            unindex(key, prev.plate());
+            return prev.value();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public V get(K key) {
+        lock.readLock().lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            return entry == null ? null : entry.value();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 번호판에 query가 포함된 값을 최대 limit개 반환한다.
+     */
+    public List<V> search(String query, int limit) {
+        String q = normalize(query);
+        List<V> result = new ArrayList<>();
+        if (q.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            // 한 글자 검색은 bigram으로 좁힐 수 없으므로 전체 확인
+            if (q.length() < 2) {
+                for (Entry<V> entry : entries.values()) {
+                    if (entry.plate().contains(q)) {
+                        result.add(entry.value());
+                        if (result.size() >= limit) break;
+                    }
+                }
+                return result;
+            }
+
+            // 뒷자리 4자리 검색
+            Set<K> smallest = null;
+            if (isSuffixQuery(q)) {
+                smallest = suffixes.get(q);
+                if (smallest == null) {
+                    return result;
+                }
+            }
+
+            // 가장 짧은 posting 목록부터 교집합
+            Set<String> queryGrams = smallest == null ? bigrams(q) : Set.of();
+            for (String gram : queryGrams) {
+                Set<K> posting = grams.get(gram);
+                if (posting == null) {
+                    return result;
+                }
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+
+            for (K key : smallest) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null && entry.plate().contains(q)) {
+                    result.add(entry.value());
+                    if (result.size() >= limit) break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            grams.clear();
+            suffixes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(K key, String plate) {
+        for (String gram : bigrams(plate)) {
+            Set<K> posting = grams.get(gram);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    grams.remove(gram);
+                }
+            }
+        }
+        String suffix = digitSuffix(plate);
+        if (suffix != null) {
+            Set<K> posting = suffixes.get(suffix);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    suffixes.remove(suffix);
+                }
+            }
+        }
+    }
+
+    public static String normalize(String plateNum) {
+        if (plateNum == null) {
+            return "";
+        }
+        plateNum = Normalizer.normalize(plateNum, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(plateNum.length());
+        for (int i = 0; i < plateNum.length(); i++) {
+            char c = plateNum.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 번호판 끝의 숫자 4자리 (없으면 null)
+    private static String digitSuffix(String plate) {
+        if (plate.length() < 4) {
+            return null;
+        }
+        String suffix = plate.substring(plate.length() - 4);
+        return isSuffixQuery(suffix) ? suffix : null;
+    }
+
+    private static boolean isSuffixQuery(String q) {
+        if (q.length() != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            char c = q.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> bigrams(String plate) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= plate.length(); i++) {
+            result.add(plate.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    private record Entry<V>(String plate, V value) {
+    }
+}
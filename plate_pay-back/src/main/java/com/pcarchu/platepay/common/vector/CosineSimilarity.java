@@ -0,0 +1,48 @@
+package com.pcarchu.platepay.common.vector;
+
+/**
+ * float 임베딩 코사인 유사도
+ *
+ * dot, |a|², |b|²를 한 번의 순회로 계산하고, 4개의 독립 누산기로 펼쳐서
+ * 누산 의존성 사슬을 끊는다 (JIT가 곱셈/덧셈을 파이프라인에 겹쳐 실행할 수 있도록).
+ * 누산은 double로 해서 4096차원 VGG-Face 임베딩에서도 오차가 쌓이지 않게 한다.
+ */
+public final class CosineSimilarity {
+
+    private CosineSimilarity() {
+    }
+
+    public static double cosine(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("임베딩 차원 불일치: " + a.length + " != " + b.length);
+        }
+
+        double dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        double na0 = 0, na1 = 0, na2 = 0, na3 = 0;
+        double nb0 = 0, nb1 = 0, nb2 = 0, nb3 = 0;
+
+        int n = a.length;
+        int bound = n & ~3;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            double a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+            double b0 = b[i], b1 = b[i + 1], b2 = b[i + 2], b3 = b[i + 3];
+            dot0 += a0 * b0; dot1 += a1 * b1; dot2 += a2 * b2; dot3 += a3 * b3;
+            na0 += a0 * a0; na1 += a1 * a1; na2 += a2 * a2; na3 += a3 * a3;
+            nb0 += b0 * b0; nb1 += b1 * b1; nb2 += b2 * b2; nb3 += b3 * b3;
+        }
+        for (; i < n; i++) {
+            dot0 += (double) a[i] * b[i];
+            na0 += (double) a[i] * a[i];
+            nb0 += (double) b[i] * b[i];
+        }
+
+        double dot = (dot0 + dot1) + (dot2 + dot3);
+        double normA = (na0 + na1) + (na2 + na3);
+        double normB = (nb0 + nb1) + (nb2 + nb3);
+        if (normA == 0 || normB == 0) {
+            return 0;
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -2,21 +2,40 @@ package com.pcarchu.platepay.config.async;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
 @EnableAsync(proxyTargetClass = true)
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${threads.virtual.io-concurrency-limit:256}")
+    private int virtualIoConcurrencyLimit;
+
+    /**
+     * 외부 HTTP(OCR, 은행, Firebase) 호출 위주의 blocking 작업
+     * spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드를 쓰고, 동시 실행 수만 제한한다.
+     */
     @Bean(name = "ioExecutor")
     public Executor ioExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor ex = new SimpleAsyncTaskExecutor("io-v-");
+            ex.setVirtualThreads(true);
+            ex.setConcurrencyLimit(virtualIoConcurrencyLimit);
+            return ex;
+        }
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
         ex.setCorePoolSize(8);
         ex.setMaxPoolSize(32);
@@ -26,6 +45,84 @@ public class AsyncConfig implements AsyncConfigurer {
         return ex;
     }
 
+    /**
+     * 번호판 스캔 파이프라인 - OCR 단계 (외부 OCR 서버 호출)
+     */
+    @Bean(name = "ocrExecutor")
+    public Executor ocrExecutor() {
+        return boundedExecutor("ocr-", 4, 8, 200);
+    }
+
+    /**
+     * 번호판 스캔 파이프라인 - 차량 조회 단계 (DB 조회)
+     */
+    @Bean(name = "lookupExecutor")
+    public Executor lookupExecutor() {
+        return boundedExecutor("lookup-", 4, 8, 200);
+    }
+
+    /**
+     * 번호판 스캔 파이프라인 - 입/출차 확정 단계 (결제, 알림 포함)
+     */
+    @Bean(name = "gateExecutor")
+    public Executor gateExecutor() {
+        return boundedExecutor("gate-", 4, 16, 500);
+    }
+
+    /**
+     * 결제 outbox 발송 - 출금 병렬 실행 (대기열이 가득 차면 호출 스레드에서 실행)
+     */
+    @Bean(name = "settlementExecutor")
+    public Executor settlementExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(4);
+        ex.setMaxPoolSize(4);
+        ex.setQueueCapacity(200);
+        ex.setThreadNamePrefix("settle-");
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 도메인 이벤트 - FCM 알림 (토큰 조회 후 발송 큐 등록)
+     */
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor() {
+        return boundedExecutor("noti-", 2, 4, 1000);
+    }
+
+    /**
+     * 도메인 이벤트 - SSE 브로드캐스트 등 기타 비동기 구독자
+     */
+    @Bean(name = "eventExecutor")
+    public Executor eventExecutor() {
+        return boundedExecutor("event-", 2, 4, 1000);
+    }
+
+    /**
+     * 단계별 executor
+     * spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드를 쓰고, 스레드 + 대기열만큼(max + queue)만 동시에 받는다.
+     * 한도를 넘으면 플랫폼 풀의 대기열 초과와 같이 거절(TaskRejectedException)해 스캔 접수는 503으로 응답한다.
+     * 외부 서버로 나가는 동시 호출 수는 연동별 HTTP 커넥션 풀(http.client.*)이 제한한다.
+     */
+    private Executor boundedExecutor(String prefix, int core, int max, int queue) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor ex = new SimpleAsyncTaskExecutor(prefix + "v-");
+            ex.setVirtualThreads(true);
+            ex.setConcurrencyLimit(max + queue);
+            ex.setRejectTasksWhenLimitReached(true);
+            return ex;
+        }
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(core);
+        ex.setMaxPoolSize(max);
+        ex.setQueueCapacity(queue);
+        ex.setThreadNamePrefix(prefix);
+        ex.initialize();
+        return ex;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return ioExecutor();
@@ -0,0 +1,80 @@
+package com.pcarchu.platepay.config.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 pinning 진단
+ *
+ * synchronized 블록 / native 호출 안에서 blocking 되어 캐리어 스레드를 점유한 경우(jdk.VirtualThreadPinned)를
+ * JFR 스트림으로 받아 로그와 jvm.threads.virtual.pinned 카운터(최상단 애플리케이션 프레임 태그)로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "threads.virtual.pinning-diagnostics.enabled"}, havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.pcarchu.platepay";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${threads.virtual.pinning-diagnostics.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(EVENT, this::record);
+            stream.startAsync();
+            log.info("가상 스레드 pinning 진단 시작: threshold={}", threshold);
+        } catch (Exception e) {
+            log.warn("가상 스레드 pinning 진단을 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String frame = topFrame(event.getStackTrace());
+        meterRegistry.counter("jvm.threads.virtual.pinned", "frame", frame).increment();
+        log.warn("가상 스레드 pinning: {}ms at {}", event.getDuration().toMillis(), frame);
+    }
+
+    // 애플리케이션 코드 중 가장 안쪽 프레임 (없으면 최상단 프레임)
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame f : stackTrace.getFrames()) {
+            String type = f.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type + "." + f.getMethod().getName();
+            }
+        }
+        RecordedFrame f = stackTrace.getFrames().get(0);
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName();
+    }
+}
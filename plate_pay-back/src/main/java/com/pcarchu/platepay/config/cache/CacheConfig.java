@@ -2,14 +2,22 @@ package com.pcarchu.platepay.config.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.pcarchu.platepay.car.dto.CarRequestDto;
 import com.pcarchu.platepay.car.dto.CarResponseDto;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.plate.dto.PlateResponseDto;
+import com.pcarchu.platepay.search.infrastructure.GeoTileSearchCache;
+import com.pcarchu.platepay.security.dto.VerifiedPrincipal;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
@@ -26,6 +34,89 @@ public class CacheConfig {
                 .build();
     }
 
+    @Bean
+    public Cache<String, PlateResponseDto.ScanStatus> plateScanStatusCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(10, TimeUnit.MINUTES) // 게이트 카메라 상태 조회용
+                .build();
+    }
+
+    /**
+     * access token → 검증된 인증 정보
+     * 만료는 토큰 만료 시각과 max-ttl 중 빠른 쪽. 로그아웃/회원 변경 시 Redis pub/sub으로 모든 노드에서 제거된다.
+     */
+    @Bean
+    public Cache<String, VerifiedPrincipal> verifiedPrincipalCache(
+            @Value("${security.principal-cache.maximum-size:100000}") long maximumSize,
+            @Value("${security.principal-cache.max-ttl:5m}") Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedPrincipal value, long currentTime) {
+                        long untilTokenExpiry = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+                        return Math.max(0L, Math.min(untilTokenExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 주차 세션(inOutHistoryUid) → 결제 비밀번호 HMAC
+     * 세션 안 두 번째 결제부터 bcrypt 없이 검증한다. 출차 시 제거된다.
+     */
+    @Bean
+    public Cache<Long, byte[]> payPinVerifierCache(
+            @Value("${security.pay-pin.maximum-size:100000}") long maximumSize,
+            @Value("${security.pay-pin.cache-ttl:30m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 근접 검색 타일(격자 칸 + 타입 + 키워드) → 칸 중심 기준 후보
+     * 타일마다 후보 수가 다르므로 후보 수 합계(maximum-hits)로 크기를 제한한다.
+     */
+    @Bean
+    public Cache<GeoTileSearchCache.TileKey, GeoTileSearchCache.Tile<StoreResponseDto.SearchHit>> storeGeoTileCache(
+            @Value("${geo.search.tile-cache.maximum-hits:200000}") long maximumHits,
+            @Value("${geo.search.tile-cache.ttl:60s}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumHits)
+                .<GeoTileSearchCache.TileKey, GeoTileSearchCache.Tile<StoreResponseDto.SearchHit>>weigher((k, v) -> v.hits().size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<GeoTileSearchCache.TileKey, GeoTileSearchCache.Tile<ParkingLotResponseDto.SearchHit>> parkingLotGeoTileCache(
+            @Value("${geo.search.tile-cache.maximum-hits:200000}") long maximumHits,
+            @Value("${geo.search.tile-cache.ttl:60s}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumHits)
+                .<GeoTileSearchCache.TileKey, GeoTileSearchCache.Tile<ParkingLotResponseDto.SearchHit>>weigher((k, v) -> v.hits().size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
     @Getter
     @Builder
     public static class PendingCarRegistration {
@@ -4,6 +4,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.pcarchu.platepay.fcm.service.FcmSender;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -38,4 +39,9 @@ public class FcmConfig {
     public FirebaseMessaging firebaseMessaging(FirebaseApp app) {
         return FirebaseMessaging.getInstance(app);
     }
+
+    @Bean
+    public FcmSender fcmSender(FirebaseMessaging firebaseMessaging) {
+        return firebaseMessaging::sendEach;
+    }
 }
@@ -0,0 +1,147 @@
+package com.pcarchu.platepay.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동(OCR, 얼굴인식, SSAFY 금융망, CODEF, 카카오) 공용 HTTP 클라이언트
+ *
+ * 연동별로 커넥션 풀(keep-alive 재사용)과 connect/read 타임아웃을 분리하고,
+ * 풀 사용량(platepay.http.client.pool.*)과 호출 지연시간(platepay.http.client.requests)을
+ * integration 태그로 구분해 메트릭으로 노출한다.
+ * 지연시간은 HttpClient 실행 체인에서 측정한다. RestTemplate 인터셉터를 두면 요청 바디 전체를 byte[]로 버퍼링하므로
+ * 업로드 이미지(Resource)를 스트리밍으로 전달할 수 없다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+    private static final TimeValue IDLE_EVICT = TimeValue.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public RestTemplate ocrRestTemplate(RestTemplateBuilder builder,
+                                        @Value("${http.client.ocr.connect-timeout:2s}") Duration connectTimeout,
+                                        @Value("${http.client.ocr.read-timeout:15s}") Duration readTimeout,
+                                        @Value("${http.client.ocr.max-connections:16}") int maxConnections) {
+        return pooledRestTemplate(builder, "ocr", connectTimeout, readTimeout, maxConnections);
+    }
+
+    @Bean
+    public RestTemplate faceRestTemplate(RestTemplateBuilder builder,
+                                         @Value("${http.client.face.connect-timeout:2s}") Duration connectTimeout,
+                                         @Value("${http.client.face.read-timeout:15s}") Duration readTimeout,
+                                         @Value("${http.client.face.max-connections:16}") int maxConnections) {
+        return pooledRestTemplate(builder, "face", connectTimeout, readTimeout, maxConnections);
+    }
+
+    @Bean
+    public RestTemplate ssafyRestTemplate(RestTemplateBuilder builder,
+                                          @Value("${http.client.ssafy.connect-timeout:2s}") Duration connectTimeout,
+                                          @Value("${http.client.ssafy.read-timeout:5s}") Duration readTimeout,
+                                          @Value("${http.client.ssafy.max-connections:32}") int maxConnections) {
+        return pooledRestTemplate(builder, "ssafy", connectTimeout, readTimeout, maxConnections);
+    }
+
+    @Bean
+    public RestTemplate codefRestTemplate(RestTemplateBuilder builder,
+                                          @Value("${http.client.codef.connect-timeout:3s}") Duration connectTimeout,
+                                          @Value("${http.client.codef.read-timeout:30s}") Duration readTimeout,
+                                          @Value("${http.client.codef.max-connections:8}") int maxConnections) {
+        return pooledRestTemplate(builder, "codef", connectTimeout, readTimeout, maxConnections);
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(RestTemplateBuilder builder,
+                                          @Value("${http.client.kakao.connect-timeout:2s}") Duration connectTimeout,
+                                          @Value("${http.client.kakao.read-timeout:5s}") Duration readTimeout,
+                                          @Value("${http.client.kakao.max-connections:8}") int maxConnections) {
+        return pooledRestTemplate(builder, "kakao", connectTimeout, readTimeout, maxConnections);
+    }
+
+    private RestTemplate pooledRestTemplate(RestTemplateBuilder builder, String integration,
+                                            Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 연동별로 호스트가 하나이므로 전체 = 호스트당
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout)) // 풀 대기 시간
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_EVICT)
+                .addExecInterceptorFirst("latency", latencyHandler(integration))
+                .build();
+
+        registerPoolMetrics(integration, connectionManager);
+
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    private void registerPoolMetrics(String integration, PoolingHttpClientConnectionManager connectionManager) {
+        Gauge.builder("platepay.http.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("platepay.http.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("platepay.http.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("platepay.http.client.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                .tag("integration", integration)
+                .register(meterRegistry);
+    }
+
+    private ExecChainHandler latencyHandler(String integration) {
+        return (request, scope, chain) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "IO_ERROR";
+            try {
+                ClassicHttpResponse response = chain.proceed(request, scope);
+                outcome = String.valueOf(response.getCode());
+                return response;
+            } finally {
+                sample.stop(Timer.builder("platepay.http.client.requests")
+                        .tag("integration", integration)
+                        .tag("status", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        };
+    }
+}
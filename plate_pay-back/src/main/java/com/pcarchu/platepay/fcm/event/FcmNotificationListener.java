@@ -0,0 +1,59 @@
+package com.pcarchu.platepay.fcm.event;
+
+import com.pcarchu.platepay.common.event.OrderPlaced;
+import com.pcarchu.platepay.common.event.VehicleEntered;
+import com.pcarchu.platepay.common.event.VehicleExited;
+import com.pcarchu.platepay.fcm.service.FcmService;
+import com.pcarchu.platepay.token.domain.entity.RefreshToken;
+import com.pcarchu.platepay.token.domain.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 입차 / 출차 / 주문 알림
+ *
+ * 커밋 이후 notificationExecutor에서 FCM 토큰을 조회해 발송 큐에 넣는다.
+ * 토큰이 없는 회원(로그아웃 상태)은 알림만 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmNotificationListener {
+
+    private final FcmService fcmService;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleEntered(VehicleEntered event) {
+        send(event.memberEmail(), "입차 완료", event.parkingLotName() + "에 입차하셨습니다!");
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleExited(VehicleExited event) {
+        send(event.memberEmail(), "출차 완료",
+                event.parkingLotName() + "에서 출차하셨습니다. " + event.totalAmount() + "원이 결제됩니다.");
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlaced event) {
+        send(event.memberEmail(), "주문 완료", event.storeName() + "에서 " + event.cost() + "원을 주문하셨습니다.");
+    }
+
+    private void send(String email, String title, String body) {
+        String token = refreshTokenRepository.findByEmail(email)
+                .map(RefreshToken::getFcmToken)
+                .orElse(null);
+        if (token == null) {
+            log.debug("FCM 토큰 없음, 알림 생략: email={}, title={}", email, title);
+            return;
+        }
+        fcmService.sendMessageToToken(token, title, body);
+    }
+}
@@ -0,0 +1,192 @@
+package com.pcarchu.platepay.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 비동기 일괄 발송
+ *
+ * 알림은 트랜잭션 커밋 이후 제한된 크기의 메모리 큐에 들어가고, 전용 스레드가 모아서 sendEach로 보낸다.
+ *  - 일시 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED, 전송 실패)는 지수 백오프로 재시도
+ *  - 토큰 오류(UNREGISTERED, INVALID_ARGUMENT 등)는 버린다
+ *  - 큐가 가득 차면 새 알림을 버린다 (DB 트랜잭션과 게이트 응답을 막지 않는 것이 우선)
+ */
+@Slf4j
+@Component
+public class FcmDispatcher {
+
+    private final FcmSender fcmSender;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "fcm-retry");
+        t.setDaemon(true);
+        return t;
+    });
+    private Thread worker;
+    private volatile boolean running = true;
+
+    public FcmDispatcher(FcmSender fcmSender,
+                         @Value("${fcm.dispatcher.queue-capacity:10000}") int queueCapacity,
+                         @Value("${fcm.dispatcher.batch-size:500}") int batchSize,
+                         @Value("${fcm.dispatcher.max-attempts:5}") int maxAttempts,
+                         @Value("${fcm.dispatcher.base-backoff:1s}") Duration baseBackoff,
+                         @Value("${fcm.dispatcher.max-backoff:30s}") Duration maxBackoff) {
+        this.fcmSender = fcmSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.min(batchSize, 500); // sendEach 최대 500건
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "fcm-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * 알림 등록 (트랜잭션 안이면 커밋 이후, 롤백되면 보내지 않는다)
+     */
+    public void enqueue(String token, String title, String body) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        Pending pending = new Pending(token, title, body, 0);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(pending);
+            }
+        });
+    }
+
+    private void offer(Pending pending) {
+        if (!queue.offer(pending)) {
+            log.warn("FCM 큐 가득 참, 알림 버림: title={}", pending.title());
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("FCM 발송 처리 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            messages.add(Message.builder()
+                    .setToken(p.token())
+                    .setNotification(Notification.builder()
+                            .setTitle(p.title())
+                            .setBody(p.body())
+                            .build())
+                    .build());
+        }
+
+        BatchResponse response;
+        try {
+            response = fcmSender.sendEach(messages);
+        } catch (Exception e) {
+            log.warn("FCM 일괄 발송 실패 ({}건 재시도): {}", batch.size(), e.getMessage());
+            batch.forEach(this::retry);
+            return;
+        }
+
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse r = responses.get(i);
+            if (r.isSuccessful()) {
+                continue;
+            }
+            MessagingErrorCode code = r.getException() == null ? null : r.getException().getMessagingErrorCode();
+            if (isRetryable(code)) {
+                retry(batch.get(i));
+            } else {
+                log.warn("FCM 발송 실패 (재시도 안 함): code={}, title={}", code, batch.get(i).title());
+            }
+        }
+        log.debug("FCM 일괄 발송: 성공 {}건 / 실패 {}건", response.getSuccessCount(), response.getFailureCount());
+    }
+
+    private static boolean isRetryable(MessagingErrorCode code) {
+        return code == null
+                || code == MessagingErrorCode.UNAVAILABLE
+                || code == MessagingErrorCode.INTERNAL
+                || code == MessagingErrorCode.QUOTA_EXCEEDED;
+    }
+
+    private void retry(Pending pending) {
+        int attempt = pending.attempt() + 1;
+        if (attempt >= maxAttempts) {
+            log.warn("FCM 재시도 한도 초과, 알림 버림: title={}", pending.title());
+            return;
+        }
+        long delay = Math.min(baseBackoff.toMillis() << Math.min(attempt - 1, 20), maxBackoff.toMillis());
+        try {
+            retryScheduler.schedule(() -> offer(new Pending(pending.token(), pending.title(), pending.body(), attempt)),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("FCM 재시도 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Pending(String token, String title, String body, int attempt) {
+    }
+}
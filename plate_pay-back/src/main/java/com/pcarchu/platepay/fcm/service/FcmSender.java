@@ -0,0 +1,15 @@
+package com.pcarchu.platepay.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 일괄 발송 (기본 구현은 FirebaseMessaging.sendEach, 테스트에서는 stub으로 교체)
+ */
+@FunctionalInterface
+public interface FcmSender {
+    BatchResponse sendEach(List<Message> messages) throws FirebaseMessagingException;
+}
@@ -13,4 +13,6 @@ public interface InOutHistoryRepository {
     Optional<InOutHistory> save(InOutHistory inOutHistory);
     Optional<InOutHistory> findFirstByCarAndParkingLotAndOutTimeIsNull(Car car, ParkingLot parkingLot);
     boolean existsByAccountAndOutTimeIsNull(Account account);
+    Optional<InOutHistory> findById(Long inOutHistoryUid);
+    List<InOutHistory> findAllActiveWithCar();
 }
@@ -1,5 +1,41 @@
 package com.pcarchu.platepay.inOutHistory.dto;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
 public class InOutHistoryResponseDto {
 
-}
\ No newline at end of file
+    /**
+     * 입차 중인 세션 스냅샷 (ActiveSessionIndex 보관용, 키오스크 응답에 필요한 차량 정보 포함)
+     */
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActiveSession {
+        private Long inOutHistoryUid;
+        private Long parkingLotUid;
+        private Long carUid;
+        private String plateNum;
+        private String nickName;
+        private String carModel;
+        private String imgUrl;
+    }
+
+    /**
+     * 인스턴스 간 ActiveSessionIndex 복제 메시지 (Redis pub/sub)
+     */
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActiveSessionEvent {
+        private String origin;
+        private Long seq; // origin별 발행 순번 (유실 감지용)
+        private String type; // ENTER, EXIT
+        private Long carUid;
+        private ActiveSession session;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pcarchu.platepay.inOutHistory.event;
+
+import com.pcarchu.platepay.common.event.VehicleEntered;
+import com.pcarchu.platepay.common.event.VehicleExited;
+import com.pcarchu.platepay.util.SseUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * 입/출차 확정을 SSE 구독자에게 전달 (eventExecutor)
+ */
+@Component
+@RequiredArgsConstructor
+public class GateSseListener {
+    public static final String VEHICLE_ENTERED = "VEHICLE_ENTERED";
+    public static final String VEHICLE_EXITED = "VEHICLE_EXITED";
+
+    private final SseUtil sseUtil;
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleEntered(VehicleEntered event) {
+        sseUtil.broadcast(VEHICLE_ENTERED, event.session());
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleExited(VehicleExited event) {
+        sseUtil.broadcast(VEHICLE_EXITED, Map.of(
+                "inOutHistoryUid", event.inOutHistoryUid(),
+                "parkingLotUid", event.parkingLotUid(),
+                "carUid", event.carUid(),
+                "plateNum", event.plateNum()));
+    }
+}
@@ -0,0 +1,236 @@
+package com.pcarchu.platepay.inOutHistory.infrastructure;
+
+import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.common.event.VehicleEntered;
+import com.pcarchu.platepay.common.event.VehicleExited;
+import com.pcarchu.platepay.common.index.PlateNgramIndex;
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.inOutHistory.domain.repository.InOutHistoryRepository;
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주차장별 입차 중 세션 인덱스
+ *
+ * 출차하지 않은 InOutHistory를 주차장 → 번호판 bigram 인덱스로 메모리에 유지한다.
+ *  - 기동 시와 resync-interval마다 DB에서 재구성 (재구성 전/실패 시 isReady() = false → 호출자는 DB 조회로 대체)
+ *    조회는 잠금 밖에서 하므로, 조회를 시작한 뒤 들어온 입/출차는 따로 모아 두었다가 새 인덱스에 다시 적용한 뒤 교체한다.
+ *  - 입/출차 트랜잭션 커밋 이후 VehicleEntered / VehicleExited 이벤트로 반영
+ *  - active-session.replication.enabled=true 이면 Redis pub/sub으로 다른 인스턴스에 복제
+ * 준비된 인덱스는 그대로 답으로 쓴다. 복제 유실이 감지되면(markStale) 다음 재구성이 끝날 때까지만 isStale() = true로 DB 조회로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSessionIndex {
+    public static final String TYPE_ENTER = "ENTER";
+    public static final String TYPE_EXIT = "EXIT";
+
+    private static final int SEARCH_LIMIT = 50;
+
+    private final InOutHistoryRepository inOutHistoryRepository;
+    private final ObjectProvider<ActiveSessionReplicator> replicator;
+
+    // 교체는 잠금 안에서만, 조회는 잠금 없이 (재구성 시 새 맵으로 통째로 바꾼다)
+    private volatile Map<Long, InOutHistoryResponseDto.ActiveSession> byCar = new ConcurrentHashMap<>();
+    private volatile Map<Long, PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession>> byLot = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // 유실 감지 횟수와, 마지막으로 성공한 재구성이 시작될 때의 값 (다르면 재구성 이후 반영되지 않은 유실이 있다)
+    private final AtomicLong gaps = new AtomicLong();
+    private volatile long gapsAtLastRebuild = 0;
+
+    // 재구성 중 들어온 입/출차 (재구성 중이 아니면 null)
+    private List<InOutHistoryResponseDto.ActiveSessionEvent> journal;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            if (journal != null) {
+                log.info("입차 세션 인덱스 재구성 진행 중, 생략");
+                return;
+            }
+            journal = new ArrayList<>();
+        }
+
+        long gapsAtStart = gaps.get();
+        try {
+            List<InOutHistoryResponseDto.ActiveSession> sessions = inOutHistoryRepository.findAllActiveWithCar().stream()
+                    .map(ActiveSessionIndex::toSession)
+                    .toList();
+
+            int replayed;
+            synchronized (this) {
+                Map<Long, InOutHistoryResponseDto.ActiveSession> newByCar = new ConcurrentHashMap<>();
+                Map<Long, PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession>> newByLot = new ConcurrentHashMap<>();
+                sessions.forEach(session -> putSession(newByCar, newByLot, session));
+
+                // 조회 이후(또는 조회와 겹쳐) 커밋된 입/출차를 순서대로 다시 적용
+                replayed = journal.size();
+                for (InOutHistoryResponseDto.ActiveSessionEvent event : journal) {
+                    if (TYPE_ENTER.equals(event.getType())) {
+                        putSession(newByCar, newByLot, event.getSession());
+                    } else {
+                        removeCar(newByCar, newByLot, event.getCarUid());
+                    }
+                }
+
+                byCar = newByCar;
+                byLot = newByLot;
+                journal = null;
+            }
+            gapsAtLastRebuild = gapsAtStart;
+            ready = true;
+            log.info("입차 세션 인덱스 재구성 완료: {}건, 주차장 {}곳, 재적용 {}건", byCar.size(), byLot.size(), replayed);
+        } catch (Exception e) {
+            synchronized (this) {
+                journal = null;
+            }
+            log.error("입차 세션 인덱스 재구성 실패 (DB 조회로 대체)", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 마지막 재구성 이후 복제 유실이 감지되어 인덱스를 믿을 수 없는 상태
+     */
+    public boolean isStale() {
+        return gaps.get() != gapsAtLastRebuild;
+    }
+
+    /**
+     * 복제 유실 감지 (다음 재구성이 끝날 때까지 isStale() = true)
+     */
+    public void markStale() {
+        gaps.incrementAndGet();
+    }
+
+    public Optional<InOutHistoryResponseDto.ActiveSession> findByCarUid(Long carUid) {
+        return Optional.ofNullable(byCar.get(carUid));
+    }
+
+    /**
+     * 주차장 안에서 번호판에 plateNum이 포함된 입차 세션 조회 (예: "1837" → "227루1837")
+     */
+    public List<InOutHistoryResponseDto.ActiveSession> search(Long parkingLotUid, String plateNum) {
+        PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession> lot = byLot.get(parkingLotUid);
+        if (lot == null) {
+            return List.of();
+        }
+        return lot.search(plateNum, SEARCH_LIMIT);
+    }
+
+    /**
+     * 입차 반영 (커밋 이후, 발행 스레드에서 바로 반영해 직후 조회에 보이도록 한다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleEntered(VehicleEntered event) {
+        InOutHistoryResponseDto.ActiveSession session = event.session();
+        applyEnter(session);
+        publish(InOutHistoryResponseDto.ActiveSessionEvent.builder()
+                .type(TYPE_ENTER)
+                .carUid(session.getCarUid())
+                .session(session)
+                .build());
+    }
+
+    /**
+     * 출차 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleExited(VehicleExited event) {
+        applyExit(event.carUid());
+        publish(InOutHistoryResponseDto.ActiveSessionEvent.builder()
+                .type(TYPE_EXIT)
+                .carUid(event.carUid())
+                .build());
+    }
+
+    public synchronized void applyEnter(InOutHistoryResponseDto.ActiveSession session) {
+        putSession(byCar, byLot, session);
+        if (journal != null) {
+            journal.add(InOutHistoryResponseDto.ActiveSessionEvent.builder()
+                    .type(TYPE_ENTER)
+                    .carUid(session.getCarUid())
+                    .session(session)
+                    .build());
+        }
+    }
+
+    public synchronized void applyExit(Long carUid) {
+        removeCar(byCar, byLot, carUid);
+        if (journal != null) {
+            journal.add(InOutHistoryResponseDto.ActiveSessionEvent.builder()
+                    .type(TYPE_EXIT)
+                    .carUid(carUid)
+                    .build());
+        }
+    }
+
+    private static void putSession(Map<Long, InOutHistoryResponseDto.ActiveSession> byCar,
+                                   Map<Long, PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession>> byLot,
+                                   InOutHistoryResponseDto.ActiveSession session) {
+        InOutHistoryResponseDto.ActiveSession prev = byCar.put(session.getCarUid(), session);
+        if (prev != null && !prev.getParkingLotUid().equals(session.getParkingLotUid())) {
+            removeFromLot(byLot, prev);
+        }
+        byLot.computeIfAbsent(session.getParkingLotUid(), id -> new PlateNgramIndex<>())
+                .put(session.getCarUid(), session.getPlateNum(), session);
+    }
+
+    private static void removeCar(Map<Long, InOutHistoryResponseDto.ActiveSession> byCar,
+                                  Map<Long, PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession>> byLot,
+                                  Long carUid) {
+        InOutHistoryResponseDto.ActiveSession prev = byCar.remove(carUid);
+        if (prev != null) {
+            removeFromLot(byLot, prev);
+        }
+    }
+
+    private static void removeFromLot(Map<Long, PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession>> byLot,
+                                      InOutHistoryResponseDto.ActiveSession session) {
+        PlateNgramIndex<Long, InOutHistoryResponseDto.ActiveSession> lot = byLot.get(session.getParkingLotUid());
+        if (lot != null) {
+            lot.remove(session.getCarUid());
+        }
+    }
+
+    private void publish(InOutHistoryResponseDto.ActiveSessionEvent event) {
+        ActiveSessionReplicator r = replicator.getIfAvailable();
+        if (r != null) {
+            r.publish(event);
+        }
+    }
+
+    public static InOutHistoryResponseDto.ActiveSession toSession(InOutHistory inOutHistory) {
+        Car car = inOutHistory.getCar();
+        return InOutHistoryResponseDto.ActiveSession.builder()
+                .inOutHistoryUid(inOutHistory.getInOutHistoryUid())
+                .parkingLotUid(inOutHistory.getParkingLot().getParkingLotUid())
+                .carUid(car.getCarUid())
+                .plateNum(car.getPlateNum())
+                .nickName(car.getNickName())
+                .carModel(car.getCarModel())
+                .imgUrl(car.getPlatePayFile() == null ? null : car.getPlatePayFile().getPath())
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.pcarchu.platepay.inOutHistory.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ActiveSessionIndex 인스턴스 간 복제 (Redis pub/sub)
+ *
+ * 자신이 보낸 메시지는 origin으로 걸러낸다.
+ * 메시지마다 origin별 순번(seq)을 붙여, 순번이 건너뛰거나 메시지를 읽지 못하면 유실로 보고
+ * 인덱스를 stale로 표시한 뒤 ioExecutor에서 DB 재구성을 바로 시작한다. (재구성이 끝날 때까지 조회는 DB로 대체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "active-session.replication.enabled", havingValue = "true")
+public class ActiveSessionReplicator implements MessageListener {
+    private static final String CHANNEL = "platepay:active-session";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ActiveSessionIndex activeSessionIndex;
+    @Qualifier("ioExecutor")
+    private final Executor ioExecutor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> lastSeqByOrigin = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void publish(InOutHistoryResponseDto.ActiveSessionEvent event) {
+        try {
+            InOutHistoryResponseDto.ActiveSessionEvent stamped = InOutHistoryResponseDto.ActiveSessionEvent.builder()
+                    .origin(instanceId)
+                    .seq(sequence.incrementAndGet()) // 발행이 실패해도 순번은 소비해 수신 측이 유실을 알 수 있게 한다
+                    .type(event.getType())
+                    .carUid(event.getCarUid())
+                    .session(event.getSession())
+                    .build();
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(stamped));
+        } catch (Exception e) {
+            log.warn("입차 세션 복제 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InOutHistoryResponseDto.ActiveSessionEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), InOutHistoryResponseDto.ActiveSessionEvent.class);
+            if (instanceId.equals(event.getOrigin())) {
+                return;
+            }
+            if (event.getSeq() != null) {
+                Long prev = lastSeqByOrigin.put(event.getOrigin(), event.getSeq());
+                if (prev != null && event.getSeq() != prev + 1) {
+                    onGap("순번 " + prev + " → " + event.getSeq());
+                }
+            }
+            if (ActiveSessionIndex.TYPE_ENTER.equals(event.getType()) && event.getSession() != null) {
+                activeSessionIndex.applyEnter(event.getSession());
+            } else if (ActiveSessionIndex.TYPE_EXIT.equals(event.getType())) {
+                activeSessionIndex.applyExit(event.getCarUid());
+            }
+        } catch (Exception e) {
+            log.warn("입차 세션 복제 수신 실패: {}", e.getMessage());
+            onGap("수신 실패");
+        }
+    }
+
+    private void onGap(String reason) {
+        log.warn("입차 세션 복제 유실 감지 ({}), DB에서 재구성", reason);
+        activeSessionIndex.markStale();
+        try {
+            ioExecutor.execute(activeSessionIndex::rebuild);
+        } catch (Exception e) {
+            log.warn("입차 세션 인덱스 재구성 요청 실패 (주기 재구성으로 복구): {}", e.getMessage());
+        }
+    }
+}
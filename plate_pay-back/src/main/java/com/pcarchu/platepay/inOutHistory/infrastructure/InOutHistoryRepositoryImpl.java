@@ -39,4 +39,14 @@ public class InOutHistoryRepositoryImpl implements InOutHistoryRepository {
     public boolean existsByAccountAndOutTimeIsNull(Account account) {
         return inOutHistoryRepositoryJpa.existsByAccountAndOutTimeIsNull(account);
     }
+
+    @Override
+    public Optional<InOutHistory> findById(Long inOutHistoryUid) {
+        return inOutHistoryRepositoryJpa.findById(inOutHistoryUid);
+    }
+
+    @Override
+    public List<InOutHistory> findAllActiveWithCar() {
+        return inOutHistoryRepositoryJpa.findAllActiveWithCar();
+    }
 }
@@ -5,11 +5,19 @@ import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface InOutHistoryRepositoryJpa extends JpaRepository<InOutHistory, Long> {
     Optional<InOutHistory> findByCarAndOutTimeIsNull(Car car);
     Optional<InOutHistory> findFirstByCarAndParkingLotAndOutTimeIsNull(Car car, ParkingLot parkingLot);
     boolean existsByAccountAndOutTimeIsNull(Account account);
+
+    @Query("SELECT i FROM InOutHistory i " +
+            "JOIN FETCH i.car c " +
+            "LEFT JOIN FETCH c.platePayFile " +
+            "WHERE i.outTime IS NULL")
+    List<InOutHistory> findAllActiveWithCar();
 }
@@ -38,6 +38,7 @@ public class InOutHistoryRepositoryQueryDsl {
 			.select(car) // ✅ Car만 select
 			.from(inOutHistory)
 			.join(inOutHistory.car, car).fetchJoin()
+			.leftJoin(car.platePayFile).fetchJoin()
 			.where(
 				inOutHistory.parkingLot.parkingLotUid.eq(parkingLotUid),
 				inOutHistory.outTime.isNull(),
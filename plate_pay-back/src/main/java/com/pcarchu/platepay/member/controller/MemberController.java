@@ -8,6 +8,7 @@ import com.pcarchu.platepay.member.dto.MemberResponseDto;
 import com.pcarchu.platepay.member.service.MemberService;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryResponseDto;
 import com.pcarchu.platepay.orderHistory.service.OrderHistoryService;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -100,7 +101,7 @@ public class MemberController {
 
     @Operation(summary = "회원 탈퇴", description = "회원 탈퇴를 진행합니다.")
     @DeleteMapping
-    public ResponseEntity<?> withdraw(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<?> withdraw(@AuthenticationPrincipal LoginMember member) {
         try {
             memberService.withdraw(member.getMemberUid());
 
@@ -113,11 +114,15 @@ public class MemberController {
 
     @Operation(summary = "회원 활성화 조회", description = "회원 활성화 여부를 조회합니다.")
     @GetMapping("/activation")
-    public ResponseEntity<?> getIsActive(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<?> getIsActive(@AuthenticationPrincipal LoginMember member) {
         try {
 
+            Member current = memberService.getMemberById(member.getMemberUid()).orElseThrow(
+                    () -> new RuntimeException("해당 유저가 없습니다.")
+            );
+
             return responseDto.success(MemberResponseDto.IsActiveInfo.builder()
-                            .isActive(member.getIsActive())
+                            .isActive(current.getIsActive())
                             .build());
         } catch (Exception e) {
             log.error("회원 활성화 조회 중 예외 발생", e);
@@ -127,9 +132,11 @@ public class MemberController {
 
     @Operation(summary = "회원 활성화 토글", description = "회원 활성화를 토글합니다.")
     @PatchMapping("/activation")
-    public ResponseEntity<?> toggleIsActive(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<?> toggleIsActive(@AuthenticationPrincipal LoginMember member) {
         try {
-            Boolean isActive = member.getIsActive();
+            Boolean isActive = memberService.getMemberById(member.getMemberUid())
+                    .map(Member::getIsActive)
+                    .orElseThrow(() -> new RuntimeException("해당 유저가 없습니다."));
 
             if (isActive) {
                 // 활성화에서 비활성화로 변경되는 경우
@@ -172,7 +179,7 @@ public class MemberController {
 
     @Operation(summary = "비밀번호 입력 검증", description = "얼굴 등록 전 비밀번호를 입력했을 때 맞는지 검증합니다.")
     @PostMapping("/pwd-validation")
-    public ResponseEntity<?> validatePwd(@AuthenticationPrincipal Member member, @RequestBody MemberRequestDto.ValidatePwd validatePwd) {
+    public ResponseEntity<?> validatePwd(@AuthenticationPrincipal LoginMember member, @RequestBody MemberRequestDto.ValidatePwd validatePwd) {
         try {
             Boolean res = memberService.validatePwd(member, validatePwd);
 
@@ -187,7 +194,7 @@ public class MemberController {
 
     @Operation(summary = "얼굴 인식 등록", description = "결제할 때 사용할 얼굴 인식을 등록합니다.")
     @PostMapping(value = "/face-upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> uploadFace(@AuthenticationPrincipal Member member, @RequestPart("file") MultipartFile faceimg) {
+    public ResponseEntity<?> uploadFace(@AuthenticationPrincipal LoginMember member, @RequestPart("file") MultipartFile faceimg) {
         try {
             log.info("[uploadFace] faceimg = {}", faceimg);
             Boolean res = memberService.uploadFace(member, faceimg);
@@ -0,0 +1,62 @@
+package com.pcarchu.platepay.member.domain.entity;
+
+import com.pcarchu.platepay.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 회원 얼굴 임베딩 (float32 little-endian)
+ *
+ * Member 행과 분리해 결제 얼굴 인증에서만 조회한다.
+ */
+@Getter
+@Entity
+@Table(name = "face_template")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "faceTemplateUid", callSuper = false)
+public class FaceTemplate extends BaseTimeEntity {
+    @Id
+    @Column(name = "face_template_uid")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long faceTemplateUid;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_uid", nullable = false, unique = true)
+    private Member member;
+
+    @Comment("임베딩 모델")
+    @Column(name = "model", length = 50, nullable = false)
+    private String model;
+
+    @Comment("임베딩 차원")
+    @Column(name = "dimension", nullable = false)
+    private Integer dimension;
+
+    @Comment("임베딩 벡터 (float32 little-endian)")
+    @Column(name = "embedding", nullable = false)
+    private byte[] embedding;
+
+    public float[] getVector() {
+        float[] vector = new float[dimension];
+        ByteBuffer.wrap(embedding).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    public void changeVector(String model, float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        this.model = model;
+        this.dimension = vector.length;
+        this.embedding = buffer.array();
+    }
+
+    @Builder
+    public FaceTemplate(Member member, String model, float[] vector) {
+        this.member = member;
+        changeVector(model, vector);
+    }
+}
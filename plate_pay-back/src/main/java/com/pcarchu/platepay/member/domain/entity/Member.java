@@ -62,13 +62,15 @@ public class Member extends BaseTimeEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     private List<String> roles = new ArrayList<>();
 
-    @OneToMany(mappedBy = "member", fetch=FetchType.EAGER)
+    // 차량/계좌는 필요한 곳에서 명시적으로 조회한다. (인증 필터에서 매 요청마다 끌려오지 않도록 LAZY)
+    @OneToMany(mappedBy = "member", fetch=FetchType.LAZY)
     private List<Car> cars = new ArrayList<>();
 
-    @OneToMany(mappedBy = "member", fetch=FetchType.EAGER)
+    @OneToMany(mappedBy = "member", fetch=FetchType.LAZY)
     private List<Account> accounts = new ArrayList<>();
 
-    @Comment("사용자 얼굴 인식 용 base64")
+    // 얼굴 임베딩은 face_template 테이블로 옮겨졌다. 이전 데이터는 첫 인증/등록 시 이관 후 비운다.
+    @Comment("사용자 얼굴 인식 용 base64 (이관 전 데이터)")
     @Column(name = "face_img", columnDefinition = "TEXT")
     private String faceImg;
 
@@ -0,0 +1,10 @@
+package com.pcarchu.platepay.member.domain.repository;
+
+import com.pcarchu.platepay.member.domain.entity.FaceTemplate;
+
+import java.util.Optional;
+
+public interface FaceTemplateRepository {
+    Optional<FaceTemplate> save(FaceTemplate faceTemplate);
+    Optional<FaceTemplate> findByMemberUid(Long memberUid);
+}
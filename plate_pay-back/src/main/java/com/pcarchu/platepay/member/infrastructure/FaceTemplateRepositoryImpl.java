@@ -0,0 +1,25 @@
+package com.pcarchu.platepay.member.infrastructure;
+
+import com.pcarchu.platepay.member.domain.entity.FaceTemplate;
+import com.pcarchu.platepay.member.domain.repository.FaceTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class FaceTemplateRepositoryImpl implements FaceTemplateRepository {
+
+    private final FaceTemplateRepositoryJpa faceTemplateRepositoryJpa;
+
+    @Override
+    public Optional<FaceTemplate> save(FaceTemplate faceTemplate) {
+        return Optional.ofNullable(faceTemplateRepositoryJpa.save(faceTemplate));
+    }
+
+    @Override
+    public Optional<FaceTemplate> findByMemberUid(Long memberUid) {
+        return faceTemplateRepositoryJpa.findByMember_MemberUid(memberUid);
+    }
+}
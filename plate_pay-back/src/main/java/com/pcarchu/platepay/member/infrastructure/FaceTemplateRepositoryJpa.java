@@ -0,0 +1,10 @@
+package com.pcarchu.platepay.member.infrastructure;
+
+import com.pcarchu.platepay.member.domain.entity.FaceTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface FaceTemplateRepositoryJpa extends JpaRepository<FaceTemplate, Long> {
+    Optional<FaceTemplate> findByMember_MemberUid(Long memberUid);
+}
@@ -1,11 +1,15 @@
 package com.pcarchu.platepay.member.infrastructure;
 
 import com.pcarchu.platepay.member.domain.entity.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
 public interface MemberRepositoryJpa extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
+
+    // 인증 필터용 - 권한(roles)만 함께 조회
+    @EntityGraph(attributePaths = "roles")
     Optional<Member> findByEmailAndLoginType(String email, String loginType);
 }
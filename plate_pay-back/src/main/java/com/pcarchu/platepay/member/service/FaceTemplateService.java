@@ -0,0 +1,9 @@
+package com.pcarchu.platepay.member.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface FaceTemplateService {
+    void register(Long memberUid, MultipartFile faceImg);
+
+    boolean matches(Long memberUid, MultipartFile probe);
+}
@@ -0,0 +1,122 @@
+package com.pcarchu.platepay.member.service;
+
+import com.pcarchu.platepay.common.vector.CosineSimilarity;
+import com.pcarchu.platepay.member.domain.entity.FaceTemplate;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.member.domain.repository.FaceTemplateRepository;
+import com.pcarchu.platepay.member.domain.repository.MemberRepository;
+import com.pcarchu.platepay.util.FaceUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 얼굴 템플릿 등록 / 비교
+ *
+ * 임베딩은 face_template 테이블에 float32로 저장하고, 결제 인증 시 탐색 이미지만 AI 서버로 보내 임베딩을 받은 뒤
+ * 코사인 유사도를 Java에서 계산한다. (기존에는 저장된 base64 임베딩까지 매번 AI 서버로 전송)
+ */
+@Slf4j
+@Service
+public class FaceTemplateServiceImpl implements FaceTemplateService {
+    private static final String MODEL = "VGG-Face";
+
+    private final FaceTemplateRepository faceTemplateRepository;
+    private final MemberRepository memberRepository;
+    private final FaceUtil faceUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final double threshold;
+
+    public FaceTemplateServiceImpl(FaceTemplateRepository faceTemplateRepository,
+                                   MemberRepository memberRepository,
+                                   FaceUtil faceUtil,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${face.match.threshold:0.6}") double threshold) {
+        this.faceTemplateRepository = faceTemplateRepository;
+        this.memberRepository = memberRepository;
+        this.faceUtil = faceUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.threshold = threshold;
+    }
+
+    /**
+     * 임베딩 추출(AI 서버 호출)은 트랜잭션 밖에서 하고, 저장은 이 트랜잭션에서 다시 조회한 회원에 한다.
+     * (인증 정보나 다른 트랜잭션에서 넘어온 준영속 Member를 고쳐 저장하면 그 사이의 변경을 덮어쓴다)
+     */
+    @Override
+    public void register(Long memberUid, MultipartFile faceImg) {
+        float[] vector = faceUtil.extractEmbedding(faceImg);
+        if (vector == null || vector.length == 0) {
+            throw new IllegalStateException("얼굴 임베딩 추출 실패");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findByMemberUid(memberUid).orElseThrow(
+                    () -> new IllegalArgumentException("해당 유저가 없습니다.")
+            );
+            save(member, vector);
+            clearLegacy(member);
+        });
+    }
+
+    /**
+     * 저장된 임베딩 조회(필요하면 이관)만 짧은 트랜잭션에서 하고, 탐색 이미지 임베딩 추출(AI 서버 호출)과 비교는 트랜잭션 밖에서 한다.
+     */
+    @Override
+    public boolean matches(Long memberUid, MultipartFile probe) {
+        float[] stored = transactionTemplate.execute(status -> faceTemplateRepository.findByMemberUid(memberUid)
+                .map(FaceTemplate::getVector)
+                .orElseGet(() -> memberRepository.findByMemberUid(memberUid)
+                        .map(this::migrateLegacy)
+                        .orElse(null)));
+        if (stored == null) {
+            throw new IllegalArgumentException("해당 차량 소유자의 얼굴 데이터가 존재하지 않습니다.");
+        }
+
+        float[] candidate = faceUtil.extractEmbedding(probe);
+        if (candidate == null || candidate.length != stored.length) {
+            log.info("얼굴 임베딩 추출 실패 또는 차원 불일치: memberId={}", memberUid);
+            return false;
+        }
+
+        double similarity = CosineSimilarity.cosine(stored, candidate);
+        log.info("얼굴 비교: memberId={}, similarity={}", memberUid, similarity);
+        return similarity >= threshold;
+    }
+
+    // Member.faceImg(base64 float64 임베딩)에만 있는 경우 face_template으로 옮긴다. (트랜잭션 안에서 조회된 member만 넘어온다)
+    private float[] migrateLegacy(Member member) {
+        float[] vector = FaceUtil.decodeEmbedding(member.getFaceImg());
+        if (vector == null) {
+            return null;
+        }
+        save(member, vector);
+        clearLegacy(member);
+        log.info("얼굴 임베딩 이관: memberId={}, dimension={}", member.getMemberUid(), vector.length);
+        return vector;
+    }
+
+    private void save(Member member, float[] vector) {
+        FaceTemplate template = faceTemplateRepository.findByMemberUid(member.getMemberUid())
+                .orElse(null);
+        if (template == null) {
+            faceTemplateRepository.save(FaceTemplate.builder()
+                    .member(member)
+                    .model(MODEL)
+                    .vector(vector)
+                    .build());
+        } else {
+            template.changeVector(MODEL, vector);
+        }
+    }
+
+    // 영속 상태의 member만 받으므로 변경 감지로 반영된다
+    private void clearLegacy(Member member) {
+        if (member.getFaceImg() != null) {
+            member.uploadFaceImg(null);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.pcarchu.platepay.member.service;
 
 import com.pcarchu.platepay.member.domain.entity.Member;
 import com.pcarchu.platepay.member.dto.MemberRequestDto;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
@@ -11,9 +12,9 @@ public interface MemberService {
     Optional<Member> getByEmail(String email);
     Optional<Member> updateById(Long memberId, MemberRequestDto.UpdateMember updateMember);
     void withdraw(Long memberId);
-    Optional<Member> toggleIsActive(Member member);
+    Optional<Member> toggleIsActive(LoginMember loginMember);
     Boolean validatePassword(MemberRequestDto.ValidatePayPassword validatePayPassword);
-    Boolean validatePwd(Member member, MemberRequestDto.ValidatePwd validatePwd);
-    Boolean uploadFace(Member member, MultipartFile faceimg);
+    Boolean validatePwd(LoginMember loginMember, MemberRequestDto.ValidatePwd validatePwd);
+    Boolean uploadFace(LoginMember loginMember, MultipartFile faceimg);
     Boolean validateFace(MemberRequestDto.ValidateFace validateFace, MultipartFile compface);
 }
@@ -2,11 +2,15 @@ package com.pcarchu.platepay.member.service;
 
 import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.car.domain.repository.CarRepository;
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
+import com.pcarchu.platepay.inOutHistory.infrastructure.ActiveSessionIndex;
 import com.pcarchu.platepay.member.domain.entity.Member;
 import com.pcarchu.platepay.member.domain.repository.MemberRepository;
 import com.pcarchu.platepay.member.dto.MemberRequestDto;
+import com.pcarchu.platepay.security.cache.VerifiedPrincipalCache;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import com.pcarchu.platepay.security.pin.PayPinVerifier;
 import com.pcarchu.platepay.store.domain.repository.StoreRepository;
-import com.pcarchu.platepay.util.FaceUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +28,10 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final CarRepository carRepository;
     private final StoreRepository storeRepository;
-    private final FaceUtil faceUtil;
+    private final FaceTemplateService faceTemplateService;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final PayPinVerifier payPinVerifier;
 
     private final PasswordEncoder passwordEncoder;
 
@@ -61,6 +68,7 @@ public class MemberServiceImpl implements MemberService {
                     }
 
                     memberRepository.save(member);
+                    verifiedPrincipalCache.evictMember(memberId);
                     return member;
                 });
     }
@@ -72,11 +80,13 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
 
         memberRepository.delete(member);
+        verifiedPrincipalCache.evictMember(memberId);
     }
 
     @Override
     @Transactional
-    public Optional<Member> toggleIsActive(Member member) {
+    public Optional<Member> toggleIsActive(LoginMember loginMember) {
+        Member member = getMember(loginMember);
         member.changeIsActive(!member.getIsActive());
         return memberRepository.save(member);
     }
@@ -95,8 +105,11 @@ public class MemberServiceImpl implements MemberService {
                 () -> new RuntimeException("차량이 존재하지 않습니다.")
         );
 
-        log.info("비밀 번호 검증 {} : {}", validatePayPassword.getPassword(), car.getMember().getPayPwd());
-        if (passwordEncoder.matches(validatePayPassword.getPassword(), car.getMember().getPayPwd())) {
+        log.info("비밀 번호 검증");
+        Long inOutHistoryUid = activeSessionIndex.findByCarUid(car.getCarUid())
+                .map(InOutHistoryResponseDto.ActiveSession::getInOutHistoryUid)
+                .orElse(null);
+        if (payPinVerifier.verify(car.getPlateNum(), inOutHistoryUid, car.getMember(), validatePayPassword.getPassword())) {
             log.info("비밀번호 검증 성공");
             return true;
         }
@@ -106,7 +119,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public Boolean validatePwd(Member member, MemberRequestDto.ValidatePwd validatePwd) {
+    public Boolean validatePwd(LoginMember loginMember, MemberRequestDto.ValidatePwd validatePwd) {
+        Member member = getMember(loginMember);
         if (passwordEncoder.matches(validatePwd.getPassword(), member.getPayPwd())) {
             return true;
         }
@@ -115,22 +129,16 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public Boolean uploadFace(Member member, MultipartFile faceimg) {
-        log.info("[uploadFace] service 호출 member = {}, faceimg = {}", member.getEmail(), faceimg);
-        String base64  = faceUtil.convertBase64(faceimg);
-        if (base64 == null || base64.isBlank()) {
-            throw new IllegalStateException("이미지 변환 실패");
-        }
-        log.info("[uploadFace] convertBase64 완료 base64 = {}", base64);
-        member.uploadFaceImg(base64);
-
-        memberRepository.save(member);
+    public Boolean uploadFace(LoginMember loginMember, MultipartFile faceimg) {
+        log.info("[uploadFace] service 호출 member = {}, faceimg = {}", loginMember.getEmail(), faceimg);
+        faceTemplateService.register(loginMember.getMemberUid(), faceimg);
+        log.info("[uploadFace] 얼굴 템플릿 등록 완료 member = {}", loginMember.getEmail());
 
         return true;
     }
 
+    // 얼굴 비교(AI 서버 호출) 동안 트랜잭션을 잡고 있지 않도록 조회는 각 저장소 호출로 끝내고 회원은 id만 넘긴다
     @Override
-    @Transactional
     public Boolean validateFace(MemberRequestDto.ValidateFace validateFace, MultipartFile compface) {
 
         log.info("제휴 매장 확인");
@@ -144,16 +152,17 @@ public class MemberServiceImpl implements MemberService {
         );
 
         Member member = car.getMember();
-        if (member == null || member.getFaceImg() == null) {
+        if (member == null) {
             throw new RuntimeException("해당 차량 소유자의 얼굴 데이터가 존재하지 않습니다.");
         }
 
         log.info("얼굴 비교 시작");
-        // faceImg 꺼내서 비교
-        String base64 = member.getFaceImg();
-        Boolean match = faceUtil.compareFace(compface, base64);
-
-        return match;
+        return faceTemplateService.matches(member.getMemberUid(), compface);
     }
 
+
+    private Member getMember(LoginMember loginMember) {
+        return memberRepository.findByMemberUid(loginMember.getMemberUid())
+                .orElseThrow(() -> new RuntimeException("해당 유저가 없습니다."));
+    }
 }
@@ -1,19 +1,22 @@
 package com.pcarchu.platepay.orderHistory.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pcarchu.platepay.account.dto.AccountResponseDto;
 import com.pcarchu.platepay.common.dto.ResponseDto;
-import com.pcarchu.platepay.member.domain.entity.Member;
 import com.pcarchu.platepay.orderHistory.domain.entity.OrderHistory;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryRequestDto;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryResponseDto;
 import com.pcarchu.platepay.orderHistory.service.OrderHistoryService;
+import com.pcarchu.platepay.security.dto.LoginMember;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -24,6 +27,7 @@ import java.util.List;
 public class OrderHistoryController {
     private final OrderHistoryService orderHistoryService;
     private final ResponseDto responseDto;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
     @PostMapping
@@ -37,16 +41,39 @@ public class OrderHistoryController {
         }
     }
 
+    @Operation(summary = "키오스크 결제 (비밀번호)", description = "결제 비밀번호 검증과 주문 생성을 한 번에 처리합니다.")
+    @PostMapping("/checkout")
+    public ResponseEntity<?> checkoutWithPassword(@RequestBody OrderHistoryRequestDto.CheckoutRequestDto requestDto) {
+        try {
+            return responseDto.success(orderHistoryService.checkoutWithPassword(requestDto));
+        } catch (Exception e) {
+            log.error("키오스크 결제(비밀번호) 중 예외 발생", e);
+            return responseDto.fail("결제 실패", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Operation(summary = "키오스크 결제 (얼굴)", description = "얼굴 인증과 주문 생성을 한 번에 처리합니다.")
+    @PostMapping(value = "/checkout/face", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> checkoutWithFace(@RequestPart("info") String infoJson, @RequestPart("compface") MultipartFile compface) {
+        try {
+            OrderHistoryRequestDto.CheckoutRequestDto requestDto = objectMapper.readValue(infoJson, OrderHistoryRequestDto.CheckoutRequestDto.class);
+            return responseDto.success(orderHistoryService.checkoutWithFace(requestDto, compface));
+        } catch (Exception e) {
+            log.error("키오스크 결제(얼굴) 중 예외 발생", e);
+            return responseDto.fail("결제 실패", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Operation(summary = "최근 결제 내역 조회", description = "최근 일주일 결제 내역을 조회합니다.")
     @GetMapping("/last-week")
-    public ResponseEntity<?> getRecentPaymentHistories(@AuthenticationPrincipal Member loginMember) {
+    public ResponseEntity<?> getRecentPaymentHistories(@AuthenticationPrincipal LoginMember loginMember) {
         List<OrderHistoryResponseDto.PaymentHistoryInfo> histories = orderHistoryService.getRecentPaymentHistories(loginMember);
         return ResponseEntity.ok(histories);
     }
 
     @Operation(summary = "월별 내역 조회", description = "월 별 결제 내역을 조회합니다.")
     @GetMapping
-    public ResponseEntity<?> getMonthlyPaymentHistories(@AuthenticationPrincipal Member loginMember,
+    public ResponseEntity<?> getMonthlyPaymentHistories(@AuthenticationPrincipal LoginMember loginMember,
                                                         @RequestParam int year,
                                                         @RequestParam int month) {
         var result = orderHistoryService.getMonthlyPaymentHistories(loginMember, year, month);
@@ -55,7 +82,7 @@ public class OrderHistoryController {
 
     @Operation(summary = "결제 예정 내역 조회", description = "결제 예정 내역을 조회합니다.")
     @GetMapping("/pending")
-    public ResponseEntity<?> getPendingOrderHistories(@AuthenticationPrincipal Member loginMember) {
+    public ResponseEntity<?> getPendingOrderHistories(@AuthenticationPrincipal LoginMember loginMember) {
         var result = orderHistoryService.getActiveUnpaidHistory(loginMember);
         return ResponseEntity.ok(result);
     }
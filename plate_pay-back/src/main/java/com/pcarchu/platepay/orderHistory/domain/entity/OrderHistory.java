@@ -2,6 +2,7 @@ package com.pcarchu.platepay.orderHistory.domain.entity;
 
 import com.pcarchu.platepay.common.domain.BaseTimeEntity;
 import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
 import com.pcarchu.platepay.store.domain.entity.Store;
 import jakarta.persistence.*;
 import lombok.*;
@@ -28,6 +29,10 @@ public class OrderHistory extends BaseTimeEntity {
     @JoinColumn(name="inOutHistoryId", nullable = false)
     private InOutHistory inOutHistory;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="paymentOutboxId", nullable = true)
+    private PaymentOutbox paymentOutbox;
+
     @Comment("금액")
     @Column(name = "cost", nullable = false)
     private Integer cost;
@@ -40,6 +45,11 @@ public class OrderHistory extends BaseTimeEntity {
         this.isPaid = isPaid;
     }
 
+    public void assignPaymentOutbox(PaymentOutbox paymentOutbox) {
+        this.paymentOutbox = paymentOutbox;
+        paymentOutbox.getOrderHistories().add(this);
+    }
+
     @Builder
     public OrderHistory(Store store, InOutHistory inOutHistory, Integer cost, Boolean isPaid) {
         this.store = store;
@@ -1,7 +1,9 @@
 package com.pcarchu.platepay.orderHistory.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 public class OrderHistoryRequestDto {
 
@@ -12,4 +14,18 @@ public class OrderHistoryRequestDto {
         private String plateNum;
         private Integer cost;
     }
+
+    /**
+     * 키오스크 결제 (인증 + 주문). 얼굴 인증이면 password는 비워둔다.
+     */
+    @Builder
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CheckoutRequestDto {
+        private String plateNum;
+        private Long storeId;
+        private Integer cost;
+        private String password;
+    }
 }
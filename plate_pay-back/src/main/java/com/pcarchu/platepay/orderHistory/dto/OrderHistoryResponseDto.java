@@ -38,4 +38,11 @@ public class OrderHistoryResponseDto {
         private Integer cost;
         private Boolean isPaid;
     }
+
+    @Getter
+    @Builder
+    public static class CheckoutResult {
+        private Boolean result;         // 인증 + 주문 성공 여부
+        private Long orderHistoryId;
+    }
 }
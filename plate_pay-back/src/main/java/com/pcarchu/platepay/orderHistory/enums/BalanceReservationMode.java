@@ -0,0 +1,6 @@
+package com.pcarchu.platepay.orderHistory.enums;
+
+public enum BalanceReservationMode {
+    LOCAL, // 인스턴스 메모리 (단일 노드)
+    REDIS  // Redis DECRBY (다중 노드에서 공유)
+}
@@ -0,0 +1,317 @@
+package com.pcarchu.platepay.orderHistory.infrastructure;
+
+import com.google.gson.JsonObject;
+import com.pcarchu.platepay.common.event.VehicleEntered;
+import com.pcarchu.platepay.common.event.VehicleExited;
+import com.pcarchu.platepay.inOutHistory.domain.repository.InOutHistoryRepository;
+import com.pcarchu.platepay.orderHistory.domain.repository.OrderHistoryRepository;
+import com.pcarchu.platepay.orderHistory.enums.BalanceReservationMode;
+import com.pcarchu.platepay.util.SsafyUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 주차 세션별 결제 가능 잔액 예약 장부
+ *
+ * 입차 시 은행 잔액에서 미결제 금액을 뺀 값을 한 번 기록해 두고, 주문마다 원자적으로 차감한다.
+ * 은행 잔액 조회는 장부가 없거나 부족할 때(동기), 차감 후 잔액이 low-watermark 아래일 때(커밋 이후 비동기)만 한다.
+ *  - LOCAL : 인스턴스 메모리 (단일 노드)
+ *  - REDIS : 해시(available, pending) + Lua 스크립트로 잔액 확인 + 차감 (다중 노드)
+ * 차감분은 주문 트랜잭션이 끝날 때까지 pending에도 더해 두고, 커밋되면 pending에서만 빼고(이제 DB 미결제 합계에 들어 있다)
+ * 롤백되면 available로 되돌린다. 출차하면 장부를 지운다.
+ *
+ * 재동기화는 장부를 덮어쓰지 않고, 시작 시점의 (available, pending)을 먼저 읽어 두고 은행 잔액/DB 미결제 합계를 읽은 뒤
+ *   available = 은행 잔액 - 미결제 합계 - 시작 시점 pending + (현재 available - 시작 시점 available)
+ * 로 원자적으로 반영한다. 시작 이후의 차감/복구는 마지막 항으로 그대로 남고, 시작 시점에 커밋 전이던 주문은 pending으로 빠진다.
+ * (시작 이후 커밋된 주문은 두 번 빠질 수 있지만 결제 가능 잔액을 적게 잡는 쪽이고 다음 동기화에서 맞춰진다)
+ */
+@Slf4j
+@Component
+public class BalanceReservationLedger {
+    private static final String KEY_PREFIX = "platepay:balance-ledger:"; // 해시 (이전 문자열 키 platepay:balance-reserve:* 와 구분)
+    private static final String AVAILABLE = "available";
+    private static final String PENDING = "pending";
+    private static final long MISS = -2L;
+    private static final long INSUFFICIENT = -1L;
+
+    // 없으면 -2, 부족하면 -1, 아니면 차감 후 잔액
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HGET', KEYS[1], 'available') " +
+            "if not v then return -2 end " +
+            "if tonumber(v) < tonumber(ARGV[1]) then return -1 end " +
+            "redis.call('HINCRBY', KEYS[1], 'pending', ARGV[1]) " +
+            "return redis.call('HINCRBY', KEYS[1], 'available', -tonumber(ARGV[1]))", Long.class);
+
+    // 커밋 : pending에서만 뺀다
+    private static final DefaultRedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "return redis.call('HINCRBY', KEYS[1], 'pending', -tonumber(ARGV[1]))", Long.class);
+
+    // 롤백 : pending에서 빼고 available로 되돌린다
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "redis.call('HINCRBY', KEYS[1], 'pending', -tonumber(ARGV[1])) " +
+            "return redis.call('HINCRBY', KEYS[1], 'available', ARGV[1])", Long.class);
+
+    // ARGV : 목표 잔액, 시작 시점 available('' = 장부 없었음), ttl(ms)
+    private static final DefaultRedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local target = tonumber(ARGV[1]) " +
+            "local cur = redis.call('HGET', KEYS[1], 'available') " +
+            "if cur and ARGV[2] ~= '' then target = target + tonumber(cur) - tonumber(ARGV[2]) end " +
+            "redis.call('HSET', KEYS[1], 'available', target) " +
+            "redis.call('HSETNX', KEYS[1], 'pending', 0) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return target", Long.class);
+
+    private final InOutHistoryRepository inOutHistoryRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final SsafyUtil ssafyUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Executor ioExecutor;
+    private final TransactionTemplate readOnlyTx;
+
+    private final BalanceReservationMode mode;
+    private final long lowWatermark;
+    private final Duration ttl;
+
+    private final Map<Long, LocalEntry> local = new ConcurrentHashMap<>();
+
+    public BalanceReservationLedger(InOutHistoryRepository inOutHistoryRepository,
+                                    OrderHistoryRepository orderHistoryRepository,
+                                    SsafyUtil ssafyUtil,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    @Qualifier("ioExecutor") Executor ioExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${balance-reservation.mode:REDIS}") BalanceReservationMode mode,
+                                    @Value("${balance-reservation.low-watermark:10000}") long lowWatermark,
+                                    @Value("${balance-reservation.ttl:24h}") Duration ttl) {
+        this.inOutHistoryRepository = inOutHistoryRepository;
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.ssafyUtil = ssafyUtil;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ioExecutor = ioExecutor;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.mode = mode;
+        this.lowWatermark = lowWatermark;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 주문 금액 예약 (부족하면 은행 잔액으로 한 번 재동기화 후 재시도)
+     *
+     * @throws IllegalArgumentException 잔액 부족 또는 잔액 조회 실패
+     */
+    public void reserve(Long inOutHistoryUid, String userKey, String accountNo, int amount) {
+        long remaining = tryReserve(inOutHistoryUid, amount);
+        if (remaining < 0) {
+            sync(inOutHistoryUid, userKey, accountNo);
+            remaining = tryReserve(inOutHistoryUid, amount);
+        }
+        if (remaining == MISS) {
+            throw new IllegalArgumentException("계좌 잔액 정보를 불러오지 못했습니다.");
+        }
+        if (remaining == INSUFFICIENT) {
+            throw new IllegalArgumentException("계좌 잔액이 부족합니다.");
+        }
+
+        boolean low = remaining < lowWatermark;
+        onCompletion(inOutHistoryUid, amount, low ? () -> sync(inOutHistoryUid, userKey, accountNo) : null);
+    }
+
+    /**
+     * 은행 잔액 - 미결제 금액 - 진행 중 예약으로 장부 갱신 (진행 중인 차감/복구는 보존)
+     */
+    public void sync(Long inOutHistoryUid, String userKey, String accountNo) {
+        // 미결제 합계보다 먼저 읽어야 그 사이 커밋된 주문이 양쪽에서 빠지지 않는다
+        Snapshot before = snapshot(inOutHistoryUid);
+
+        JsonObject balanceRec = ssafyUtil.inquireAccountBalance(userKey, accountNo);
+        if (balanceRec == null) {
+            log.warn("잔액 예약 동기화 실패 (은행 잔액 조회 실패): inOutHistoryId={}", inOutHistoryUid);
+            return;
+        }
+        long accountBalance = balanceRec.get("accountBalance").getAsLong();
+        long unpaid = orderHistoryRepository
+                .sumCostByInOutHistory_InOutHistoryUidAndIsPaidFalse(inOutHistoryUid)
+                .orElse(0L);
+        long available = apply(inOutHistoryUid, accountBalance - unpaid - before.pending(), before.available());
+        log.debug("잔액 예약 동기화: inOutHistoryId={}, balance={}, unpaid={}, pending={}, available={}",
+                inOutHistoryUid, accountBalance, unpaid, before.pending(), available);
+    }
+
+    public void evict(Long inOutHistoryUid) {
+        if (mode == BalanceReservationMode.REDIS) {
+            stringRedisTemplate.delete(key(inOutHistoryUid));
+        } else {
+            local.remove(inOutHistoryUid);
+        }
+    }
+
+    /**
+     * 입차 시 잔액 스냅샷 (커밋 이후 ioExecutor)
+     */
+    @Async("ioExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleEntered(VehicleEntered event) {
+        AccountRef account = readOnlyTx.execute(status ->
+                inOutHistoryRepository.findById(event.inOutHistoryUid())
+                        .filter(i -> i.getAccount() != null)
+                        .map(i -> new AccountRef(i.getCar().getMember().getUserKey(), i.getAccount().getAccountNo()))
+                        .orElse(null));
+        if (account != null) {
+            sync(event.inOutHistoryUid(), account.userKey(), account.accountNo());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleExited(VehicleExited event) {
+        evict(event.inOutHistoryUid());
+    }
+
+    private long tryReserve(Long inOutHistoryUid, int amount) {
+        if (mode == BalanceReservationMode.REDIS) {
+            Long res = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(key(inOutHistoryUid)), String.valueOf(amount));
+            return res == null ? MISS : res;
+        }
+
+        LocalEntry entry = local.get(inOutHistoryUid);
+        return entry == null ? MISS : entry.reserve(amount);
+    }
+
+    private void confirm(Long inOutHistoryUid, int amount) {
+        if (mode == BalanceReservationMode.REDIS) {
+            stringRedisTemplate.execute(CONFIRM_SCRIPT, List.of(key(inOutHistoryUid)), String.valueOf(amount));
+            return;
+        }
+        LocalEntry entry = local.get(inOutHistoryUid);
+        if (entry != null) {
+            entry.confirm(amount);
+        }
+    }
+
+    private void release(Long inOutHistoryUid, int amount) {
+        if (mode == BalanceReservationMode.REDIS) {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(inOutHistoryUid)), String.valueOf(amount));
+            return;
+        }
+        LocalEntry entry = local.get(inOutHistoryUid);
+        if (entry != null) {
+            entry.release(amount);
+        }
+    }
+
+    private Snapshot snapshot(Long inOutHistoryUid) {
+        if (mode == BalanceReservationMode.REDIS) {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(key(inOutHistoryUid), List.of(AVAILABLE, PENDING));
+            Object available = values.get(0);
+            Object pending = values.get(1);
+            return new Snapshot(available == null ? null : Long.valueOf(available.toString()),
+                    pending == null ? 0L : Long.parseLong(pending.toString()));
+        }
+        LocalEntry entry = local.get(inOutHistoryUid);
+        return entry == null ? new Snapshot(null, 0L) : entry.snapshot();
+    }
+
+    // target에 before 이후의 차감/복구를 더해 원자적으로 반영
+    private long apply(Long inOutHistoryUid, long target, Long before) {
+        if (mode == BalanceReservationMode.REDIS) {
+            Long res = stringRedisTemplate.execute(APPLY_SCRIPT, List.of(key(inOutHistoryUid)),
+                    String.valueOf(target), before == null ? "" : String.valueOf(before), String.valueOf(ttl.toMillis()));
+            return res == null ? target : res;
+        }
+        return local.computeIfAbsent(inOutHistoryUid, k -> new LocalEntry()).apply(target, before);
+    }
+
+    // 롤백이면 차감분 복구, 커밋이면 진행 중 예약에서 빼고 (필요 시) 비동기 재동기화
+    private void onCompletion(Long inOutHistoryUid, int amount, Runnable resync) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirm(inOutHistoryUid, amount);
+            if (resync != null) {
+                ioExecutor.execute(resync);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(inOutHistoryUid, amount);
+                    return;
+                }
+                confirm(inOutHistoryUid, amount);
+                if (status == STATUS_COMMITTED && resync != null) {
+                    ioExecutor.execute(resync);
+                }
+            }
+        });
+    }
+
+    private static String key(Long inOutHistoryUid) {
+        return KEY_PREFIX + inOutHistoryUid;
+    }
+
+    private record AccountRef(String userKey, String accountNo) {
+    }
+
+    /**
+     * @param available 장부가 없으면 null
+     */
+    private record Snapshot(Long available, long pending) {
+    }
+
+    // LOCAL 모드 장부 한 건 (REDIS 스크립트와 같은 규칙)
+    private static final class LocalEntry {
+        private long available;
+        private long pending;
+        private boolean initialized;
+
+        synchronized long reserve(int amount) {
+            if (!initialized) {
+                return MISS;
+            }
+            if (available < amount) {
+                return INSUFFICIENT;
+            }
+            pending += amount;
+            available -= amount;
+            return available;
+        }
+
+        synchronized void confirm(int amount) {
+            pending -= amount;
+        }
+
+        synchronized void release(int amount) {
+            pending -= amount;
+            available += amount;
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(initialized ? available : null, pending);
+        }
+
+        synchronized long apply(long target, Long before) {
+            available = initialized && before != null ? target + available - before : target;
+            initialized = true;
+            return available;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.pcarchu.platepay.orderHistory.service;
 
-import com.pcarchu.platepay.member.domain.entity.Member;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryRequestDto;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryResponseDto;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,7 +11,9 @@ import java.util.Map;
 
 public interface OrderHistoryService {
     void addOrderHistory(OrderHistoryRequestDto.AddOrderHistoryRequestDto requestDto);
-    List<OrderHistoryResponseDto.PaymentHistoryInfo> getRecentPaymentHistories(Member loginMember);
-    Map<LocalDate, List<OrderHistoryResponseDto.PaymentHistoryInfo>> getMonthlyPaymentHistories(Member loginMember, int year, int month);
-    OrderHistoryResponseDto.PaymentHistoryInfo getActiveUnpaidHistory(Member member);
+    OrderHistoryResponseDto.CheckoutResult checkoutWithPassword(OrderHistoryRequestDto.CheckoutRequestDto requestDto);
+    OrderHistoryResponseDto.CheckoutResult checkoutWithFace(OrderHistoryRequestDto.CheckoutRequestDto requestDto, MultipartFile compface);
+    List<OrderHistoryResponseDto.PaymentHistoryInfo> getRecentPaymentHistories(LoginMember loginMember);
+    Map<LocalDate, List<OrderHistoryResponseDto.PaymentHistoryInfo>> getMonthlyPaymentHistories(LoginMember loginMember, int year, int month);
+    OrderHistoryResponseDto.PaymentHistoryInfo getActiveUnpaidHistory(LoginMember member);
 }
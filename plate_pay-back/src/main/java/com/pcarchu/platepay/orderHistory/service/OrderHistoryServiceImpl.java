@@ -1,30 +1,35 @@
 package com.pcarchu.platepay.orderHistory.service;
 
-import com.google.gson.JsonObject;
 import com.pcarchu.platepay.account.domain.entity.Account;
 import com.pcarchu.platepay.account.domain.repository.AccountRepository;
 import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.car.domain.repository.CarRepository;
-import com.pcarchu.platepay.fcm.dto.FcmRequestDto;
-import com.pcarchu.platepay.fcm.service.FcmService;
+import com.pcarchu.platepay.common.event.OrderPlaced;
 import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
 import com.pcarchu.platepay.inOutHistory.domain.repository.InOutHistoryRepository;
+import com.pcarchu.platepay.inOutHistory.infrastructure.ActiveSessionIndex;
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
 import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.member.service.FaceTemplateService;
 import com.pcarchu.platepay.orderHistory.domain.entity.OrderHistory;
 import com.pcarchu.platepay.orderHistory.domain.repository.OrderHistoryRepository;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryRequestDto;
 import com.pcarchu.platepay.orderHistory.dto.OrderHistoryResponseDto;
+import com.pcarchu.platepay.orderHistory.infrastructure.BalanceReservationLedger;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import com.pcarchu.platepay.security.pin.PayPinVerifier;
 import com.pcarchu.platepay.store.domain.entity.Store;
 import com.pcarchu.platepay.store.domain.repository.StoreRepository;
-import com.pcarchu.platepay.token.domain.entity.RefreshToken;
-import com.pcarchu.platepay.token.domain.repository.RefreshTokenRepository;
-import com.pcarchu.platepay.util.SsafyUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,16 +44,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderHistoryServiceImpl implements OrderHistoryService{
 
-    private final FcmService fcmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final OrderHistoryRepository orderHistoryRepository;
     private final InOutHistoryRepository inOutHistoryRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
     private final StoreRepository storeRepository;
     private final CarRepository carRepository;
     private final AccountRepository accountRepository;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final BalanceReservationLedger balanceReservationLedger;
 
-    private final SsafyUtil ssafyUtil;
+    private final FaceTemplateService faceTemplateService;
+    private final PayPinVerifier payPinVerifier;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -58,18 +66,6 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
         Car car = carRepository.findByPlateNum(requestDto.getPlateNum())
                 .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 차량입니다."));
 
-        // 차량 소유주(Member)
-        Member owner = car.getMember();
-
-        RefreshToken rtk = refreshTokenRepository.findByEmail(car.getMember().getEmail()).orElseThrow(
-                () -> new RuntimeException("access token을 찾을 수 없습니다.")
-        );
-
-        // 주차 내역 확인 (아직 출차하지 않은 경우)
-        InOutHistory inOutHistory = inOutHistoryRepository
-                .findByCarAndOutTimeIsNull(car)
-                .orElseThrow(() -> new IllegalArgumentException("해당 차량은 현재 주차 중이 아닙니다."));
-
         // 매장 확인
         Store store = null;
         if (requestDto.getStoreId() != null) {
@@ -77,33 +73,101 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
                     .orElseThrow(() -> new IllegalArgumentException("해당 매장이 존재하지 않습니다."));
         }
 
-        // 차량 소유주의 주 계좌 조회
-        Account mainAccount = accountRepository.findByMember_MemberUidAndIsMainTrueAndStatusIsTrue(owner.getMemberUid())
-                .orElseThrow(() -> new IllegalArgumentException("주 계좌가 설정되어 있지 않습니다."));
+        placeOrder(car, store, requestDto.getCost());
+    }
 
-        // 계좌 잔액 조회 (토큰, userKey 불필요)
-        JsonObject balanceRec = ssafyUtil.inquireAccountBalance(owner.getUserKey(), mainAccount.getAccountNo());
-        if (balanceRec == null) {
-            throw new IllegalArgumentException("계좌 잔액 정보를 불러오지 못했습니다.");
+    /**
+     * 키오스크 결제 - 결제 비밀번호 검증(bcrypt)은 트랜잭션 밖에서 하고, 통과하면 주문 저장만 트랜잭션으로 처리
+     * (차량, 매장은 한 번만 조회, 세션 안 재결제는 PayPinVerifier 캐시)
+     */
+    @Override
+    public OrderHistoryResponseDto.CheckoutResult checkoutWithPassword(OrderHistoryRequestDto.CheckoutRequestDto requestDto) {
+        Checkout checkout = loadCheckout(requestDto);
+        Car car = checkout.car();
+
+        Long inOutHistoryUid = activeSessionIndex.findByCarUid(car.getCarUid())
+                .map(InOutHistoryResponseDto.ActiveSession::getInOutHistoryUid)
+                .orElse(null);
+        if (!payPinVerifier.verify(car.getPlateNum(), inOutHistoryUid, car.getMember(), requestDto.getPassword())) {
+            log.info("키오스크 결제 비밀번호 검증 실패: car={}", requestDto.getPlateNum());
+            return OrderHistoryResponseDto.CheckoutResult.builder().result(false).build();
         }
-        long accountBalance = balanceRec.get("accountBalance").getAsLong();
 
-        // 미납 금액 합산
-        Long unpaidCostSum = orderHistoryRepository
-                .sumCostByInOutHistory_InOutHistoryUidAndIsPaidFalse(inOutHistory.getInOutHistoryUid())
-                .orElse(0L);
+        return order(checkout, requestDto.getCost());
+    }
 
-        long totalCost = unpaidCostSum + requestDto.getCost();
+    /**
+     * 키오스크 결제 - 얼굴 인증(AI 서버 호출)은 트랜잭션 밖에서 하고, 통과하면 주문 저장만 트랜잭션으로 처리
+     */
+    @Override
+    public OrderHistoryResponseDto.CheckoutResult checkoutWithFace(OrderHistoryRequestDto.CheckoutRequestDto requestDto, MultipartFile compface) {
+        Checkout checkout = loadCheckout(requestDto);
 
-        if (totalCost > accountBalance) {
-            throw new IllegalArgumentException("계좌 잔액이 부족합니다.");
+        if (!faceTemplateService.matches(checkout.car().getMember().getMemberUid(), compface)) {
+            log.info("키오스크 얼굴 인증 실패: car={}", requestDto.getPlateNum());
+            return OrderHistoryResponseDto.CheckoutResult.builder().result(false).build();
         }
 
+        return order(checkout, requestDto.getCost());
+    }
+
+    // 차량(소유주 포함), 매장 조회 - 검증에 쓰는 동안 커넥션을 잡고 있지 않도록 조회만 짧게 끝낸다
+    private Checkout loadCheckout(OrderHistoryRequestDto.CheckoutRequestDto requestDto) {
+        return transactionTemplate.execute(status -> {
+            Car car = getCheckoutCar(requestDto);
+            Hibernate.initialize(car.getMember());
+            return new Checkout(car, getCheckoutStore(requestDto));
+        });
+    }
+
+    private OrderHistoryResponseDto.CheckoutResult order(Checkout checkout, Integer cost) {
+        OrderHistory orderHistory = transactionTemplate.execute(status -> placeOrder(checkout.car(), checkout.store(), cost));
+        return OrderHistoryResponseDto.CheckoutResult.builder()
+                .result(true)
+                .orderHistoryId(orderHistory.getOrderHistoryUid())
+                .build();
+    }
+
+    private Car getCheckoutCar(OrderHistoryRequestDto.CheckoutRequestDto requestDto) {
+        return carRepository.findByPlateNum(requestDto.getPlateNum())
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 차량입니다."));
+    }
+
+    private Store getCheckoutStore(OrderHistoryRequestDto.CheckoutRequestDto requestDto) {
+        if (requestDto.getStoreId() == null) {
+            throw new IllegalArgumentException("해당 매장이 존재하지 않습니다.");
+        }
+        return storeRepository.findById(requestDto.getStoreId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 매장이 존재하지 않습니다."));
+    }
+
+    /**
+     * 주문 저장 (주차 중 확인 → 주 계좌 잔액 확인 → 저장 → 커밋 이후 알림)
+     */
+    private OrderHistory placeOrder(Car car, Store store, Integer cost) {
+
+        // 차량 소유주(Member)
+        Member owner = car.getMember();
+
+        // 주차 내역 확인 (아직 출차하지 않은 경우) - 입차 세션 인덱스로 PK 조회, 없으면 DB 조회
+        InOutHistory inOutHistory = activeSessionIndex.findByCarUid(car.getCarUid())
+                .flatMap(session -> inOutHistoryRepository.findById(session.getInOutHistoryUid()))
+                .filter(i -> i.getOutTime() == null)
+                .or(() -> inOutHistoryRepository.findByCarAndOutTimeIsNull(car))
+                .orElseThrow(() -> new IllegalArgumentException("해당 차량은 현재 주차 중이 아닙니다."));
+
+        // 차량 소유주의 주 계좌 조회
+        Account mainAccount = accountRepository.findByMember_MemberUidAndIsMainTrueAndStatusIsTrue(owner.getMemberUid())
+                .orElseThrow(() -> new IllegalArgumentException("주 계좌가 설정되어 있지 않습니다."));
+
+        // 잔액 예약 (입차 시 스냅샷에서 차감, 부족하거나 없을 때만 은행 잔액 조회)
+        balanceReservationLedger.reserve(inOutHistory.getInOutHistoryUid(), owner.getUserKey(), mainAccount.getAccountNo(), cost);
+
         // 주문 내역 저장
         OrderHistory orderHistory = OrderHistory.builder()
                 .store(store)
                 .inOutHistory(inOutHistory)
-                .cost(requestDto.getCost())
+                .cost(cost)
                 .isPaid(false)
                 .build();
 
@@ -113,24 +177,25 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
 
         orderHistoryRepository.save(orderHistory);
 
-        // 이벤트 발송
+        // 커밋 이후 알림 발송
         if (store != null) {
-            FcmRequestDto.SendNoti sendNoti = FcmRequestDto.SendNoti.builder()
-                    .token(rtk.getFcmToken())
-                    .title("주문 완료")
-                    .body(store.getStoreName() + "에서 " + orderHistory.getCost() + "원을 주문하셨습니다.")
-                    .build();
-
-            fcmService.sendMessage(sendNoti);
+            eventPublisher.publishEvent(new OrderPlaced(
+                    orderHistory.getOrderHistoryUid(),
+                    inOutHistory.getInOutHistoryUid(),
+                    store.getStoreName(),
+                    orderHistory.getCost(),
+                    owner.getEmail()));
         }
 
         log.info("주문 내역 저장 완료: storeId={}, car={}, cost={}",
-                requestDto.getStoreId(), requestDto.getPlateNum(), requestDto.getCost());
+                store == null ? null : store.getStoreUid(), car.getPlateNum(), cost);
+
+        return orderHistory;
     }
 
 
     @Transactional(readOnly = true)
-    public List<OrderHistoryResponseDto.PaymentHistoryInfo> getRecentPaymentHistories(Member loginMember) {LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
+    public List<OrderHistoryResponseDto.PaymentHistoryInfo> getRecentPaymentHistories(LoginMember loginMember) {LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
 
         List<InOutHistory> histories = orderHistoryRepository.findRecentInOutHistories(loginMember.getMemberUid(), oneWeekAgo);
 
@@ -166,7 +231,7 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
 
     @Transactional(readOnly = true)
     public Map<LocalDate, List<OrderHistoryResponseDto.PaymentHistoryInfo>>
-    getMonthlyPaymentHistories(Member loginMember, int year, int month) {
+    getMonthlyPaymentHistories(LoginMember loginMember, int year, int month) {
 
         LocalDateTime startDate = LocalDate.of(year, month, 1).atStartOfDay();
         LocalDateTime endDate = startDate.plusMonths(1).minusNanos(1);
@@ -213,7 +278,7 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
     }
 
     @Transactional(readOnly = true)
-    public OrderHistoryResponseDto.PaymentHistoryInfo getActiveUnpaidHistory(Member member) {
+    public OrderHistoryResponseDto.PaymentHistoryInfo getActiveUnpaidHistory(LoginMember member) {
 
         List<Car> cars = carRepository.findByMemberId(member.getMemberUid());
 
@@ -253,4 +318,7 @@ public class OrderHistoryServiceImpl implements OrderHistoryService{
                 .carModel(inOutHistory.getCar().getCarModel())
                 .build();
     }
+
+    private record Checkout(Car car, Store store) {
+    }
 }
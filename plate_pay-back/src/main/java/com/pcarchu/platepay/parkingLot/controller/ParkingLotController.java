@@ -1,6 +1,5 @@
 package com.pcarchu.platepay.parkingLot.controller;
 
-import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.car.dto.CarResponseDto;
 import com.pcarchu.platepay.common.dto.ResponseDto;
 import com.pcarchu.platepay.parkingLot.service.ParkingLotServiceImpl;
@@ -13,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -39,18 +37,7 @@ public class ParkingLotController {
 	) {
 		try {
 			log.info("[getActiveCarsByParkingLot]= {}, {}", parkingLotId, plateNum);
-			List<Car> cars = parkingLotService.getActiveCars(parkingLotId, plateNum);
-
-			// Car → DTO 변환
-			List<CarResponseDto.CarInfo> result = cars.stream()
-					.map(car -> CarResponseDto.CarInfo.builder()
-							.carUid(car.getCarUid())
-							.nickName(car.getNickName())
-							.plateNum(car.getPlateNum())
-							.carModel(car.getCarModel())
-							.imgUrl(car.getPlatePayFile().getPath())
-							.build())
-					.collect(Collectors.toList());
+			List<CarResponseDto.CarInfo> result = parkingLotService.getActiveCars(parkingLotId, plateNum);
 
 			return responseDto.success(result);
 		} catch (Exception e) {
@@ -1,6 +1,8 @@
 package com.pcarchu.platepay.parkingLot.domain.entity;
 
 import com.pcarchu.platepay.common.domain.BaseTimeEntity;
+import com.pcarchu.platepay.common.domain.GeoPlaceChangeListener;
+import com.pcarchu.platepay.common.domain.GeoPoint;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,7 +13,8 @@ import org.hibernate.annotations.Comment;
 
 @Getter
 @Entity
-@Table(name="parking_lot")
+@Table(name="parking_lot", indexes = @Index(name = "idx_parking_lot_geo", columnList = "lat_e6, lon_e6"))
+@EntityListeners(GeoPlaceChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "parkingLotUid", callSuper=false)
 public class ParkingLot extends BaseTimeEntity {
@@ -33,6 +36,9 @@ public class ParkingLot extends BaseTimeEntity {
     @Column(name = "longitude", nullable = false)
     private String longitude;
 
+    @Embedded
+    private GeoPoint location;
+
     @Comment("일반주소")
     @Column(name = "address", length = 50, nullable = false)
     private String address;
@@ -52,6 +58,7 @@ public class ParkingLot extends BaseTimeEntity {
         this.parkingLotName = parkingLotName;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.location = GeoPoint.of(latitude, longitude);
         this.address = address;
         this.roadAddress = roadAddress;
         this.parkingLotFee = parkingLotFee;
@@ -1,6 +1,7 @@
 package com.pcarchu.platepay.parkingLot.domain.entity;
 
 import com.pcarchu.platepay.common.domain.BaseTimeEntity;
+import com.pcarchu.platepay.common.domain.GeoPlaceChangeListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import org.hibernate.annotations.Comment;
 @Getter
 @Entity
 @Table(name="parking_lot_fee")
+@EntityListeners(GeoPlaceChangeListener.class) // 주차장 검색 결과에 요금이 들어 있다
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "parkingLotFeeUid", callSuper=false)
 public class ParkingLotFee extends BaseTimeEntity {
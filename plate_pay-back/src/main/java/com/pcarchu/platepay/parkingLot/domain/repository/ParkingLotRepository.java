@@ -3,8 +3,14 @@ package com.pcarchu.platepay.parkingLot.domain.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.common.dto.CursorPage;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
 
 public interface ParkingLotRepository {
 
@@ -19,4 +25,11 @@ public interface ParkingLotRepository {
 	List<ParkingLot> findAll();
 
 	int count();
+
+	Page<ParkingLotResponseDto.SearchHit> search(double lat, double lon, String keyword, Pageable pageable);
+
+	CursorPage<ParkingLotResponseDto.SearchHit> scroll(double lat, double lon, String keyword,
+		GeoSearchCursor after, int size, boolean trackTotalHits);
+
+	int backfillLocation();
 }
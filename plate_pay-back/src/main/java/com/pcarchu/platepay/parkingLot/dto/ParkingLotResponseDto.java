@@ -8,7 +8,7 @@ public class ParkingLotResponseDto {
 	@Setter
 	@NoArgsConstructor
 	@AllArgsConstructor
-	@Builder
+	@Builder(toBuilder = true)
 	public static class SearchHit {
 		private Long parkingLotUid;
 		private String parkingLotName;
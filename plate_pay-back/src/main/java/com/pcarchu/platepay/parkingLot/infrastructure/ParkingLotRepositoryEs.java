@@ -3,8 +3,10 @@ package com.pcarchu.platepay.parkingLot.infrastructure;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
 import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
 import com.pcarchu.platepay.parkingLot.dto.searchdoc.ParkingLotDoc;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
 
 import co.elastic.clients.elasticsearch._types.DistanceUnit;
 import co.elastic.clients.elasticsearch._types.SortOptions;
@@ -32,6 +34,70 @@ public class ParkingLotRepositoryEs {
 		String keyword,
 		Pageable pageable
 	) {
+		// NativeQuery
+		org.springframework.data.elasticsearch.core.query.Query query = NativeQuery.builder()
+			.withQuery(buildQuery(keyword))
+			.withSort(sortByDistance(lat, lon))
+			.withPageable(pageable)
+			.build();
+
+		// 실행
+		var searchHits = operations.search(query, ParkingLotDoc.class);
+
+		List<ParkingLotResponseDto.SearchHit> content = new ArrayList<>();
+		for (SearchHit<ParkingLotDoc> hit : searchHits) {
+			content.add(toDto(hit));
+		}
+
+		return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+	}
+
+	/**
+	 * search_after 기반 커서 검색 (무한 스크롤)
+	 * 정렬: 거리 asc, parking_lot_uid asc (동률 처리). size + 1개를 받아 다음 페이지 여부를 판단한다.
+	 *
+	 * @param after 이전 페이지의 마지막 정렬 값 (처음이면 null)
+	 * @param trackTotalHits false면 전체 개수를 세지 않는다 (track_total_hits=false)
+	 */
+	public CursorPage<ParkingLotResponseDto.SearchHit> searchAfter(
+		double lat,
+		double lon,
+		String keyword,
+		GeoSearchCursor after,
+		int size,
+		boolean trackTotalHits
+	) {
+		var builder = NativeQuery.builder()
+			.withQuery(buildQuery(keyword))
+			.withSort(List.of(sortByDistance(lat, lon), sortByUid()))
+			.withTrackTotalHits(trackTotalHits)
+			.withMaxResults(size + 1);
+		if (after != null) {
+			builder.withSearchAfter(List.of(after.sortKey(), after.uid()));
+		}
+
+		var searchHits = operations.search(builder.build(), ParkingLotDoc.class);
+
+		List<ParkingLotResponseDto.SearchHit> content = new ArrayList<>(size);
+		GeoSearchCursor last = null;
+		for (SearchHit<ParkingLotDoc> hit : searchHits) {
+			if (content.size() == size) {
+				break;
+			}
+			content.add(toDto(hit));
+			last = nextCursor(hit);
+		}
+		boolean hasNext = searchHits.getSearchHits().size() > size;
+
+		return CursorPage.<ParkingLotResponseDto.SearchHit>builder()
+			.content(content)
+			.nextCursor(hasNext && last != null ? last.encode() : null)
+			.hasNext(hasNext)
+			.totalHits(trackTotalHits ? searchHits.getTotalHits() : null)
+			.build();
+	}
+
+	private Query buildQuery(String keyword) {
 		List<Query> filters = new ArrayList<>();
 
 		// 키워드 검색 (주차장 이름 기준)
@@ -42,37 +108,37 @@ public class ParkingLotRepositoryEs {
 			mustKeyword = null;
 		}
 
-		Query finalQuery = QueryBuilders.bool(b -> {
+		return QueryBuilders.bool(b -> {
 			if (mustKeyword != null) b.must(mustKeyword);
 			if (!filters.isEmpty()) b.filter(filters);
 			return b;
 		});
+	}
 
-		// 거리순 정렬
-		SortOptions sortByDistance = SortOptions.of(s -> s
+	// 거리순 정렬
+	private static SortOptions sortByDistance(double lat, double lon) {
+		return SortOptions.of(s -> s
 			.geoDistance(g -> g
 				.field("location")
 				.location(l -> l.latlon(ll -> ll.lat(lat).lon(lon)))
 				.order(SortOrder.Asc)
 				.unit(DistanceUnit.Kilometers))
 		);
+	}
 
-		// NativeQuery
-		org.springframework.data.elasticsearch.core.query.Query query = NativeQuery.builder()
-			.withQuery(finalQuery)
-			.withSort(sortByDistance)
-			.withPageable(pageable)
-			.build();
-
-		// 실행
-		var searchHits = operations.search(query, ParkingLotDoc.class);
+	private static SortOptions sortByUid() {
+		return SortOptions.of(s -> s.field(f -> f.field("parking_lot_uid").order(SortOrder.Asc)));
+	}
 
-		List<ParkingLotResponseDto.SearchHit> content = new ArrayList<>();
-		for (SearchHit<ParkingLotDoc> hit : searchHits) {
-			content.add(toDto(hit));
+	// 정렬 값 [거리, uid]
+	private static GeoSearchCursor nextCursor(SearchHit<?> hit) {
+		List<Object> sortValues = hit.getSortValues();
+		if (sortValues.size() < 2) {
+			return null;
 		}
-
-		return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+		return new GeoSearchCursor(GeoSearchCursor.ES,
+			((Number) sortValues.get(0)).doubleValue(),
+			((Number) sortValues.get(1)).longValue());
 	}
 
 	private ParkingLotResponseDto.SearchHit toDto(SearchHit<ParkingLotDoc> hit) {
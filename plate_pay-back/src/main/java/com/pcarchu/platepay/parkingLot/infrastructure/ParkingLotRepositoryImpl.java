@@ -3,20 +3,36 @@ package com.pcarchu.platepay.parkingLot.infrastructure;
 import java.util.List;
 import java.util.Optional;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.search.infrastructure.GeoSearchEngine;
+import com.pcarchu.platepay.search.infrastructure.GeoTileSearchCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ParkingLotRepositoryImpl implements ParkingLotRepository {
 
 	private final ParkingLotRepositoryQueryDsl parkingLotRepositoryQueryDsl;
 	private final ParkingLotRepositoryJpa parkingLotRepositoryJpa;
+	private final GeoSearchEngine geoSearchEngine;
+	private final GeoTileSearchCache geoTileSearchCache;
+
+	@Value("${geo.fallback.radius-km:10}")
+	private double fallbackRadiusKm;
 
 	@Override
 	public List<Car> findActiveCarsByParkingLotAndPlateNum(Long parkingLotUid, String plateNum) {
@@ -47,4 +63,41 @@ public class ParkingLotRepositoryImpl implements ParkingLotRepository {
 	public int count() {
 		return (int)parkingLotRepositoryJpa.count();
 	}
+
+	/**
+	 * 근접 검색 엔진(ES / 인메모리) 거리순 검색 (타일 캐시 경유), 엔진을 쓸 수 없으면 DB 반경 검색으로 대체
+	 */
+	@Override
+	public Page<ParkingLotResponseDto.SearchHit> search(double lat, double lon, String keyword, Pageable pageable) {
+		try {
+			return geoTileSearchCache.searchParkingLots(lat, lon, keyword, pageable);
+		} catch (DataAccessException e) {
+			log.warn("주차장 근접 검색 엔진 실패, DB 반경 검색({}km)으로 대체: {}", fallbackRadiusKm, e.getMessage());
+			return parkingLotRepositoryQueryDsl.searchWithin(lat, lon, fallbackRadiusKm, keyword, pageable);
+		}
+	}
+
+	/**
+	 * 거리순 커서 검색. 커서는 만든 경로(엔진 / DB)에서만 이어서 쓸 수 있다.
+	 * 엔진 실패 시 첫 페이지만 DB 반경 검색으로 대체하고, 중간 페이지면 처음부터 다시 검색하도록 한다.
+	 */
+	@Override
+	public CursorPage<ParkingLotResponseDto.SearchHit> scroll(double lat, double lon, String keyword,
+		GeoSearchCursor after, int size, boolean trackTotalHits) {
+		if (after != null && after.isFrom(GeoSearchCursor.DB)) {
+			return parkingLotRepositoryQueryDsl.scrollWithin(lat, lon, fallbackRadiusKm, keyword, after, size, trackTotalHits);
+		}
+		try {
+			return geoSearchEngine.scrollParkingLots(lat, lon, keyword, after, size, trackTotalHits);
+		} catch (DataAccessException e) {
+			log.warn("주차장 근접 검색 엔진 실패, DB 반경 검색({}km)으로 대체: {}", fallbackRadiusKm, e.getMessage());
+			GeoSearchCursor.requireSource(after, GeoSearchCursor.DB);
+			return parkingLotRepositoryQueryDsl.scrollWithin(lat, lon, fallbackRadiusKm, keyword, null, size, trackTotalHits);
+		}
+	}
+
+	@Override
+	public int backfillLocation() {
+		return parkingLotRepositoryJpa.backfillLocation();
+	}
 }
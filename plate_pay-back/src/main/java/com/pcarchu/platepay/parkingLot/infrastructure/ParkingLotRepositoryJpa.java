@@ -2,7 +2,26 @@ package com.pcarchu.platepay.parkingLot.infrastructure;
 
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface ParkingLotRepositoryJpa extends JpaRepository<ParkingLot, Long> {
 	boolean existsByParkingLotNameAndAddress(String parkingLotName, String address);
+
+	@Query("SELECT p FROM ParkingLot p " +
+		"JOIN FETCH p.parkingLotFee " +
+		"WHERE p.location.latE6 IS NOT NULL")
+	List<ParkingLot> findAllLocatedWithFee();
+
+	// 고정소수점 좌표 컬럼 추가 이전에 저장된 행 채우기
+	@Transactional
+	@Modifying
+	@Query("UPDATE ParkingLot p " +
+		"SET p.location.latE6 = CAST(ROUND(CAST(p.latitude AS Double) * 1000000, 0) AS Integer), " +
+		"p.location.lonE6 = CAST(ROUND(CAST(p.longitude AS Double) * 1000000, 0) AS Integer) " +
+		"WHERE p.location.latE6 IS NULL OR p.location.lonE6 IS NULL")
+	int backfillLocation();
 }
@@ -1,14 +1,27 @@
 package com.pcarchu.platepay.parkingLot.infrastructure;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.pcarchu.platepay.car.domain.entity.Car;
 import com.pcarchu.platepay.car.domain.entity.QCar;
 
+import com.pcarchu.platepay.common.domain.GeoPointQuery;
+import com.pcarchu.platepay.common.dto.CursorPage;
 import com.pcarchu.platepay.inOutHistory.domain.entity.QInOutHistory;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.domain.entity.QParkingLot;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -39,6 +52,7 @@ public class ParkingLotRepositoryQueryDsl {
 			.select(car)
 			.from(inOutHistory)
 			.join(inOutHistory.car, car)
+			.leftJoin(car.platePayFile).fetchJoin()
 			.where(
 				inOutHistory.parkingLot.parkingLotUid.eq(parkingLotUid),
 				inOutHistory.outTime.isNull(),
@@ -47,4 +61,116 @@ public class ParkingLotRepositoryQueryDsl {
 			.fetch();
 	}
 
+	/**
+	 * 반경 내 주차장을 가까운 순으로 조회한다 (ES 장애 시 대체 검색).
+	 *
+	 * 조건:
+	 *  - (lat, lon)에서 radiusKm 이내 (lat_e6, lon_e6 인덱스 범위 조회 후 원 판정)
+	 *  - 주차장 이름 부분 일치 (keyword가 있을 때)
+	 */
+	public Page<ParkingLotResponseDto.SearchHit> searchWithin(double lat, double lon, double radiusKm,
+		String keyword, Pageable pageable) {
+		QParkingLot parkingLot = QParkingLot.parkingLot;
+
+		BooleanBuilder where = within(lat, lon, radiusKm, keyword);
+
+		List<ParkingLot> parkingLots = queryFactory
+			.selectFrom(parkingLot)
+			.join(parkingLot.parkingLotFee).fetchJoin()
+			.where(where)
+			.orderBy(GeoPointQuery.distanceSquared(parkingLot.location, lat, lon).asc(), parkingLot.parkingLotUid.asc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		Long total = queryFactory
+			.select(parkingLot.count())
+			.from(parkingLot)
+			.where(where)
+			.fetchOne();
+
+		List<ParkingLotResponseDto.SearchHit> content = parkingLots.stream()
+			.map(p -> toDto(p, lat, lon))
+			.toList();
+		return new PageImpl<>(content, pageable, total != null ? total : 0L);
+	}
+
+	/**
+	 * searchWithin의 커서(keyset) 버전.
+	 * (거리², parkingLotUid)가 after보다 뒤인 것부터 size + 1개를 읽어 다음 페이지 여부를 판단한다.
+	 * 커서의 정렬 키는 DB가 계산한 거리² 값을 그대로 쓴다.
+	 *
+	 * @param trackTotalHits false면 count 쿼리를 생략한다
+	 */
+	public CursorPage<ParkingLotResponseDto.SearchHit> scrollWithin(double lat, double lon, double radiusKm,
+		String keyword, GeoSearchCursor after, int size, boolean trackTotalHits) {
+		QParkingLot parkingLot = QParkingLot.parkingLot;
+		NumberExpression<Double> distance = GeoPointQuery.distanceSquared(parkingLot.location, lat, lon);
+
+		BooleanBuilder where = within(lat, lon, radiusKm, keyword);
+		BooleanBuilder page = new BooleanBuilder(where);
+		if (after != null) {
+			page.and(distance.gt(after.sortKey())
+				.or(distance.eq(after.sortKey()).and(parkingLot.parkingLotUid.gt(after.uid()))));
+		}
+
+		List<Tuple> rows = queryFactory
+			.select(parkingLot, distance)
+			.from(parkingLot)
+			.join(parkingLot.parkingLotFee).fetchJoin()
+			.where(page)
+			.orderBy(distance.asc(), parkingLot.parkingLotUid.asc())
+			.limit(size + 1L)
+			.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<ParkingLotResponseDto.SearchHit> content = new ArrayList<>(Math.min(rows.size(), size));
+		GeoSearchCursor last = null;
+		for (Tuple row : rows.subList(0, Math.min(rows.size(), size))) {
+			ParkingLot p = row.get(parkingLot);
+			content.add(toDto(p, lat, lon));
+			last = new GeoSearchCursor(GeoSearchCursor.DB, row.get(distance), p.getParkingLotUid());
+		}
+
+		Long total = null;
+		if (trackTotalHits) {
+			total = queryFactory
+				.select(parkingLot.count())
+				.from(parkingLot)
+				.where(where)
+				.fetchOne();
+		}
+
+		return CursorPage.<ParkingLotResponseDto.SearchHit>builder()
+			.content(content)
+			.nextCursor(hasNext && last != null ? last.encode() : null)
+			.hasNext(hasNext)
+			.totalHits(total)
+			.build();
+	}
+
+	private BooleanBuilder within(double lat, double lon, double radiusKm, String keyword) {
+		QParkingLot parkingLot = QParkingLot.parkingLot;
+
+		BooleanBuilder where = new BooleanBuilder(GeoPointQuery.within(parkingLot.location, lat, lon, radiusKm));
+		if (keyword != null && !keyword.isBlank()) {
+			where.and(parkingLot.parkingLotName.contains(keyword));
+		}
+		return where;
+	}
+
+	private ParkingLotResponseDto.SearchHit toDto(ParkingLot p, double lat, double lon) {
+		return ParkingLotResponseDto.SearchHit.builder()
+			.parkingLotUid(p.getParkingLotUid())
+			.parkingLotName(p.getParkingLotName())
+			.address(p.getAddress())
+			.roadAddress(p.getRoadAddress())
+			.latitude(p.getLocation().latitude())
+			.longitude(p.getLocation().longitude())
+			.distanceKm(p.getLocation().distanceKm(lat, lon))
+			.primaryFee(p.getParkingLotFee().getPrimaryFee())
+			.additionalFee(p.getParkingLotFee().getAdditionalFee())
+			.build();
+	}
+
 }
@@ -6,16 +6,20 @@ import java.util.Optional;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
 import org.springframework.stereotype.Service;
 
-import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.car.dto.CarResponseDto;
+import com.pcarchu.platepay.inOutHistory.infrastructure.ActiveSessionIndex;
 import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ParkingLotServiceImpl implements ParkingLotService{
 
 	private final ParkingLotRepository parkingLotRepository;
+	private final ActiveSessionIndex activeSessionIndex;
 
 	/**
 	 * 특정 주차장 안에 현재 '입차 상태'인 차량들을 조회한다.
@@ -25,12 +29,36 @@ public class ParkingLotServiceImpl implements ParkingLotService{
 	 *  - 출차 시간(outTime)이 NULL → 아직 출차하지 않은 차량
 	 *  - 번호판 문자열이 부분 일치해야 함 (예: "1837" 입력 시 "227루1837" 매칭)
 	 *
+	 * 입차 세션 인덱스가 준비되어 있으면 인덱스 결과가 답이다. (결과가 없어도 DB를 조회하지 않는다)
+	 * 이벤트 유실은 주기 재구성이 복구하며, 복제 유실이 감지되어 인덱스가 stale인 동안만 DB에서 조회한다.
+	 *
 	 * @param parkingLotUid 주차장 UID
 	 * @param plateNum 번호판 검색어 (부분검색)
-	 * @return 조건에 맞는 Car 리스트
+	 * @return 조건에 맞는 차량 정보 리스트
 	 */
-	public List<Car> getActiveCars(Long parkingLotUid, String plateNum) {
-		return parkingLotRepository.findActiveCarsByParkingLotAndPlateNum(parkingLotUid, plateNum);
+	public List<CarResponseDto.CarInfo> getActiveCars(Long parkingLotUid, String plateNum) {
+		if (activeSessionIndex.isReady() && !activeSessionIndex.isStale()) {
+			return activeSessionIndex.search(parkingLotUid, plateNum).stream()
+					.map(session -> CarResponseDto.CarInfo.builder()
+							.carUid(session.getCarUid())
+							.nickName(session.getNickName())
+							.plateNum(session.getPlateNum())
+							.carModel(session.getCarModel())
+							.imgUrl(session.getImgUrl())
+							.build())
+					.toList();
+		}
+		log.debug("입차 세션 인덱스 준비 전 또는 stale, DB 조회: parkingLotId={}, plateNum={}", parkingLotUid, plateNum);
+
+		return parkingLotRepository.findActiveCarsByParkingLotAndPlateNum(parkingLotUid, plateNum).stream()
+				.map(car -> CarResponseDto.CarInfo.builder()
+						.carUid(car.getCarUid())
+						.nickName(car.getNickName())
+						.plateNum(car.getPlateNum())
+						.carModel(car.getCarModel())
+						.imgUrl(car.getPlatePayFile().getPath())
+						.build())
+				.toList();
 	}
 
 	public Optional<ParkingLot> getParkingLotById(Long id) {
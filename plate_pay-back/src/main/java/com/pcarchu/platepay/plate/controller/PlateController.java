@@ -1,7 +1,7 @@
 package com.pcarchu.platepay.plate.controller;
 
 import com.pcarchu.platepay.common.dto.ResponseDto;
-import com.pcarchu.platepay.plate.dto.PlateRequestDto;
+import com.pcarchu.platepay.plate.dto.PlateResponseDto;
 import com.pcarchu.platepay.plate.enums.GateEventType;
 import com.pcarchu.platepay.plate.service.PlateService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -23,7 +26,7 @@ public class PlateController {
     private final PlateService plateService;
     private final ResponseDto responseDto;
 
-    @Operation(summary = "자동차 번호판 검사", description = "자동차 번호판 검사를 수행합니다.")
+    @Operation(summary = "자동차 번호판 검사", description = "자동차 번호판 검사를 접수합니다. OCR 및 입/출차 처리는 비동기로 진행됩니다.")
     @PostMapping(
             value = "/scan",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE
@@ -35,16 +38,26 @@ public class PlateController {
         try {
             log.info("main enter() thread={}", Thread.currentThread().getName());
 
-            if (eventType == GateEventType.ENTRY) { // 입차
-                plateService.enter(parkingLotId, image);
-            } else if (eventType == GateEventType.EXIT) { // 출차
-                plateService.leave(parkingLotId, image);
-            }
+            PlateResponseDto.ScanStatus status = plateService.submitScan(eventType, parkingLotId, image);
 
-            return responseDto.success();
+            return responseDto.success(status, "번호판 검사 접수", HttpStatus.ACCEPTED);
+        } catch (RejectedExecutionException e) {
+            log.warn("번호판 검사 대기열이 가득 찼습니다. parkingLotId={}", parkingLotId);
+            return responseDto.fail("scan queue full", HttpStatus.SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error("자동차 번호판을 검사할 수 없습니다.", e);
             return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @Operation(summary = "번호판 검사 상태 조회", description = "접수된 번호판 검사의 진행 상태를 조회합니다.")
+    @GetMapping("/scan/{scanId}")
+    public ResponseEntity<?> getScanStatus(@PathVariable("scanId") String scanId) {
+        Optional<PlateResponseDto.ScanStatus> status = plateService.getScanStatus(scanId);
+        if (status.isEmpty()) {
+            return responseDto.fail("해당 검사 내역이 없습니다.", HttpStatus.NOT_FOUND);
+        }
+
+        return responseDto.success(status.get());
+    }
 }
\ No newline at end of file
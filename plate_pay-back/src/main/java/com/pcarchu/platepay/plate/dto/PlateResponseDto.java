@@ -1,4 +1,26 @@
 package com.pcarchu.platepay.plate.dto;
 
+import com.pcarchu.platepay.plate.enums.GateEventType;
+import com.pcarchu.platepay.plate.enums.ScanStage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
 public class PlateResponseDto {
+
+    @Builder(toBuilder = true)
+    @Getter
+    @AllArgsConstructor
+    public static class ScanStatus {
+        private String scanId;
+        private GateEventType eventType;
+        private Long parkingLotId;
+        private ScanStage stage;
+        private String plateNum;
+        private String message;
+        private LocalDateTime requestedAt;
+        private LocalDateTime updatedAt;
+    }
 }
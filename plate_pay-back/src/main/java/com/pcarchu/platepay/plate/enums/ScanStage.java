@@ -0,0 +1,5 @@
+package com.pcarchu.platepay.plate.enums;
+
+public enum ScanStage {
+    QUEUED, OCR, LOOKUP, FINALIZING, COMPLETED, FAILED
+}
@@ -1,8 +1,12 @@
 package com.pcarchu.platepay.plate.service;
 
+import com.pcarchu.platepay.plate.dto.PlateResponseDto;
+import com.pcarchu.platepay.plate.enums.GateEventType;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+
 public interface PlateService {
-    void enter(Long parkingLotId, MultipartFile image);
-    void leave(Long parkingLotId, MultipartFile image);
+    PlateResponseDto.ScanStatus submitScan(GateEventType eventType, Long parkingLotId, MultipartFile image);
+    Optional<PlateResponseDto.ScanStatus> getScanStatus(String scanId);
 }
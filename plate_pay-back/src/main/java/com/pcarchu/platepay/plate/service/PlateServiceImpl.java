@@ -1,34 +1,177 @@
 package com.pcarchu.platepay.plate.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pcarchu.platepay.car.service.CarService;
 import com.pcarchu.platepay.inOutHistory.service.InOutHistoryAsyncService;
+import com.pcarchu.platepay.plate.dto.PlateResponseDto;
+import com.pcarchu.platepay.plate.enums.GateEventType;
+import com.pcarchu.platepay.plate.enums.ScanStage;
 import com.pcarchu.platepay.util.OCRUtil;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+/**
+ * 번호판 스캔 파이프라인
+ *
+ * 게이트 카메라 요청은 이미지만 접수하고 바로 반환하며,
+ * OCR → 차량 조회 → 입/출차 확정 단계가 각자의 스레드 풀(동시 처리 한도)에서 순서대로 실행된다.
+ * 각 스캔의 진행 상태는 scanId로 조회할 수 있다.
+ * 이미지는 힙에 올리지 않고 임시 파일로 넘겨받아 OCR 서버로 스트리밍하며, 파이프라인이 끝나면 삭제한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PlateServiceImpl implements PlateService {
     private final InOutHistoryAsyncService inOutHistoryAsyncService;
+    private final CarService carService;
     private final OCRUtil ocrUtil;
+    private final Cache<String, PlateResponseDto.ScanStatus> plateScanStatusCache;
+
+    private final Executor ocrExecutor;
+    private final Executor lookupExecutor;
+
+    public PlateServiceImpl(InOutHistoryAsyncService inOutHistoryAsyncService,
+                            CarService carService,
+                            OCRUtil ocrUtil,
+                            Cache<String, PlateResponseDto.ScanStatus> plateScanStatusCache,
+                            @Qualifier("ocrExecutor") Executor ocrExecutor,
+                            @Qualifier("lookupExecutor") Executor lookupExecutor) {
+        this.inOutHistoryAsyncService = inOutHistoryAsyncService;
+        this.carService = carService;
+        this.ocrUtil = ocrUtil;
+        this.plateScanStatusCache = plateScanStatusCache;
+        this.ocrExecutor = ocrExecutor;
+        this.lookupExecutor = lookupExecutor;
+    }
 
     /**
-     * 자동차 입차
+     * 번호판 스캔 접수 (입차/출차)
+     * OCR 단계 큐가 가득 찬 경우 RejectedExecutionException이 그대로 전달된다.
      */
-    public void enter(Long parkingLotId, MultipartFile image) {
-        Map<String, Object> res = ocrUtil.processOCR(image);
-        inOutHistoryAsyncService.finalizeEnter(parkingLotId, res);
+    @Override
+    public PlateResponseDto.ScanStatus submitScan(GateEventType eventType, Long parkingLotId, MultipartFile image) {
+        // 요청이 끝나면 multipart 임시 파일이 삭제되므로 접수 시점에 파이프라인 소유의 임시 파일로 옮겨둔다.
+        // (디스크에 저장된 part는 rename, 메모리 part는 스트림 복사라 이미지 크기만큼 힙을 쓰지 않는다)
+        Path imageFile;
+        try {
+            imageFile = Files.createTempFile("plate-scan-", ".upload");
+        } catch (IOException e) {
+            throw new UncheckedIOException("번호판 이미지를 저장할 수 없습니다.", e);
+        }
+        try {
+            image.transferTo(imageFile.toFile());
+        } catch (IOException e) {
+            deleteQuietly(imageFile);
+            throw new UncheckedIOException("번호판 이미지를 읽을 수 없습니다.", e);
+        }
+        String contentType = image.getContentType();
+        String filename = image.getOriginalFilename();
+
+        LocalDateTime now = LocalDateTime.now();
+        PlateResponseDto.ScanStatus status = PlateResponseDto.ScanStatus.builder()
+                .scanId(UUID.randomUUID().toString())
+                .eventType(eventType)
+                .parkingLotId(parkingLotId)
+                .stage(ScanStage.QUEUED)
+                .requestedAt(now)
+                .updatedAt(now)
+                .build();
+        String scanId = status.getScanId();
+        plateScanStatusCache.put(scanId, status);
+
+        CompletableFuture<Map<String, Object>> ocr;
+        try {
+            ocr = CompletableFuture.supplyAsync(() -> {
+                try {
+                    changeStage(scanId, ScanStage.OCR, null);
+                    return ocrUtil.processOCR(new FileSystemResource(imageFile), contentType, filename);
+                } finally {
+                    deleteQuietly(imageFile);
+                }
+            }, ocrExecutor);
+        } catch (RuntimeException e) {
+            deleteQuietly(imageFile); // OCR 큐 초과
+            plateScanStatusCache.invalidate(scanId);
+            throw e;
+        }
+
+        ocr
+                .thenApplyAsync(res -> {
+                    changeStage(scanId, ScanStage.LOOKUP, null);
+                    return lookup(res);
+                }, lookupExecutor)
+                .thenCompose(res -> {
+                    changeStage(scanId, ScanStage.FINALIZING, (String) res.get("plate_number"));
+                    return (eventType == GateEventType.ENTRY)
+                            ? inOutHistoryAsyncService.finalizeEnter(parkingLotId, res) // 입차
+                            : inOutHistoryAsyncService.finalizeExit(parkingLotId, res); // 출차
+                })
+                .whenComplete((v, ex) -> {
+                    if (ex == null) {
+                        changeStage(scanId, ScanStage.COMPLETED, null);
+                        return;
+                    }
+                    Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                    log.error("번호판 스캔 처리 실패 scanId={}", scanId, cause);
+                    plateScanStatusCache.asMap().computeIfPresent(scanId, (k, s) -> s.toBuilder()
+                            .stage(ScanStage.FAILED)
+                            .message(cause.getMessage())
+                            .updatedAt(LocalDateTime.now())
+                            .build());
+                });
+
+        return status;
+    }
+
+    @Override
+    public Optional<PlateResponseDto.ScanStatus> getScanStatus(String scanId) {
+        return Optional.ofNullable(plateScanStatusCache.getIfPresent(scanId));
     }
 
     /**
-     * 자동차 출차
+     * OCR 결과 검증 및 등록 차량 확인
+     * 미등록 차량은 확정 단계(결제, 알림) 슬롯을 차지하기 전에 실패 처리한다.
      */
-    public void leave(Long parkingLotId, MultipartFile image) {
-        Map<String, Object> res = ocrUtil.processOCR(image);
-        inOutHistoryAsyncService.finalizeExit(parkingLotId, res);
+    private Map<String, Object> lookup(Map<String, Object> res) {
+        if (res == null || !res.containsKey("plate_number")) {
+            throw new RuntimeException("자동차 번호판 사진 인식에 실패했습니다.");
+        }
+
+        String plateNo = (String) res.get("plate_number");
+        carService.getCarByPlateNum(plateNo).orElseThrow(
+                () -> new RuntimeException("자동차가 존재하지 않습니다.")
+        );
+
+        return res;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("번호판 이미지 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private void changeStage(String scanId, ScanStage stage, String plateNum) {
+        plateScanStatusCache.asMap().computeIfPresent(scanId, (k, s) -> s.toBuilder()
+                .stage(stage)
+                .plateNum(plateNum != null ? plateNum : s.getPlateNum())
+                .updatedAt(LocalDateTime.now())
+                .build());
     }
-}
\ No newline at end of file
+}
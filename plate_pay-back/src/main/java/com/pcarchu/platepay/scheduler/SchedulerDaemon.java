@@ -1,4 +1,57 @@
 package com.pcarchu.platepay.scheduler;
 
+import com.pcarchu.platepay.inOutHistory.infrastructure.ActiveSessionIndex;
+import com.pcarchu.platepay.search.infrastructure.GeoTileSearchCache;
+import com.pcarchu.platepay.security.revocation.TokenRevocationChecker;
+import com.pcarchu.platepay.settlement.service.PaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
 public class SchedulerDaemon {
+    private final PaymentOutboxService paymentOutboxService;
+    private final TokenRevocationChecker tokenRevocationChecker;
+    private final GeoTileSearchCache geoTileSearchCache;
+    private final ActiveSessionIndex activeSessionIndex;
+
+    // 결제 outbox 발송 (출차 직후 즉시 발송이 실패했거나 재시도 대기 중인 건)
+    @Scheduled(fixedDelayString = "${settlement.outbox.poll-interval:5000}")
+    public void dispatchPaymentOutbox() {
+        try {
+            int count = paymentOutboxService.dispatchDue();
+            if (count > 0) {
+                log.info("결제 outbox 발송: {}건", count);
+            }
+        } catch (Exception e) {
+            log.error("결제 outbox 발송 실패: {}", e.getMessage());
+        }
+    }
+
+    // stale token 필터 재동기화 (pub/sub 메시지 유실 대비)
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval:30000}")
+    public void syncRevokedTokens() {
+        tokenRevocationChecker.sync();
+    }
+
+    // 인메모리 근접 검색 인덱스 재생성 (ES 엔진은 아무것도 하지 않음) 후 타일 캐시 비우기
+    @Scheduled(initialDelayString = "${geo.search.in-memory.refresh-interval:300000}",
+            fixedDelayString = "${geo.search.in-memory.refresh-interval:300000}")
+    public void refreshGeoSearch() {
+        try {
+            geoTileSearchCache.refresh();
+        } catch (Exception e) {
+            log.error("근접 검색 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 입차 세션 인덱스 재구성 (복제 메시지 유실, 이벤트 없이 바뀐 DB 반영)
+    @Scheduled(initialDelayString = "${active-session.resync-interval:600000}",
+            fixedDelayString = "${active-session.resync-interval:600000}")
+    public void resyncActiveSessions() {
+        activeSessionIndex.rebuild();
+    }
 }
@@ -0,0 +1,54 @@
+package com.pcarchu.platepay.search.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 검색 커서 (마지막 결과의 정렬 키 + UID)
+ *
+ * 정렬 키는 커서를 만든 검색 경로(source)마다 의미가 다르다.
+ *  - ES / MEMORY : haversine 거리(km)
+ *  - DB          : 등거리 근사 거리² (GeoPointQuery.distanceSquared)
+ * 그래서 같은 경로에서만 이어서 검색할 수 있고, 같은 검색 조건(위치, 필터)으로 요청해야 한다.
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record GeoSearchCursor(String source, double sortKey, long uid) {
+    public static final String ES = "es";
+    public static final String MEMORY = "mem";
+    public static final String DB = "db";
+
+    public String encode() {
+        String raw = source + ":" + sortKey + ":" + uid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static GeoSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+            }
+            return new GeoSearchCursor(parts[0], Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다.", e);
+        }
+    }
+
+    public boolean isFrom(String source) {
+        return this.source.equals(source);
+    }
+
+    // 다른 경로에서 만든 커서로 이어서 검색할 수 없음
+    public static void requireSource(GeoSearchCursor after, String source) {
+        if (after != null && !after.isFrom(source)) {
+            throw new IllegalArgumentException("검색 경로가 바뀌어 이어서 조회할 수 없습니다. 처음부터 다시 검색해 주세요.");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.parkingLot.infrastructure.ParkingLotRepositoryEs;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import com.pcarchu.platepay.store.infrastructure.StoreRepositoryEs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "geo.search.engine", havingValue = "ELASTICSEARCH", matchIfMissing = true)
+public class ElasticsearchGeoSearchEngine implements GeoSearchEngine {
+    private final StoreRepositoryEs storeRepositoryEs;
+    private final ParkingLotRepositoryEs parkingLotRepositoryEs;
+
+    @Override
+    public Page<StoreResponseDto.SearchHit> searchStores(double lat, double lon, StoreType type, String keyword, Pageable pageable) {
+        return storeRepositoryEs.search(lat, lon, type, keyword, pageable);
+    }
+
+    @Override
+    public Page<ParkingLotResponseDto.SearchHit> searchParkingLots(double lat, double lon, String keyword, Pageable pageable) {
+        return parkingLotRepositoryEs.search(lat, lon, keyword, pageable);
+    }
+
+    @Override
+    public CursorPage<StoreResponseDto.SearchHit> scrollStores(double lat, double lon, StoreType type, String keyword,
+                                                               GeoSearchCursor after, int size, boolean trackTotalHits) {
+        GeoSearchCursor.requireSource(after, GeoSearchCursor.ES);
+        return storeRepositoryEs.searchAfter(lat, lon, type, keyword, after, size, trackTotalHits);
+    }
+
+    @Override
+    public CursorPage<ParkingLotResponseDto.SearchHit> scrollParkingLots(double lat, double lon, String keyword,
+                                                                         GeoSearchCursor after, int size, boolean trackTotalHits) {
+        GeoSearchCursor.requireSource(after, GeoSearchCursor.ES);
+        return parkingLotRepositoryEs.searchAfter(lat, lon, keyword, after, size, trackTotalHits);
+    }
+}
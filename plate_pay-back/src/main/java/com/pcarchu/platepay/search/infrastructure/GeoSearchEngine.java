@@ -0,0 +1,43 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 매장/주차장 근접 검색 엔진 (geo.search.engine)
+ *  - ELASTICSEARCH : ES geo_distance 정렬 (기본값)
+ *  - IN_MEMORY     : 인스턴스 메모리의 격자 + 역색인 (ES 불필요)
+ *
+ * 검색할 수 없는 상태(ES 장애, 인덱스 준비 전)에서는 DataAccessException을 던지며,
+ * 호출하는 저장소가 DB 반경 검색으로 대체한다.
+ */
+public interface GeoSearchEngine {
+
+    Page<StoreResponseDto.SearchHit> searchStores(double lat, double lon, StoreType type, String keyword, Pageable pageable);
+
+    Page<ParkingLotResponseDto.SearchHit> searchParkingLots(double lat, double lon, String keyword, Pageable pageable);
+
+    /**
+     * 거리순 커서 검색 (거리, UID 순으로 after 다음부터 최대 size개)
+     *
+     * @param after 이 엔진이 만든 커서 (처음이면 null)
+     * @param trackTotalHits false면 전체 개수를 세지 않는다
+     * @throws IllegalArgumentException 다른 검색 경로에서 만든 커서
+     */
+    CursorPage<StoreResponseDto.SearchHit> scrollStores(double lat, double lon, StoreType type, String keyword,
+                                                        GeoSearchCursor after, int size, boolean trackTotalHits);
+
+    CursorPage<ParkingLotResponseDto.SearchHit> scrollParkingLots(double lat, double lon, String keyword,
+                                                                  GeoSearchCursor after, int size, boolean trackTotalHits);
+
+    /**
+     * 원본 데이터 변경 반영 (메모리 인덱스를 쓰는 구현만)
+     */
+    default void refresh() {
+    }
+}
@@ -0,0 +1,269 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pcarchu.platepay.common.domain.GeoPoint;
+import com.pcarchu.platepay.common.event.GeoPlaceChanged;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 근접 검색 결과 타일 캐시
+ *
+ * 같은 주차장 주변 지도 사용자는 거의 같은 위치/조건으로 검색하므로, 검색 지점을 cell-degrees 격자 칸(geohash 칸과 같은 역할)으로
+ * 양자화하고 (칸, 매장 타입, 키워드)마다 칸 중심에서 가까운 후보 candidates개를 엔진에서 한 번만 받아 둔다.
+ * 요청마다 후보를 요청 지점 기준 정확한 거리로 다시 정렬해 페이지를 잘라 준다.
+ *  - 칸 중심에서 가장 먼 후보까지의 거리(coverKm)를 기록해 두고, 요청 지점에서 coverKm - (요청 지점 ~ 칸 중심) 안쪽은
+ *    후보에 빠짐없이 들어 있다(삼각 부등식). 페이지의 마지막 결과가 그 안쪽이면 엔진 결과와 같고,
+ *    아니면(깊은 페이지, 후보가 성긴 지역) 캐시 없이 엔진으로 바로 검색한다.
+ *  - 전체 개수는 위치와 무관하므로(엔진은 거리로 정렬만 하고 거르지 않는다) 그대로 쓴다.
+ *  - 매장/주차장이 바뀌면(GeoPlaceChanged) 캐시를 비우고, eventExecutor에서 엔진 인덱스를 다시 만든 뒤 한 번 더 비운다.
+ *    인메모리 엔진은 인덱스를 새로 만들어야 변경이 보이며, 연달아 바뀌면 재생성은 한 번으로 합친다.
+ *    외부에서 색인되는 ES 변경과 다른 노드의 변경은 ttl로 반영된다.
+ * 엔진 실패(DataAccessException)는 그대로 던져 저장소의 DB 반경 검색 대체가 동작하게 한다.
+ */
+@Slf4j
+@Component
+public class GeoTileSearchCache {
+    // ES 정렬(geo_point 인코딩 오차)과 haversine 재계산 차이 여유분
+    private static final double MARGIN_KM = 0.01;
+
+    private static final HitType<StoreResponseDto.SearchHit> STORE_HITS = new HitType<>(
+            StoreResponseDto.SearchHit::getStoreUid,
+            StoreResponseDto.SearchHit::getLatitude,
+            StoreResponseDto.SearchHit::getLongitude,
+            (h, d) -> h.toBuilder().distanceKm(d).build());
+
+    private static final HitType<ParkingLotResponseDto.SearchHit> PARKING_LOT_HITS = new HitType<>(
+            ParkingLotResponseDto.SearchHit::getParkingLotUid,
+            h -> h.getLatitude() != null ? h.getLatitude() : Double.NaN,
+            h -> h.getLongitude() != null ? h.getLongitude() : Double.NaN,
+            (h, d) -> h.toBuilder().distanceKm(d).build());
+
+    private final GeoSearchEngine geoSearchEngine;
+    private final Cache<TileKey, Tile<StoreResponseDto.SearchHit>> storeGeoTileCache;
+    private final Cache<TileKey, Tile<ParkingLotResponseDto.SearchHit>> parkingLotGeoTileCache;
+    private final boolean enabled;
+    private final double cellDegrees;
+    private final int candidates;
+    private final Executor eventExecutor;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    public GeoTileSearchCache(GeoSearchEngine geoSearchEngine,
+                              Cache<TileKey, Tile<StoreResponseDto.SearchHit>> storeGeoTileCache,
+                              Cache<TileKey, Tile<ParkingLotResponseDto.SearchHit>> parkingLotGeoTileCache,
+                              @Qualifier("eventExecutor") Executor eventExecutor,
+                              @Value("${geo.search.tile-cache.enabled:true}") boolean enabled,
+                              @Value("${geo.search.tile-cache.cell-degrees:0.005}") double cellDegrees,
+                              @Value("${geo.search.tile-cache.candidates:200}") int candidates) {
+        this.geoSearchEngine = geoSearchEngine;
+        this.storeGeoTileCache = storeGeoTileCache;
+        this.parkingLotGeoTileCache = parkingLotGeoTileCache;
+        this.enabled = enabled;
+        this.cellDegrees = cellDegrees;
+        this.candidates = candidates;
+        this.eventExecutor = eventExecutor;
+    }
+
+    public Page<StoreResponseDto.SearchHit> searchStores(double lat, double lon, StoreType type, String keyword, Pageable pageable) {
+        String term = normalize(keyword);
+        if (!cacheable(pageable)) {
+            return geoSearchEngine.searchStores(lat, lon, type, term, pageable);
+        }
+        TileKey key = TileKey.of(lat, lon, cellDegrees, type, term);
+        Tile<StoreResponseDto.SearchHit> tile = storeGeoTileCache.get(key, k -> Tile.of(
+                geoSearchEngine.searchStores(k.centerLat(cellDegrees), k.centerLon(cellDegrees), type, term, PageRequest.of(0, candidates)),
+                k.centerLat(cellDegrees), k.centerLon(cellDegrees), STORE_HITS));
+
+        Page<StoreResponseDto.SearchHit> page = tile.page(lat, lon, pageable, STORE_HITS);
+        if (page == null) {
+            log.debug("매장 검색 타일 범위 밖, 엔진 직접 검색: cell={}, page={}", key, pageable);
+            return geoSearchEngine.searchStores(lat, lon, type, term, pageable);
+        }
+        return page;
+    }
+
+    public Page<ParkingLotResponseDto.SearchHit> searchParkingLots(double lat, double lon, String keyword, Pageable pageable) {
+        String term = normalize(keyword);
+        if (!cacheable(pageable)) {
+            return geoSearchEngine.searchParkingLots(lat, lon, term, pageable);
+        }
+        TileKey key = TileKey.of(lat, lon, cellDegrees, null, term);
+        Tile<ParkingLotResponseDto.SearchHit> tile = parkingLotGeoTileCache.get(key, k -> Tile.of(
+                geoSearchEngine.searchParkingLots(k.centerLat(cellDegrees), k.centerLon(cellDegrees), term, PageRequest.of(0, candidates)),
+                k.centerLat(cellDegrees), k.centerLon(cellDegrees), PARKING_LOT_HITS));
+
+        Page<ParkingLotResponseDto.SearchHit> page = tile.page(lat, lon, pageable, PARKING_LOT_HITS);
+        if (page == null) {
+            log.debug("주차장 검색 타일 범위 밖, 엔진 직접 검색: cell={}, page={}", key, pageable);
+            return geoSearchEngine.searchParkingLots(lat, lon, term, pageable);
+        }
+        return page;
+    }
+
+    /**
+     * 엔진 원본 갱신 후 캐시 비우기 (인메모리 엔진은 인덱스를 새로 만든 뒤여야 이전 결과가 다시 캐시되지 않는다)
+     * 변경 이벤트와 주기 갱신이 겹치면 나중 요청이 앞선 재생성을 기다렸다가 최신 데이터로 다시 만든다.
+     */
+    public synchronized void refresh() {
+        geoSearchEngine.refresh();
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        storeGeoTileCache.invalidateAll();
+        parkingLotGeoTileCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGeoPlaceChanged(GeoPlaceChanged event) {
+        storeGeoTileCache.invalidateAll();
+        // 매장 검색 결과에도 주차장 이름이 들어 있으므로 주차장 변경은 둘 다 비운다
+        if (event.type() == GeoPlaceChanged.Type.PARKING_LOT) {
+            parkingLotGeoTileCache.invalidateAll();
+        }
+        requestRefresh();
+    }
+
+    // 대기 중인 재생성이 있으면 합친다 (실행 시작 전에 표시를 풀어, 재생성 도중의 변경은 다음 재생성으로 반영)
+    private void requestRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            eventExecutor.execute(() -> {
+                refreshPending.set(false);
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    log.error("근접 검색 인덱스 갱신 실패 (주기 갱신으로 반영): {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshPending.set(false);
+            log.warn("근접 검색 인덱스 갱신 대기열 초과 (주기 갱신으로 반영)");
+        }
+    }
+
+    // 정렬 지정 없이 후보 범위 안쪽 페이지만
+    private boolean cacheable(Pageable pageable) {
+        return enabled
+                && pageable.isPaged()
+                && pageable.getSort().isUnsorted()
+                && pageable.getOffset() + pageable.getPageSize() <= candidates;
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null || keyword.isBlank() ? null : keyword.trim().replaceAll("\\s+", " ");
+    }
+
+    public record TileKey(int cellX, int cellY, Object category, String keyword) {
+
+        static TileKey of(double lat, double lon, double cellDegrees, Object category, String keyword) {
+            return new TileKey((int) Math.floor(lon / cellDegrees), (int) Math.floor(lat / cellDegrees), category, keyword);
+        }
+
+        double centerLat(double cellDegrees) {
+            return (cellY + 0.5) * cellDegrees;
+        }
+
+        double centerLon(double cellDegrees) {
+            return (cellX + 0.5) * cellDegrees;
+        }
+    }
+
+    /**
+     * 칸 하나의 후보
+     *
+     * @param complete 조건에 맞는 전체가 후보에 다 들어 있음 (범위 판정 불필요)
+     * @param coverKm 칸 중심에서 가장 먼 후보까지의 거리
+     */
+    public record Tile<T>(List<T> hits, long[] uids, double[] lat, double[] lon,
+                          double centerLat, double centerLon, long total, boolean complete, double coverKm) {
+
+        // 좌표가 없는 결과(엔진 정렬상 맨 뒤)는 후보에서 빼고, 그만큼 전체가 다 들어 있지 않은 것으로 본다
+        static <T> Tile<T> of(Page<T> page, double centerLat, double centerLon, HitType<T> type) {
+            List<T> located = new ArrayList<>(page.getNumberOfElements());
+            List<double[]> points = new ArrayList<>(page.getNumberOfElements());
+            for (T h : page.getContent()) {
+                double lat = type.latitude().applyAsDouble(h);
+                double lon = type.longitude().applyAsDouble(h);
+                if (!Double.isNaN(lat) && !Double.isNaN(lon)) {
+                    located.add(h);
+                    points.add(new double[]{lat, lon});
+                }
+            }
+
+            int n = located.size();
+            long[] uids = new long[n];
+            double[] lat = new double[n];
+            double[] lon = new double[n];
+            double coverKm = 0;
+            for (int i = 0; i < n; i++) {
+                uids[i] = type.uid().applyAsLong(located.get(i));
+                lat[i] = points.get(i)[0];
+                lon[i] = points.get(i)[1];
+                coverKm = Math.max(coverKm, GeoPoint.distanceKm(centerLat, centerLon, lat[i], lon[i]));
+            }
+            boolean complete = page.getTotalElements() <= n;
+            return new Tile<>(List.copyOf(located), uids, lat, lon, centerLat, centerLon,
+                    page.getTotalElements(), complete, coverKm);
+        }
+
+        /**
+         * (lat, lon) 기준 거리순 페이지, 후보만으로 정확히 답할 수 없으면 null
+         */
+        Page<T> page(double latitude, double longitude, Pageable pageable, HitType<T> type) {
+            int n = hits.size();
+            double[] dist = new double[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                dist[i] = GeoPoint.distanceKm(latitude, longitude, lat[i], lon[i]);
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> dist[i]).thenComparingLong(i -> uids[i]));
+
+            int from = (int) pageable.getOffset();
+            int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), complete ? n : total);
+            if (!complete) {
+                double guaranteedKm = coverKm - GeoPoint.distanceKm(latitude, longitude, centerLat, centerLon) - MARGIN_KM;
+                if (to > n || (to > 0 && dist[order[to - 1]] >= guaranteedKm)) {
+                    return null;
+                }
+            }
+
+            List<T> content = new ArrayList<>(Math.max(to - from, 0));
+            for (int i = from; i < to; i++) {
+                content.add(type.withDistance().apply(hits.get(order[i]), dist[order[i]]));
+            }
+            return new PageImpl<>(content, pageable, total);
+        }
+    }
+
+    record HitType<T>(ToLongFunction<T> uid,
+                      ToDoubleFunction<T> latitude,
+                      ToDoubleFunction<T> longitude,
+                      BiFunction<T, Double, T> withDistance) {
+    }
+}
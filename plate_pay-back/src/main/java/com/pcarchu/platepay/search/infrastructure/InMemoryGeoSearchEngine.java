@@ -0,0 +1,206 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.common.index.GeoTextIndex;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.parkingLot.infrastructure.ParkingLotRepositoryJpa;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.store.domain.entity.Store;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import com.pcarchu.platepay.store.infrastructure.StoreRepositoryJpa;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 인메모리 근접 검색 엔진
+ *
+ * 매장/주차장 전체(광주 데이터셋 수천 건)를 GeoTextIndex(격자 + 이름 bigram + 매장 타입 BitSet)로 올려 두고
+ * ES와 같은 SearchHit 페이지(거리순, 거리 포함, 전체 개수)와 (거리, UID) 커서 페이지를 돌려준다.
+ * 인덱스는 기동 시와 refresh 주기마다 DB에서 새로 만들어 통째로 교체하므로, 검색 중에는 락이 없다.
+ * 첫 적재 전에는 DataAccessResourceFailureException을 던져 DB 반경 검색으로 대체되게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "geo.search.engine", havingValue = "IN_MEMORY")
+public class InMemoryGeoSearchEngine implements GeoSearchEngine {
+    private final StoreRepositoryJpa storeRepositoryJpa;
+    private final ParkingLotRepositoryJpa parkingLotRepositoryJpa;
+    private final TransactionTemplate readOnlyTx;
+    private final double cellDegrees;
+
+    private volatile GeoTextIndex<StoreResponseDto.SearchHit> stores;
+    private volatile GeoTextIndex<ParkingLotResponseDto.SearchHit> parkingLots;
+
+    public InMemoryGeoSearchEngine(StoreRepositoryJpa storeRepositoryJpa,
+                                   ParkingLotRepositoryJpa parkingLotRepositoryJpa,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${geo.search.in-memory.cell-degrees:0.01}") double cellDegrees) {
+        this.storeRepositoryJpa = storeRepositoryJpa;
+        this.parkingLotRepositoryJpa = parkingLotRepositoryJpa;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.cellDegrees = cellDegrees;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refresh();
+    }
+
+    @Override
+    public void refresh() {
+        long start = System.nanoTime();
+        List<StoreResponseDto.SearchHit> storeHits = readOnlyTx.execute(status ->
+                storeRepositoryJpa.findAllLocatedWithParkingLot().stream().map(this::toHit).toList());
+        List<ParkingLotResponseDto.SearchHit> parkingLotHits = readOnlyTx.execute(status ->
+                parkingLotRepositoryJpa.findAllLocatedWithFee().stream().map(this::toHit).toList());
+
+        stores = GeoTextIndex.build(storeHits,
+                StoreResponseDto.SearchHit::getStoreUid,
+                StoreResponseDto.SearchHit::getLatitude,
+                StoreResponseDto.SearchHit::getLongitude,
+                StoreResponseDto.SearchHit::getStoreName,
+                StoreResponseDto.SearchHit::getStoreType,
+                cellDegrees);
+        parkingLots = GeoTextIndex.build(parkingLotHits,
+                ParkingLotResponseDto.SearchHit::getParkingLotUid,
+                ParkingLotResponseDto.SearchHit::getLatitude,
+                ParkingLotResponseDto.SearchHit::getLongitude,
+                ParkingLotResponseDto.SearchHit::getParkingLotName,
+                p -> null,
+                cellDegrees);
+
+        log.info("인메모리 근접 검색 인덱스 갱신: 매장 {}건, 주차장 {}건 ({}ms)",
+                storeHits.size(), parkingLotHits.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public Page<StoreResponseDto.SearchHit> searchStores(double lat, double lon, StoreType type, String keyword, Pageable pageable) {
+        GeoTextIndex<StoreResponseDto.SearchHit> index = storeIndex();
+        GeoTextIndex.Result<StoreResponseDto.SearchHit> res =
+                index.search(lat, lon, type, keyword, pageable.getOffset(), pageable.getPageSize());
+        List<StoreResponseDto.SearchHit> content = res.hits().stream()
+                .map(h -> withDistance(h.value(), h.distanceKm()))
+                .toList();
+        return new PageImpl<>(content, pageable, res.total());
+    }
+
+    @Override
+    public Page<ParkingLotResponseDto.SearchHit> searchParkingLots(double lat, double lon, String keyword, Pageable pageable) {
+        GeoTextIndex<ParkingLotResponseDto.SearchHit> index = parkingLotIndex();
+        GeoTextIndex.Result<ParkingLotResponseDto.SearchHit> res =
+                index.search(lat, lon, null, keyword, pageable.getOffset(), pageable.getPageSize());
+        List<ParkingLotResponseDto.SearchHit> content = res.hits().stream()
+                .map(h -> withDistance(h.value(), h.distanceKm()))
+                .toList();
+        return new PageImpl<>(content, pageable, res.total());
+    }
+
+    @Override
+    public CursorPage<StoreResponseDto.SearchHit> scrollStores(double lat, double lon, StoreType type, String keyword,
+                                                               GeoSearchCursor after, int size, boolean trackTotalHits) {
+        GeoSearchCursor.requireSource(after, GeoSearchCursor.MEMORY);
+        GeoTextIndex.Scroll<StoreResponseDto.SearchHit> res =
+                storeIndex().searchAfter(lat, lon, type, keyword, position(after), size, trackTotalHits);
+        return toCursorPage(res, h -> withDistance(h.value(), h.distanceKm()));
+    }
+
+    @Override
+    public CursorPage<ParkingLotResponseDto.SearchHit> scrollParkingLots(double lat, double lon, String keyword,
+                                                                         GeoSearchCursor after, int size, boolean trackTotalHits) {
+        GeoSearchCursor.requireSource(after, GeoSearchCursor.MEMORY);
+        GeoTextIndex.Scroll<ParkingLotResponseDto.SearchHit> res =
+                parkingLotIndex().searchAfter(lat, lon, null, keyword, position(after), size, trackTotalHits);
+        return toCursorPage(res, h -> withDistance(h.value(), h.distanceKm()));
+    }
+
+    private GeoTextIndex<StoreResponseDto.SearchHit> storeIndex() {
+        GeoTextIndex<StoreResponseDto.SearchHit> index = stores;
+        if (index == null) {
+            throw new DataAccessResourceFailureException("인메모리 매장 검색 인덱스가 아직 준비되지 않았습니다.");
+        }
+        return index;
+    }
+
+    private GeoTextIndex<ParkingLotResponseDto.SearchHit> parkingLotIndex() {
+        GeoTextIndex<ParkingLotResponseDto.SearchHit> index = parkingLots;
+        if (index == null) {
+            throw new DataAccessResourceFailureException("인메모리 주차장 검색 인덱스가 아직 준비되지 않았습니다.");
+        }
+        return index;
+    }
+
+    private static GeoTextIndex.Position position(GeoSearchCursor after) {
+        return after == null ? null : new GeoTextIndex.Position(after.sortKey(), after.uid());
+    }
+
+    private static <T> CursorPage<T> toCursorPage(GeoTextIndex.Scroll<T> res, Function<GeoTextIndex.Hit<T>, T> mapper) {
+        List<T> content = res.hits().stream().map(mapper).toList();
+        String nextCursor = null;
+        if (res.hasNext() && !res.hits().isEmpty()) {
+            GeoTextIndex.Hit<T> last = res.hits().get(res.hits().size() - 1);
+            nextCursor = new GeoSearchCursor(GeoSearchCursor.MEMORY, last.distanceKm(), last.id()).encode();
+        }
+        return CursorPage.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(res.hasNext())
+                .totalHits(res.total())
+                .build();
+    }
+
+    // 인덱스에 들어가는 값은 거리 없이 만들어 두고, 응답마다 거리를 채운 복사본을 돌려준다 (SearchHit은 가변 객체).
+    private StoreResponseDto.SearchHit toHit(Store s) {
+        return StoreResponseDto.SearchHit.builder()
+                .storeUid(s.getStoreUid())
+                .storeName(s.getStoreName())
+                .storeType(s.getStoreType())
+                .address(s.getAddress())
+                .roadAddress(s.getRoadAddress())
+                .storePhoneNum(s.getStorePhoneNum())
+                .storeUrl(s.getStoreUrl())
+                .latitude(s.getLocation().latitude())
+                .longitude(s.getLocation().longitude())
+                .openTime(s.getOpenTime())
+                .closeTime(s.getCloseTime())
+                .parkingId(s.getParkingLot().getParkingLotUid())
+                .parkingName(s.getParkingLot().getParkingLotName())
+                .build();
+    }
+
+    private ParkingLotResponseDto.SearchHit toHit(ParkingLot p) {
+        return ParkingLotResponseDto.SearchHit.builder()
+                .parkingLotUid(p.getParkingLotUid())
+                .parkingLotName(p.getParkingLotName())
+                .address(p.getAddress())
+                .roadAddress(p.getRoadAddress())
+                .latitude(p.getLocation().latitude())
+                .longitude(p.getLocation().longitude())
+                .primaryFee(p.getParkingLotFee().getPrimaryFee())
+                .additionalFee(p.getParkingLotFee().getAdditionalFee())
+                .build();
+    }
+
+    private static StoreResponseDto.SearchHit withDistance(StoreResponseDto.SearchHit h, double distanceKm) {
+        return h.toBuilder().distanceKm(distanceKm).build();
+    }
+
+    private static ParkingLotResponseDto.SearchHit withDistance(ParkingLotResponseDto.SearchHit h, double distanceKm) {
+        return h.toBuilder().distanceKm(distanceKm).build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.pcarchu.platepay.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import com.pcarchu.platepay.security.dto.VerifiedPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 필터의 로컬 인증 정보 캐시
+ *
+ * 캐시 적중 시 필터는 Redis(stale token)와 DB(회원) 조회 없이 인증을 마친다.
+ * 무효화는 요청마다 확인하지 않고 Redis pub/sub으로 모든 노드에 전달한다.
+ *  - T:{accessToken} : 로그아웃된 토큰
+ *  - M:{memberUid}   : 회원 정보 변경/탈퇴 (해당 회원의 모든 토큰)
+ * 메시지를 놓치더라도 항목은 max-ttl 이후 만료된다.
+ *
+ * 캐시 미스 경로(stale token 확인 → 회원 조회 → put) 도중 로그아웃/회원 무효화가 끼어들면 put이 무효화된 항목을 되살린다.
+ * 무효화마다 세대(generation)를 올리고, 미스 경로 시작 시 읽은 세대가 put 시점과 다르면 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedPrincipalCache implements MessageListener {
+    private static final String CHANNEL = "platepay:principal-invalidation";
+    private static final String TOKEN_PREFIX = "T:";
+    private static final String MEMBER_PREFIX = "M:";
+
+    private final Cache<String, VerifiedPrincipal> verifiedPrincipalCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<VerifiedPrincipal> get(String accessToken) {
+        VerifiedPrincipal principal = verifiedPrincipalCache.getIfPresent(accessToken);
+        if (principal == null || principal.getExpiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    /**
+     * 캐시 미스 경로 시작 시점의 무효화 세대 (stale token 확인 전에 읽는다)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * observedGeneration 이후 무효화가 없었을 때만 저장
+     * 무효화는 세대를 올린 뒤 항목을 지우므로, 저장 후 세대를 다시 확인하면 어느 순서로 겹쳐도 무효화된 항목이 남지 않는다.
+     *
+     * @return 저장 여부
+     */
+    public boolean put(String accessToken, LoginMember loginMember, Instant expiresAt, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            return false;
+        }
+        VerifiedPrincipal principal = VerifiedPrincipal.builder()
+                .loginMember(loginMember)
+                .expiresAt(expiresAt)
+                .build();
+        verifiedPrincipalCache.put(accessToken, principal);
+        if (generation.get() != observedGeneration) {
+            verifiedPrincipalCache.asMap().remove(accessToken, principal);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 로그아웃된 토큰 제거 (모든 노드)
+     */
+    public void revokeToken(String accessToken) {
+        invalidateLocal(accessToken);
+        publish(TOKEN_PREFIX + accessToken);
+    }
+
+    /**
+     * 회원 권한이 바뀌거나 탈퇴하면 캐시된 인증 정보가 낡으므로 해당 회원 항목 제거 (모든 노드)
+     * 트랜잭션 안이면 커밋 이후에 제거한다. (커밋 전에 지우면 다른 요청이 옛 값을 다시 캐시할 수 있다)
+     */
+    public void evictMember(Long memberUid) {
+        Runnable evict = () -> {
+            evictMemberLocal(memberUid);
+            publish(MEMBER_PREFIX + memberUid);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    private void invalidateLocal(String accessToken) {
+        generation.incrementAndGet();
+        verifiedPrincipalCache.invalidate(accessToken);
+    }
+
+    private void evictMemberLocal(Long memberUid) {
+        generation.incrementAndGet();
+        verifiedPrincipalCache.asMap().values()
+                .removeIf(p -> memberUid.equals(p.getLoginMember().getMemberUid()));
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("인증 캐시 무효화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(TOKEN_PREFIX)) {
+                invalidateLocal(body.substring(TOKEN_PREFIX.length()));
+            } else if (body.startsWith(MEMBER_PREFIX)) {
+                evictMemberLocal(Long.valueOf(body.substring(MEMBER_PREFIX.length())));
+            }
+        } catch (Exception e) {
+            log.warn("인증 캐시 무효화 수신 실패: {}", e.getMessage());
+        }
+    }
+}
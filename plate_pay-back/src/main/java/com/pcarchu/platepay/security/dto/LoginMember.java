@@ -0,0 +1,32 @@
+package com.pcarchu.platepay.security.dto;
+
+import com.pcarchu.platepay.member.domain.entity.Member;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 인증된 회원의 불변 식별 정보 (@AuthenticationPrincipal)
+ *
+ * 여러 요청이 공유하는 인증 캐시에 그대로 담기므로 엔티티 대신 바뀌지 않는 값만 둔다.
+ * 회원 상태를 읽거나 바꾸는 곳은 memberUid로 트랜잭션 안에서 Member를 다시 조회한다.
+ */
+@Getter
+@Builder
+public class LoginMember {
+    private final Long memberUid;
+    private final String email;
+    private final String loginType;
+    private final List<GrantedAuthority> authorities;
+
+    public static LoginMember from(Member member) {
+        return LoginMember.builder()
+                .memberUid(member.getMemberUid())
+                .email(member.getEmail())
+                .loginType(member.getLoginType())
+                .authorities(List.copyOf(member.getAuthorities()))
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.pcarchu.platepay.security.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 access token의 인증 정보 (VerifiedPrincipalCache 보관용)
+ */
+@Getter
+@Builder
+public class VerifiedPrincipal {
+    private final LoginMember loginMember;
+    private final Instant expiresAt; // 토큰 만료 시각
+}
@@ -2,8 +2,11 @@ package com.pcarchu.platepay.security.filter;
 
 import com.pcarchu.platepay.member.domain.entity.Member;
 import com.pcarchu.platepay.member.domain.repository.MemberRepository;
+import com.pcarchu.platepay.security.cache.VerifiedPrincipalCache;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import com.pcarchu.platepay.security.dto.VerifiedPrincipal;
 import com.pcarchu.platepay.security.provider.TokenProvider;
-import com.pcarchu.platepay.token.domain.repository.StaleTokenRepository;
+import com.pcarchu.platepay.security.revocation.TokenRevocationChecker;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,14 +23,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final MemberRepository memberRepository;
-    private final StaleTokenRepository staleTokenRepository;
+    private final TokenRevocationChecker tokenRevocationChecker;
     private final TokenProvider tokenProvider;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -62,44 +67,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 검증된 토큰이면 Redis/DB 조회 없이 인증
+        Optional<VerifiedPrincipal> cached = verifiedPrincipalCache.get(token);
+        if (cached.isPresent()) {
+            authenticate(request, cached.get().getLoginMember());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 확인 도중 로그아웃/회원 변경이 끼어들면 캐시에 넣지 않도록 확인 전에 무효화 세대를 읽어 둔다
+        long generation = verifiedPrincipalCache.generation();
         try {
-            if (staleTokenRepository.findByAccessToken(token).isPresent()) {
+            if (tokenRevocationChecker.isRevoked(token)) {
                 unauthorized(response, "stale token");
                 return;
             }
 
-            if (tokenProvider.validateToken(token)) {
-                Claims claims = tokenProvider.validateAndGetEmail(token);
-
-                String email = claims.getSubject();
-                String loginType = claims.get("loginType").toString();
-
-                Member member = memberRepository.findByEmailAndLoginType(email, loginType).orElse(null);
-                if (member != null) {
-                    UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(
-                                    member,
-                                    null,
-                                    member.getAuthorities()
-                            );
-                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContext context = SecurityContextHolder.createEmptyContext();
-                    context.setAuthentication(auth);
-                    SecurityContextHolder.setContext(context);
-                } else {
-                    // 사용자 없음: 401 처리(선택)
-                    unauthorized(response, "User not found");
-                    return;
-                }
+            // 서명/만료 검증과 클레임 추출을 한 번에 처리
+            Claims claims = tokenProvider.parseClaims(token);
+
+            String email = claims.getSubject();
+            String loginType = claims.get("loginType").toString();
+
+            Member member = memberRepository.findByEmailAndLoginType(email, loginType).orElse(null);
+            if (member != null) {
+                LoginMember loginMember = LoginMember.from(member);
+                verifiedPrincipalCache.put(token, loginMember, claims.getExpiration().toInstant(), generation);
+                authenticate(request, loginMember);
             } else {
-                // 토큰 검증 실패: 401 처리(선택)
-                unauthorized(response, "Invalid token");
+                // 사용자 없음: 401 처리(선택)
+                unauthorized(response, "User not found");
                 return;
             }
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             // 만료 토큰: 401
             unauthorized(response, "Token expired");
             return;
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            // 토큰 검증 실패: 401
+            unauthorized(response, "Invalid token");
+            return;
         } catch (Exception e) {
             log.error("JWT processing error", e);
             // 비정상 토큰: 401
@@ -110,6 +117,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, LoginMember loginMember) {
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(
+                        loginMember,
+                        null,
+                        loginMember.getAuthorities()
+                );
+        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(auth);
+        SecurityContextHolder.setContext(context);
+    }
+
     @SuppressWarnings("unused")
     private void unauthorized(HttpServletResponse response, String msg) throws IOException {
         SecurityContextHolder.clearContext();
@@ -0,0 +1,118 @@
+package com.pcarchu.platepay.security.pin;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pcarchu.platepay.common.event.VehicleExited;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * 키오스크 결제 비밀번호 검증
+ *
+ * 주차 세션에서 처음 bcrypt 검증에 성공하면 HMAC(세션, 저장된 bcrypt 해시, PIN)을 메모리에 보관하고,
+ * 같은 세션의 이후 결제는 HMAC 비교(수 μs)로 검증한다.
+ *  - HMAC 키는 기동 시 난수로 만들며 외부로 나가지 않는다 (재기동하면 bcrypt부터 다시).
+ *  - 저장된 해시를 입력에 포함하므로 비밀번호를 바꾸면 캐시가 자동으로 맞지 않게 된다.
+ *  - 번호판별 실패 횟수를 Redis에 기록해 max-failures를 넘으면 lock-duration 동안 검증하지 않는다 (빠른 경로 포함).
+ */
+@Slf4j
+@Component
+public class PayPinVerifier {
+    private static final String FAILURE_PREFIX = "platepay:pin-fail:";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<Long, byte[]> payPinVerifierCache;
+    private final PasswordEncoder passwordEncoder;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecretKeySpec hmacKey;
+    private final int maxFailures;
+    private final Duration lockDuration;
+
+    public PayPinVerifier(Cache<Long, byte[]> payPinVerifierCache,
+                          PasswordEncoder passwordEncoder,
+                          StringRedisTemplate stringRedisTemplate,
+                          @Value("${security.pay-pin.max-failures:5}") int maxFailures,
+                          @Value("${security.pay-pin.lock-duration:10m}") Duration lockDuration) {
+        this.payPinVerifierCache = payPinVerifierCache;
+        this.passwordEncoder = passwordEncoder;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxFailures = maxFailures;
+        this.lockDuration = lockDuration;
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @param inOutHistoryUid 현재 주차 세션 (없으면 캐시 없이 bcrypt만 사용)
+     */
+    public boolean verify(String plateNum, Long inOutHistoryUid, Member owner, String pin) {
+        if (pin == null || owner.getPayPwd() == null) {
+            return false;
+        }
+
+        String failureKey = FAILURE_PREFIX + plateNum;
+        String failures = stringRedisTemplate.opsForValue().get(failureKey);
+        if (failures != null && Integer.parseInt(failures) >= maxFailures) {
+            log.warn("결제 비밀번호 시도 제한: car={}", plateNum);
+            return false;
+        }
+
+        byte[] digest = inOutHistoryUid == null ? null : hmac(inOutHistoryUid, owner.getPayPwd(), pin);
+        if (digest != null) {
+            byte[] cached = payPinVerifierCache.getIfPresent(inOutHistoryUid);
+            if (cached != null && MessageDigest.isEqual(cached, digest)) {
+                return true;
+            }
+        }
+
+        if (!passwordEncoder.matches(pin, owner.getPayPwd())) {
+            Long count = stringRedisTemplate.opsForValue().increment(failureKey);
+            if (count != null && count == 1L) {
+                stringRedisTemplate.expire(failureKey, lockDuration);
+            }
+            return false;
+        }
+
+        if (failures != null) {
+            stringRedisTemplate.delete(failureKey);
+        }
+        if (digest != null) {
+            payPinVerifierCache.put(inOutHistoryUid, digest);
+        }
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleExited(VehicleExited event) {
+        payPinVerifierCache.invalidate(event.inOutHistoryUid());
+    }
+
+    private byte[] hmac(Long inOutHistoryUid, String storedHash, String pin) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(String.valueOf(inOutHistoryUid).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(storedHash.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(pin.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+}
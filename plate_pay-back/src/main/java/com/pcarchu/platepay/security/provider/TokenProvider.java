@@ -3,10 +3,11 @@ package com.pcarchu.platepay.security.provider;
 import com.pcarchu.platepay.token.dto.TokenResponseDto;
 import com.pcarchu.platepay.member.domain.entity.Member;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
@@ -16,9 +17,9 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TokenProvider {
-    @Value("${jwt.secret}")
-    private String key;
+    private final TokenVerifier tokenVerifier;
     private static final String AUTHORITIES_KEY = "auth";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L; // 60분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;  // 7일
@@ -33,8 +34,7 @@ public class TokenProvider {
 
         Member member = (Member) authentication.getPrincipal();
 
-        String accessToken = Jwts.builder()
-                .signWith(SignatureAlgorithm.HS512, key)
+        String accessToken = builder()
                 .setSubject(member.getEmail())
                 .claim("memberUid", member.getMemberUid())
                 .claim("loginType", member.getLoginType())
@@ -44,9 +44,8 @@ public class TokenProvider {
                 .setExpiration(accessTokenExpiresIn)
                 .compact();
 
-        String refreshToken = Jwts.builder()
+        String refreshToken = builder()
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
-                .signWith(SignatureAlgorithm.HS512, key)
                 .setIssuer("plate pay")
                 .compact();
 
@@ -65,8 +64,7 @@ public class TokenProvider {
         String authorities = String.join(",", member.getRoles());
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
 
-        String accessToken = Jwts.builder()
-                .signWith(SignatureAlgorithm.HS512, key)
+        String accessToken = builder()
                 .setSubject(member.getEmail())
                 .claim("memberUid", member.getMemberUid())
                 .claim("loginType", member.getLoginType())
@@ -76,9 +74,8 @@ public class TokenProvider {
                 .setExpiration(accessTokenExpiresIn)
                 .compact();
 
-        String refreshToken = Jwts.builder()
+        String refreshToken = builder()
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
-                .signWith(SignatureAlgorithm.HS512, key)
                 .setIssuer("plate pay")
                 .compact();
 
@@ -97,8 +94,7 @@ public class TokenProvider {
 
         long now = (new Date()).getTime();
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = Jwts.builder()
-                .signWith(SignatureAlgorithm.HS512, key)
+        String accessToken = builder()
                 .setSubject(member.getEmail())
                 .claim("memberUid", member.getMemberUid())
                 .claim("loginType", member.getLoginType())
@@ -111,29 +107,33 @@ public class TokenProvider {
     }
 
     public Claims validateAndGetEmail(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .parseClaimsJws(token)
-                .getBody();
+        return tokenVerifier.verify(token);
+    }
 
-        return claims;
+    /**
+     * 서명/만료 검증과 클레임 추출을 한 번에 처리한다. (만료 시 ExpiredJwtException, 그 외 JwtException)
+     */
+    public Claims parseClaims(String token) {
+        return tokenVerifier.verify(token);
     }
 
     public boolean validateToken(String token) {
         try {
-            Claims claims = Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody();
-            long expirationTimeMillis = claims.getExpiration().getTime();
-            long currentTimeMillis = System.currentTimeMillis();
-
-            if (expirationTimeMillis < currentTimeMillis) {
-                // token is expired
-                return false;
-            }
-
+            tokenVerifier.verify(token);
             return true;
         } catch (Exception e) {
             log.debug("validateToken error");
         }
         return false;
     }
+
+    // 현재 키로 서명하는 빌더 (키 교체 시 kid 헤더 포함)
+    private JwtBuilder builder() {
+        JwtBuilder builder = Jwts.builder()
+                .signWith(tokenVerifier.getSigningKey(), SignatureAlgorithm.HS512);
+        if (tokenVerifier.getSigningKid() != null) {
+            builder.setHeaderParam("kid", tokenVerifier.getSigningKid());
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,96 @@
+package com.pcarchu.platepay.security.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 / 검증기
+ *
+ * 서명 키(SecretKey)와 파서를 기동 시 한 번만 만들고, 검증과 클레임 추출을 한 번의 파싱으로 처리한다.
+ * 키 교체는 kid 헤더로 구분한다.
+ *  - jwt.secret / jwt.kid   : 현재 서명 키 (kid가 비어 있으면 kid 헤더 없이 서명)
+ *  - jwt.previous-keys      : 교체 전 키 (kid: secret), 검증에만 사용
+ * kid 헤더가 없는 토큰은 현재 키로 검증한다. 키를 교체하기 전에 jwt.kid를 먼저 지정해 두어야 한다.
+ */
+@Slf4j
+@Component
+public class TokenVerifier {
+    private final SecretKey signingKey;
+    private final String signingKid;
+    private final Map<String, SecretKey> verificationKeys = new HashMap<>();
+    private final JwtParser parser;
+
+    public TokenVerifier(@Value("${jwt.secret}") String secret,
+                         @Value("${jwt.kid:}") String kid,
+                         Environment environment) {
+        this.signingKey = toKey(secret);
+        this.signingKid = StringUtils.hasText(kid) ? kid : null;
+
+        Binder.get(environment)
+                .bind("jwt.previous-keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of())
+                .forEach((k, v) -> verificationKeys.put(k, toKey(v)));
+        if (signingKid != null) {
+            verificationKeys.put(signingKid, signingKey);
+        }
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        String tokenKid = header.getKeyId();
+                        if (tokenKid == null) {
+                            return signingKey;
+                        }
+                        SecretKey key = verificationKeys.get(tokenKid);
+                        if (key == null) {
+                            throw new SignatureException("unknown kid: " + tokenKid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+
+        log.info("JWT 키 로드: signingKid={}, verificationKids={}", signingKid, verificationKeys.keySet());
+    }
+
+    /**
+     * 서명/만료를 검증하고 클레임을 반환한다.
+     * 만료 시 ExpiredJwtException, 그 외 검증 실패 시 JwtException을 던진다.
+     */
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    public String getSigningKid() {
+        return signingKid;
+    }
+
+    // 기존 signWith(HS512, String)과 같은 방식 (BASE64 디코딩한 바이트를 HMAC 키로 사용)
+    private static SecretKey toKey(String secret) {
+        return new SecretKeySpec(Decoders.BASE64.decode(secret), SignatureAlgorithm.HS512.getJcaName());
+    }
+}
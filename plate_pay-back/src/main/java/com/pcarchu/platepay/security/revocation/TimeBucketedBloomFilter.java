@@ -0,0 +1,126 @@
+package com.pcarchu.platepay.security.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 구간별로 회전하는 Bloom filter
+ *
+ * bucketCount개의 구간 필터를 두고, 새 값은 현재 구간에 넣는다.
+ * 구간 길이(bucketMillis)가 지나면 가장 오래된 구간을 비워 현재 구간으로 재사용하므로,
+ * 값은 최소 (bucketCount - 1) * bucketMillis 동안 유지된다.
+ *
+ * 거짓 양성은 있을 수 있지만 거짓 음성은 없다. (유지 기간 안에서)
+ */
+public class TimeBucketedBloomFilter {
+
+    private final long bucketMillis;
+    private final int numBits;
+    private final int numHashes;
+    private final AtomicLongArray[] buckets;
+    private final LongSupplier clock;
+    private volatile long currentEpoch; // 현재 구간 번호 (now / bucketMillis)
+
+    public TimeBucketedBloomFilter(int bucketCount, long bucketMillis, int expectedInsertionsPerBucket, double falsePositiveRate) {
+        this(bucketCount, bucketMillis, expectedInsertionsPerBucket, falsePositiveRate, System::currentTimeMillis);
+    }
+
+    // clock: 현재 시각(ms), 테스트에서 구간 회전 확인용
+    TimeBucketedBloomFilter(int bucketCount, long bucketMillis, int expectedInsertionsPerBucket, double falsePositiveRate,
+                            LongSupplier clock) {
+        this.bucketMillis = bucketMillis;
+        this.clock = clock;
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertionsPerBucket * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertionsPerBucket * ln2));
+        this.buckets = new AtomicLongArray[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new AtomicLongArray((numBits + 63) / 64);
+        }
+        this.currentEpoch = clock.getAsLong() / bucketMillis;
+    }
+
+    public void put(String value) {
+        rotateIfNeeded();
+        AtomicLongArray bucket = buckets[(int) (currentEpoch % buckets.length)];
+        long h1 = hash(value);
+        long h2 = fmix64(h1) | 1L;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long prev;
+            do {
+                prev = bucket.get(word);
+                if ((prev & mask) != 0) break;
+            } while (!bucket.compareAndSet(word, prev, prev | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        rotateIfNeeded();
+        long h1 = hash(value);
+        long h2 = fmix64(h1) | 1L;
+        for (AtomicLongArray bucket : buckets) {
+            if (contains(bucket, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(AtomicLongArray bucket, long h1, long h2) {
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+            if ((bucket.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfNeeded() {
+        long epoch = clock.getAsLong() / bucketMillis;
+        if (epoch == currentEpoch) {
+            return;
+        }
+        synchronized (this) {
+            long from = currentEpoch;
+            if (epoch <= from) {
+                return;
+            }
+            // 지나간 구간 수만큼(최대 전체) 오래된 구간을 비운다.
+            long steps = Math.min(epoch - from, buckets.length);
+            for (long e = epoch - steps + 1; e <= epoch; e++) {
+                AtomicLongArray bucket = buckets[(int) (e % buckets.length)];
+                for (int i = 0; i < bucket.length(); i++) {
+                    bucket.set(i, 0L);
+                }
+            }
+            currentEpoch = epoch;
+        }
+    }
+
+    // FNV-1a 64 + fmix64
+    private static long hash(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pcarchu.platepay.security.revocation;
+
+import com.pcarchu.platepay.token.domain.repository.StaleTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로그아웃(stale) 토큰 확인
+ *
+ * 로컬 Bloom filter에 없으면 Redis 조회 없이 "유효"로 판단하고, 있을 때만 Redis(stk)로 정확히 확인한다.
+ *  - 기동 시 최근 1시간의 stale token을 등록 시각순 목록(ZSET)에서 적재 (실패 시 ready = false → 매번 Redis 확인)
+ *  - 로그아웃은 Redis pub/sub으로 모든 노드의 필터에 즉시 추가
+ *  - 메시지 유실에 대비해 SchedulerDaemon이 주기적으로 마지막 동기화 이후 등록분만 다시 가져온다.
+ *    노드 간 시계 차이를 감안해 sync-overlap만큼 겹쳐서 조회한다.
+ * 필터는 access token 수명(60분)보다 길게 유지되도록 구간을 회전한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationChecker implements MessageListener {
+    private static final String CHANNEL = "platepay:token-revoked";
+
+    private final StaleTokenRepository staleTokenRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TimeBucketedBloomFilter filter;
+    private final long overlapMillis;
+    private volatile boolean ready = false;
+    private Long lastSyncAt; // 마지막으로 성공한 동기화 시작 시각 (null이면 전체 적재)
+
+    public TokenRevocationChecker(StaleTokenRepository staleTokenRepository,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  @Value("${security.revocation.expected-insertions:10000}") int expectedInsertions,
+                                  @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${security.revocation.sync-overlap:60s}") Duration syncOverlap) {
+        this.staleTokenRepository = staleTokenRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        // 15분 x 5구간 → 최소 60분 유지 (access token 수명)
+        this.filter = new TimeBucketedBloomFilter(5, Duration.ofMinutes(15).toMillis(), expectedInsertions, falsePositiveRate);
+        this.overlapMillis = syncOverlap.toMillis();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void sync() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long from = 0;
+            if (lastSyncAt == null) {
+                staleTokenRepository.backfillRevokedLog();
+            } else {
+                from = lastSyncAt - overlapMillis;
+            }
+            List<String> tokens = staleTokenRepository.findRevokedSince(from);
+            tokens.forEach(filter::put);
+            lastSyncAt = startedAt;
+            ready = true;
+            log.debug("stale token 필터 동기화: {}건", tokens.size());
+        } catch (Exception e) {
+            log.warn("stale token 필터 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String accessToken) {
+        if (ready && !filter.mightContain(accessToken)) {
+            return false;
+        }
+        return staleTokenRepository.findByAccessToken(accessToken).isPresent();
+    }
+
+    /**
+     * 로그아웃 토큰 등록 (Redis 저장 이후 호출, 모든 노드에 전파)
+     */
+    public void revoke(String accessToken) {
+        filter.put(accessToken);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, accessToken);
+        } catch (Exception e) {
+            log.warn("stale token 발행 실패 (주기 동기화로 반영): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        filter.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
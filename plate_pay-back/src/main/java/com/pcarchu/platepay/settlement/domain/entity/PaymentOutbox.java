@@ -0,0 +1,110 @@
+package com.pcarchu.platepay.settlement.domain.entity;
+
+import com.pcarchu.platepay.common.domain.BaseTimeEntity;
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.orderHistory.domain.entity.OrderHistory;
+import com.pcarchu.platepay.settlement.enums.PaymentOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 outbox
+ *
+ * 출차 트랜잭션 안에서 주문/입출차 내역과 함께 기록되고, PaymentOutboxService가 커밋 이후 출금을 수행한다.
+ * 기관거래고유번호는 생성 시 DB 시퀀스로 한 번만 발급해 재시도마다 재사용하므로 같은 출금이 두 번 처리되지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "payment_outbox",
+        indexes = @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "paymentOutboxUid", callSuper = false)
+public class PaymentOutbox extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "payment_outbox_uid")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long paymentOutboxUid;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inOutHistoryId", nullable = false)
+    private InOutHistory inOutHistory;
+
+    @OneToMany(mappedBy = "paymentOutbox")
+    private List<OrderHistory> orderHistories = new ArrayList<>();
+
+    @Comment("기관거래고유번호 (멱등키)")
+    @Column(name = "institution_transaction_unique_no", length = 20, nullable = false, unique = true)
+    private String institutionTransactionUniqueNo;
+
+    @Comment("출금 금액")
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Comment("거래 요약")
+    @Column(name = "transaction_summary", nullable = false)
+    private String transactionSummary;
+
+    @Comment("상태")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private PaymentOutboxStatus status;
+
+    @Comment("시도 횟수")
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Comment("다음 시도 시각")
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Comment("마지막 오류")
+    @Column(name = "last_error", length = 500, nullable = true)
+    private String lastError;
+
+    // 발송 선점 : lease가 끝날 때까지 다른 인스턴스가 집어 가지 않는다
+    public void claim(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = PaymentOutboxStatus.SENT;
+        this.attemptCount++;
+        this.lastError = null;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markDead(String error) {
+        this.status = PaymentOutboxStatus.DEAD;
+        this.attemptCount++;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+
+    @Builder
+    public PaymentOutbox(InOutHistory inOutHistory, String institutionTransactionUniqueNo, Integer amount, String transactionSummary) {
+        this.inOutHistory = inOutHistory;
+        this.institutionTransactionUniqueNo = institutionTransactionUniqueNo;
+        this.amount = amount;
+        this.transactionSummary = transactionSummary;
+        this.status = PaymentOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
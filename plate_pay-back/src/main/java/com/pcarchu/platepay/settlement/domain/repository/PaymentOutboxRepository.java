@@ -0,0 +1,14 @@
+package com.pcarchu.platepay.settlement.domain.repository;
+
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxRepository {
+    PaymentOutbox save(PaymentOutbox paymentOutbox);
+    List<PaymentOutbox> findDueForDispatch(LocalDateTime now, int limit);
+    Optional<PaymentOutbox> findByIdForUpdate(Long paymentOutboxUid);
+    String nextInstitutionTransactionUniqueNo();
+}
@@ -0,0 +1,28 @@
+package com.pcarchu.platepay.settlement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class SettlementResponseDto {
+
+    @Getter
+    @Builder
+    public static class SettlementResult {
+        private Long inOutHistoryId;
+        private Integer orderCost;
+        private Integer parkingFee;
+        private Integer totalAmount;
+        private List<Long> paymentOutboxIds;
+        private List<OrderResult> orders;
+    }
+
+    @Getter
+    @Builder
+    public static class OrderResult {
+        private Long orderHistoryId;
+        private String storeName;
+        private Integer cost;
+    }
+}
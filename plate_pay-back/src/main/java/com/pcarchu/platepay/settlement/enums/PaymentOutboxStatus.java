@@ -0,0 +1,7 @@
+package com.pcarchu.platepay.settlement.enums;
+
+public enum PaymentOutboxStatus {
+    PENDING, // 출금 대기 (재시도 포함)
+    SENT,    // 출금 완료
+    DEAD     // 재시도 한도 초과 또는 은행 거절 - 수동 확인 필요
+}
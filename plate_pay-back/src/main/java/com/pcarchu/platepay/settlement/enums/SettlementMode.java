@@ -0,0 +1,6 @@
+package com.pcarchu.platepay.settlement.enums;
+
+public enum SettlementMode {
+    CONSOLIDATED, // 미결제 주문 + 주차비를 한 건의 출금으로 기록
+    PARALLEL      // 주문별로 출금을 기록 (발송 시 제한된 동시성으로 병렬 실행)
+}
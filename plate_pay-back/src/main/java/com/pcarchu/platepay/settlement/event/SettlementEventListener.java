@@ -0,0 +1,26 @@
+package com.pcarchu.platepay.settlement.event;
+
+import com.pcarchu.platepay.common.event.SettlementCompleted;
+import com.pcarchu.platepay.settlement.service.PaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 정산 기록 커밋 직후 결제 outbox 발송 (dispatchDueAsync는 ioExecutor에서 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementEventListener {
+
+    private final PaymentOutboxService paymentOutboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSettlementCompleted(SettlementCompleted event) {
+        if (event.paymentOutboxIds().isEmpty()) {
+            return;
+        }
+        paymentOutboxService.dispatchDueAsync();
+    }
+}
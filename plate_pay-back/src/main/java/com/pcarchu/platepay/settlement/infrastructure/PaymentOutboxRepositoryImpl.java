@@ -0,0 +1,75 @@
+package com.pcarchu.platepay.settlement.infrastructure;
+
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
+import com.pcarchu.platepay.settlement.domain.repository.PaymentOutboxRepository;
+import com.pcarchu.platepay.settlement.enums.PaymentOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+    private static final String TRANSACTION_NO_SEQUENCE = "payment_outbox_transaction_no_seq";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE8 = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final long SEQUENCE_MODULUS = 1_000_000_000_000L; // 12자리
+
+    private final PaymentOutboxRepositoryJpa paymentOutboxRepositoryJpa;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String defaultSchema;
+
+    // ddl-auto는 엔티티 id가 아닌 시퀀스를 만들지 않으므로 기동 시 한 번 생성한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTransactionNoSequence() {
+        try {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceName());
+        } catch (Exception e) {
+            log.warn("기관거래고유번호 시퀀스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public PaymentOutbox save(PaymentOutbox paymentOutbox) { return paymentOutboxRepositoryJpa.save(paymentOutbox); }
+
+    @Override
+    public List<PaymentOutbox> findDueForDispatch(LocalDateTime now, int limit) {
+        return paymentOutboxRepositoryJpa.findDue(PaymentOutboxStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Optional<PaymentOutbox> findByIdForUpdate(Long paymentOutboxUid) {
+        return paymentOutboxRepositoryJpa.findByIdForUpdate(paymentOutboxUid);
+    }
+
+    /**
+     * 기관거래고유번호 (20자리) = 발급일(yyyyMMdd, KST) + DB 시퀀스 12자리
+     * 시퀀스는 모든 인스턴스가 공유하므로 같은 번호가 두 번 나오지 않는다.
+     */
+    @Override
+    public String nextInstitutionTransactionUniqueNo() {
+        Long value = jdbcTemplate.queryForObject("SELECT nextval('" + sequenceName() + "')", Long.class);
+        return LocalDate.now(KST).format(DATE8) + String.format("%012d", value % SEQUENCE_MODULUS);
+    }
+
+    private String sequenceName() {
+        return defaultSchema == null || defaultSchema.isBlank()
+                ? TRANSACTION_NO_SEQUENCE
+                : defaultSchema + "." + TRANSACTION_NO_SEQUENCE;
+    }
+}
@@ -0,0 +1,31 @@
+package com.pcarchu.platepay.settlement.infrastructure;
+
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
+import com.pcarchu.platepay.settlement.enums.PaymentOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxRepositoryJpa extends JpaRepository<PaymentOutbox, Long> {
+
+    // lock.timeout = -2 : SKIP LOCKED (다른 인스턴스가 처리 중인 행은 건너뛴다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM PaymentOutbox p " +
+            "WHERE p.status = :status " +
+            "AND p.nextAttemptAt <= :now " +
+            "ORDER BY p.nextAttemptAt")
+    List<PaymentOutbox> findDue(PaymentOutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PaymentOutbox p WHERE p.paymentOutboxUid = :paymentOutboxUid")
+    Optional<PaymentOutbox> findByIdForUpdate(Long paymentOutboxUid);
+}
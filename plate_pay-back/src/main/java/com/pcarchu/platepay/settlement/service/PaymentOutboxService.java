@@ -0,0 +1,6 @@
+package com.pcarchu.platepay.settlement.service;
+
+public interface PaymentOutboxService {
+    int dispatchDue();
+    void dispatchDueAsync();
+}
@@ -0,0 +1,229 @@
+package com.pcarchu.platepay.settlement.service;
+
+import com.pcarchu.platepay.fcm.dto.FcmRequestDto;
+import com.pcarchu.platepay.fcm.service.FcmService;
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
+import com.pcarchu.platepay.settlement.domain.repository.PaymentOutboxRepository;
+import com.pcarchu.platepay.settlement.enums.PaymentOutboxStatus;
+import com.pcarchu.platepay.token.domain.repository.RefreshTokenRepository;
+import com.pcarchu.platepay.util.SsafyUtil;
+import com.pcarchu.platepay.util.SsafyUtil.BankResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 결제 outbox 발송
+ *
+ * PENDING 상태이고 재시도 시각이 지난 outbox를 SKIP LOCKED로 선점(claim-lease)해 커밋한 뒤, 트랜잭션 밖에서 출금하고
+ * 결과는 별도 트랜잭션에서 기록한다. 은행 응답 코드로 결과를 나눈다.
+ *  - 정상(H0000 + REC)       : SENT, 묶인 주문 결제 처리
+ *  - 중복 거래(duplicate-codes) : SENT. 재시도는 같은 기관거래고유번호를 쓰므로, 이전 시도가 은행에 반영된 뒤 응답만 잃어버린 경우다
+ *  - 확정 거절(final-codes)     : DEAD (잔액 부족, 계좌 오류 등 재시도해도 결과가 같다)
+ *  - 그 외 (알 수 없는 코드, REC 없는 2xx, 5xx, 타임아웃) : 지수 백오프로 재시도, 한도 초과 시 DEAD
+ * DEAD가 되면 사용자에게 결제 실패 알림을 보낸다. 주문은 미결제로 남는다.
+ */
+@Slf4j
+@Service
+public class PaymentOutboxServiceImpl implements PaymentOutboxService {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SsafyUtil ssafyUtil;
+    private final FcmService fcmService;
+    private final Executor settlementExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${settlement.outbox.batch-size:20}")
+    private int batchSize;
+    @Value("${settlement.outbox.max-attempts:8}")
+    private int maxAttempts;
+    @Value("${settlement.outbox.base-backoff:5s}")
+    private Duration baseBackoff;
+    @Value("${settlement.outbox.max-backoff:10m}")
+    private Duration maxBackoff;
+    @Value("${settlement.outbox.claim-lease:2m}")
+    private Duration claimLease;
+    @Value("${settlement.outbox.duplicate-codes:H1007}")
+    private Set<String> duplicateCodes;
+    @Value("${settlement.outbox.final-codes:A1003,A1014}")
+    private Set<String> finalCodes;
+
+    public PaymentOutboxServiceImpl(PaymentOutboxRepository paymentOutboxRepository,
+                                    RefreshTokenRepository refreshTokenRepository,
+                                    SsafyUtil ssafyUtil,
+                                    FcmService fcmService,
+                                    @Qualifier("settlementExecutor") Executor settlementExecutor,
+                                    PlatformTransactionManager transactionManager) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ssafyUtil = ssafyUtil;
+        this.fcmService = fcmService;
+        this.settlementExecutor = settlementExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int dispatchDue() {
+        int total = 0;
+        while (true) {
+            // 1. 짧은 트랜잭션으로 대상 행을 선점(lease)하고 바로 커밋해 행 잠금을 놓는다.
+            List<Claim> claims = transactionTemplate.execute(status -> claimBatch());
+            if (claims == null || claims.isEmpty()) {
+                return total;
+            }
+
+            // 2. 출금 호출은 트랜잭션/커넥션 없이 settlementExecutor에서 병렬로 한다.
+            List<CompletableFuture<Attempt>> futures = new ArrayList<>(claims.size());
+            for (Claim claim : claims) {
+                futures.add(CompletableFuture.supplyAsync(() -> withdraw(claim), settlementExecutor));
+            }
+            List<Attempt> attempts = futures.stream().map(CompletableFuture::join).toList();
+
+            // 3. 결과는 두 번째 짧은 트랜잭션에서 기록하고, 실패 알림은 커밋 이후에 보낸다.
+            List<FcmRequestDto.SendNoti> failures = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> record(claims, attempts, failures));
+            failures.forEach(fcmService::sendMessage);
+
+            total += claims.size();
+            if (claims.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    @Override
+    @Async("ioExecutor")
+    public void dispatchDueAsync() {
+        try {
+            dispatchDue();
+        } catch (Exception e) {
+            log.error("결제 outbox 즉시 발송 실패 (스케줄러가 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 시각을 lease 만료 시각으로 미뤄 두면, 호출 도중 프로세스가 죽어도 lease가 지난 뒤 같은 번호로 다시 시도된다.
+     * (이미 반영된 출금이면 은행이 중복 거래로 응답하고 SENT로 처리된다)
+     */
+    private List<Claim> claimBatch() {
+        List<PaymentOutbox> due = paymentOutboxRepository.findDueForDispatch(LocalDateTime.now(), batchSize);
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(claimLease).truncatedTo(ChronoUnit.MILLIS);
+
+        List<Claim> claims = new ArrayList<>(due.size());
+        for (PaymentOutbox outbox : due) {
+            InOutHistory inOutHistory = outbox.getInOutHistory();
+            claims.add(new Claim(
+                    outbox.getPaymentOutboxUid(),
+                    inOutHistory.getCar().getMember().getUserKey(),
+                    inOutHistory.getAccount().getAccountNo(),
+                    outbox.getAmount(),
+                    outbox.getTransactionSummary(),
+                    outbox.getInstitutionTransactionUniqueNo(),
+                    leaseUntil));
+            outbox.claim(leaseUntil);
+        }
+        return claims;
+    }
+
+    private Attempt withdraw(Claim claim) {
+        try {
+            return new Attempt(ssafyUtil.updateDemandDepositAccountWithdrawal(claim.userKey(), claim.accountNo(),
+                    claim.amount(), claim.summary(), claim.transactionNo()), null);
+        } catch (Exception e) {
+            return new Attempt(null, e);
+        }
+    }
+
+    private void record(List<Claim> claims, List<Attempt> attempts, List<FcmRequestDto.SendNoti> failures) {
+        for (int i = 0; i < claims.size(); i++) {
+            Claim claim = claims.get(i);
+            PaymentOutbox outbox = paymentOutboxRepository.findByIdForUpdate(claim.paymentOutboxUid()).orElse(null);
+            if (outbox == null || outbox.getStatus() != PaymentOutboxStatus.PENDING) {
+                continue;
+            }
+
+            Attempt attempt = attempts.get(i);
+            BankResponse response = attempt.response();
+            String error = attempt.describe();
+
+            if (response != null && response.isSuccess()) {
+                markPaid(outbox);
+                continue;
+            }
+            if (response != null && duplicateCodes.contains(response.responseCode())) {
+                log.warn("결제 outbox 중복 거래 응답, 이전 시도가 반영된 것으로 처리: paymentOutboxId={}, transactionNo={}, response={}",
+                        outbox.getPaymentOutboxUid(), outbox.getInstitutionTransactionUniqueNo(), response);
+                markPaid(outbox);
+                continue;
+            }
+
+            // lease가 지나 다른 인스턴스가 다시 선점했다면 실패 기록은 그쪽 결과에 맡긴다.
+            if (!claim.leaseUntil().equals(outbox.getNextAttemptAt())) {
+                log.warn("결제 outbox lease 만료 후 재선점됨, 실패 결과 기록 생략: paymentOutboxId={}, error={}",
+                        outbox.getPaymentOutboxUid(), error);
+                continue;
+            }
+
+            boolean rejected = response != null && finalCodes.contains(response.responseCode());
+            if (rejected || outbox.getAttemptCount() + 1 >= maxAttempts) {
+                outbox.markDead(error);
+                log.error("결제 outbox DEAD: paymentOutboxId={}, transactionNo={}, amount={}, attempts={}, error={}",
+                        outbox.getPaymentOutboxUid(), outbox.getInstitutionTransactionUniqueNo(),
+                        outbox.getAmount(), outbox.getAttemptCount(), error);
+                compensate(outbox, failures);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plus(backoff(outbox.getAttemptCount()));
+                outbox.markRetry(error, next);
+                log.warn("결제 outbox 재시도 예약: paymentOutboxId={}, attempts={}, next={}, error={}",
+                        outbox.getPaymentOutboxUid(), outbox.getAttemptCount(), next, error);
+            }
+        }
+    }
+
+    private void markPaid(PaymentOutbox outbox) {
+        outbox.markSent();
+        outbox.getOrderHistories().forEach(o -> o.changeIsPaid(true));
+    }
+
+    private Duration backoff(int attemptCount) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attemptCount, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void compensate(PaymentOutbox outbox, List<FcmRequestDto.SendNoti> failures) {
+        InOutHistory inOutHistory = outbox.getInOutHistory();
+        refreshTokenRepository.findByEmail(inOutHistory.getCar().getMember().getEmail())
+                .ifPresent(rtk -> failures.add(FcmRequestDto.SendNoti.builder()
+                        .token(rtk.getFcmToken())
+                        .title("결제 실패")
+                        .body(outbox.getTransactionSummary() + " " + outbox.getAmount() + "원 결제에 실패했습니다. 결제 내역을 확인해주세요.")
+                        .build()));
+    }
+
+    // 트랜잭션 밖 출금 호출에 넘기는 선점 시점 스냅샷
+    private record Claim(Long paymentOutboxUid, String userKey, String accountNo, int amount,
+                         String summary, String transactionNo, LocalDateTime leaseUntil) {
+    }
+
+    // 은행 응답 또는 응답을 받지 못한 오류
+    private record Attempt(BankResponse response, Exception error) {
+        String describe() {
+            return response != null ? response.toString() : error.getClass().getSimpleName() + ": " + error.getMessage();
+        }
+    }
+}
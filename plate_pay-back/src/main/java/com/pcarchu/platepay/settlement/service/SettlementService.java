@@ -0,0 +1,8 @@
+package com.pcarchu.platepay.settlement.service;
+
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.settlement.dto.SettlementResponseDto;
+
+public interface SettlementService {
+    SettlementResponseDto.SettlementResult settle(InOutHistory inOutHistory, int parkingFee);
+}
@@ -0,0 +1,119 @@
+package com.pcarchu.platepay.settlement.service;
+
+import com.pcarchu.platepay.common.event.SettlementCompleted;
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.orderHistory.domain.entity.OrderHistory;
+import com.pcarchu.platepay.orderHistory.domain.repository.OrderHistoryRepository;
+import com.pcarchu.platepay.settlement.domain.entity.PaymentOutbox;
+import com.pcarchu.platepay.settlement.domain.repository.PaymentOutboxRepository;
+import com.pcarchu.platepay.settlement.dto.SettlementResponseDto;
+import com.pcarchu.platepay.settlement.enums.SettlementMode;
+import com.pcarchu.platepay.store.domain.entity.Store;
+import com.pcarchu.platepay.store.domain.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 출차 정산
+ *
+ * 입출차 내역 하나에 속한 미결제 주문과 주차비를 결제 outbox로 기록한다.
+ * 출금은 호출자의 트랜잭션이 커밋된 뒤 PaymentOutboxService가 수행하므로, 은행 API 장애가 출차를 막지 않는다.
+ *  - CONSOLIDATED : 합계 금액으로 outbox 한 건
+ *  - PARALLEL     : 주문별 outbox + 주차비 outbox
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementServiceImpl implements SettlementService {
+    // 주차비 결제 내역을 기록하는 가상 매장
+    private static final Long PARKING_FEE_STORE_ID = 1000L;
+
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final StoreRepository storeRepository;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${settlement.mode:CONSOLIDATED}")
+    private SettlementMode mode;
+
+    @Override
+    public SettlementResponseDto.SettlementResult settle(InOutHistory inOutHistory, int parkingFee) {
+        Store parkingStore = storeRepository.findById(PARKING_FEE_STORE_ID).orElseThrow(
+                () -> new IllegalStateException("주차비 정산 매장이 존재하지 않습니다.")
+        );
+        String parkingLotName = inOutHistory.getParkingLot().getParkingLotName();
+
+        // 이미 outbox에 묶인 주문은 다시 기록하지 않는다.
+        List<OrderHistory> unpaidOrders = inOutHistory.getOrderHistories().stream()
+                .filter(o -> !o.getIsPaid() && o.getPaymentOutbox() == null)
+                .toList();
+        int orderCost = unpaidOrders.stream().mapToInt(OrderHistory::getCost).sum();
+
+        // 주차비 내역 기록
+        OrderHistory parkingOrder = OrderHistory.builder()
+                .store(parkingStore)
+                .inOutHistory(inOutHistory)
+                .cost(parkingFee)
+                .isPaid(false)
+                .build();
+        orderHistoryRepository.save(parkingOrder);
+
+        List<PaymentOutbox> outboxes = new ArrayList<>();
+        if (mode == SettlementMode.PARALLEL) {
+            for (OrderHistory order : unpaidOrders) {
+                enqueue(inOutHistory, order.getStore().getStoreName(), List.of(order), outboxes);
+            }
+            enqueue(inOutHistory, parkingLotName, List.of(parkingOrder), outboxes);
+        } else {
+            List<OrderHistory> all = new ArrayList<>(unpaidOrders);
+            all.add(parkingOrder);
+            enqueue(inOutHistory, parkingLotName, all, outboxes);
+        }
+
+        List<Long> outboxIds = outboxes.stream().map(PaymentOutbox::getPaymentOutboxUid).toList();
+
+        // 커밋 직후 바로 한 번 발송 시도 (실패하면 스케줄러가 재시도)
+        eventPublisher.publishEvent(new SettlementCompleted(inOutHistory.getInOutHistoryUid(), outboxIds, orderCost + parkingFee));
+
+        log.info("출차 정산 기록: inOutHistoryId={}, mode={}, orders={}, outbox={}, amount={}",
+                inOutHistory.getInOutHistoryUid(), mode, unpaidOrders.size(), outboxes.size(), orderCost + parkingFee);
+
+        return SettlementResponseDto.SettlementResult.builder()
+                .inOutHistoryId(inOutHistory.getInOutHistoryUid())
+                .orderCost(orderCost)
+                .parkingFee(parkingFee)
+                .totalAmount(orderCost + parkingFee)
+                .paymentOutboxIds(outboxIds)
+                .orders(unpaidOrders.stream()
+                        .map(o -> SettlementResponseDto.OrderResult.builder()
+                                .orderHistoryId(o.getOrderHistoryUid())
+                                .storeName(o.getStore().getStoreName())
+                                .cost(o.getCost())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private void enqueue(InOutHistory inOutHistory, String summary, List<OrderHistory> orders, List<PaymentOutbox> outboxes) {
+        int amount = orders.stream().mapToInt(OrderHistory::getCost).sum();
+        if (amount <= 0) { // 출금할 금액 없음
+            orders.forEach(o -> o.changeIsPaid(true));
+            return;
+        }
+
+        PaymentOutbox outbox = paymentOutboxRepository.save(PaymentOutbox.builder()
+                .inOutHistory(inOutHistory)
+                .institutionTransactionUniqueNo(paymentOutboxRepository.nextInstitutionTransactionUniqueNo())
+                .amount(amount)
+                .transactionSummary(summary)
+                .build());
+        orders.forEach(o -> o.assignPaymentOutbox(outbox));
+        outboxes.add(outbox);
+    }
+}
@@ -104,4 +104,75 @@ public class StoreController {
 			return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 	}
+
+	@Operation(summary = "매장 무한 스크롤 검색", description = "거리순 커서 기반으로 매장을 이어서 검색합니다. 다음 페이지는 응답의 nextCursor를 같은 조건과 함께 넘깁니다.")
+	@GetMapping("/search/stores/scroll")
+	public ResponseEntity<?> scrollStores(
+		@Parameter(description = "사용자 현재 위도", example = "35.1796")
+		@RequestParam double lat,
+
+		@Parameter(description = "사용자 현재 경도", example = "129.0756")
+		@RequestParam double lon,
+
+		@Parameter(description = "매장 유형", schema = @Schema(implementation = StoreType.class))
+		@RequestParam(required = false) StoreType type,
+
+		@Parameter(description = "검색 키워드", example = "삼겹살")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size,
+
+		@Parameter(description = "전체 개수 포함 여부", example = "false")
+		@RequestParam(defaultValue = "false") boolean withTotal
+	) {
+		try {
+			Map<String, Object> response = new HashMap<>();
+			response.put("stores", storeService.scrollStores(lat, lon, type, keyword, cursor, size, withTotal));
+
+			return responseDto.success(response);
+		} catch (IllegalArgumentException e) { // 잘못된 커서, 검색 경로 변경
+			return responseDto.fail(e.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception e) {
+			log.error("근접 매장 스크롤 검색 오류", e);
+			return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@Operation(summary = "주차장 무한 스크롤 검색", description = "거리순 커서 기반으로 주차장을 이어서 검색합니다. 다음 페이지는 응답의 nextCursor를 같은 조건과 함께 넘깁니다.")
+	@GetMapping("/search/parkingLots/scroll")
+	public ResponseEntity<?> scrollParkingLots(
+		@Parameter(description = "사용자 현재 위도", example = "35.1796")
+		@RequestParam double lat,
+
+		@Parameter(description = "사용자 현재 경도", example = "129.0756")
+		@RequestParam double lon,
+
+		@Parameter(description = "검색 키워드", example = "삼겹살")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size,
+
+		@Parameter(description = "전체 개수 포함 여부", example = "false")
+		@RequestParam(defaultValue = "false") boolean withTotal
+	) {
+		try {
+			Map<String, Object> response = new HashMap<>();
+			response.put("parkingLots", storeService.scrollParkingLots(lat, lon, keyword, cursor, size, withTotal));
+
+			return responseDto.success(response);
+		} catch (IllegalArgumentException e) { // 잘못된 커서, 검색 경로 변경
+			return responseDto.fail(e.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception e) {
+			log.error("근접 주차장 스크롤 검색 오류", e);
+			return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
 }
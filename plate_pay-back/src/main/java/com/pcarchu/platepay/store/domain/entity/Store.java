@@ -1,6 +1,8 @@
 package com.pcarchu.platepay.store.domain.entity;
 
 import com.pcarchu.platepay.common.domain.BaseTimeEntity;
+import com.pcarchu.platepay.common.domain.GeoPlaceChangeListener;
+import com.pcarchu.platepay.common.domain.GeoPoint;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
 import com.pcarchu.platepay.store.domain.enums.StoreType;
 
@@ -10,7 +12,8 @@ import org.hibernate.annotations.Comment;
 
 @Getter
 @Entity
-@Table(name="store")
+@Table(name="store", indexes = @Index(name = "idx_store_geo", columnList = "lat_e6, lon_e6"))
+@EntityListeners(GeoPlaceChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "storeUid", callSuper=false)
 public class Store extends BaseTimeEntity {
@@ -32,6 +35,9 @@ public class Store extends BaseTimeEntity {
 	@Column(name = "latitude", nullable = false)
 	private String latitude;
 
+	@Embedded
+	private GeoPoint location;
+
 	@Comment("일반주소")
 	@Column(name = "address", nullable = false)
 	private String address;
@@ -74,6 +80,7 @@ public class Store extends BaseTimeEntity {
 		this.storeName = storeName;
 		this.longitude = longitude;
 		this.latitude = latitude;
+		this.location = GeoPoint.of(latitude, longitude);
 		this.address = address;
 		this.roadAddress = roadAddress;
 		this.storePhoneNum = storePhoneNum;
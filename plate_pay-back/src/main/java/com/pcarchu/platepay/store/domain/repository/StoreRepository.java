@@ -1,5 +1,7 @@
 package com.pcarchu.platepay.store.domain.repository;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
 import com.pcarchu.platepay.store.domain.entity.Store;
 import com.pcarchu.platepay.store.domain.enums.StoreType;
 import com.pcarchu.platepay.store.dto.StoreResponseDto;
@@ -15,9 +17,14 @@ public interface StoreRepository {
 
 	Page<StoreResponseDto.SearchHit> search(double lat, double lon, StoreType type, String keyword, Pageable pageable);
 
+	CursorPage<StoreResponseDto.SearchHit> scroll(double lat, double lon, StoreType type, String keyword,
+		GeoSearchCursor after, int size, boolean trackTotalHits);
+
 	boolean existsByStoreNameAndAddress(String storeName, String address);
 
 	Store save(Store store);
 
 	int count();
+
+	int backfillLocation();
 }
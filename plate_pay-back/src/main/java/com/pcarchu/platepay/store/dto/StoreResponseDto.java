@@ -25,7 +25,7 @@ public class StoreResponseDto {
 	}
 
 	// ES 근접검색 결과(거리 포함)
-	@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+	@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder(toBuilder = true)
 	public static class SearchHit {
 		private Long storeUid;
 		private String storeName;
@@ -3,6 +3,8 @@ package com.pcarchu.platepay.store.infrastructure;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
 import com.pcarchu.platepay.store.domain.enums.StoreType;
 import com.pcarchu.platepay.store.dto.StoreResponseDto;
 import com.pcarchu.platepay.store.dto.searchdoc.StoreDoc;
@@ -34,7 +36,72 @@ public class StoreRepositoryEs {
 		String keyword,
 		Pageable pageable
 	) {
-		// 1) bool 쿼리 구성
+		// 1) NativeQuery (쿼리 + 거리순 정렬 + 페이징)
+		org.springframework.data.elasticsearch.core.query.Query query = NativeQuery.builder()
+			.withQuery(buildQuery(type, keyword))
+			.withSort(sortByDistance(lat, lon))
+			.withPageable(pageable)
+			.build();
+
+		// 2) 실행
+		var searchHits = operations.search(query, StoreDoc.class);
+
+		// 3) 매핑 + Page 리턴
+		List<StoreResponseDto.SearchHit> content = new ArrayList<>(searchHits.getSearchHits().size());
+		for (SearchHit<StoreDoc> hit : searchHits) {
+			content.add(toDto(hit));
+		}
+		return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+	}
+
+	/**
+	 * search_after 기반 커서 검색 (무한 스크롤)
+	 * 정렬: 거리 asc, store_uid asc (동률 처리). size + 1개를 받아 다음 페이지 여부를 판단한다.
+	 *
+	 * @param after 이전 페이지의 마지막 정렬 값 (처음이면 null)
+	 * @param trackTotalHits false면 전체 개수를 세지 않는다 (track_total_hits=false)
+	 */
+	public CursorPage<StoreResponseDto.SearchHit> searchAfter(
+		double lat,
+		double lon,
+		StoreType type,
+		String keyword,
+		GeoSearchCursor after,
+		int size,
+		boolean trackTotalHits
+	) {
+		var builder = NativeQuery.builder()
+			.withQuery(buildQuery(type, keyword))
+			.withSort(List.of(sortByDistance(lat, lon), sortByUid()))
+			.withTrackTotalHits(trackTotalHits)
+			.withMaxResults(size + 1);
+		if (after != null) {
+			builder.withSearchAfter(List.of(after.sortKey(), after.uid()));
+		}
+
+		var searchHits = operations.search(builder.build(), StoreDoc.class);
+
+		List<StoreResponseDto.SearchHit> content = new ArrayList<>(size);
+		GeoSearchCursor last = null;
+		for (SearchHit<StoreDoc> hit : searchHits) {
+			if (content.size() == size) {
+				break;
+			}
+			content.add(toDto(hit));
+			last = nextCursor(hit);
+		}
+		boolean hasNext = searchHits.getSearchHits().size() > size;
+
+		return CursorPage.<StoreResponseDto.SearchHit>builder()
+			.content(content)
+			.nextCursor(hasNext && last != null ? last.encode() : null)
+			.hasNext(hasNext)
+			.totalHits(trackTotalHits ? searchHits.getTotalHits() : null)
+			.build();
+	}
+
+	// bool 쿼리 구성
+	private Query buildQuery(StoreType type, String keyword) {
 		List<Query> filters = new ArrayList<>();
 
 		// 타입 필터
@@ -50,37 +117,37 @@ public class StoreRepositoryEs {
 			mustKeyword = null;
 		}
 
-		Query finalQuery = QueryBuilders.bool(b -> {
+		return QueryBuilders.bool(b -> {
 			if (mustKeyword != null) b.must(mustKeyword);
 			if (!filters.isEmpty()) b.filter(filters);
 			return b;
 		});
+	}
 
-		// 2) 거리순 정렬 (DistanceUnit 사용!)
-		SortOptions sortByDistance = SortOptions.of(s -> s
+	// 거리순 정렬 (DistanceUnit 사용!)
+	private static SortOptions sortByDistance(double lat, double lon) {
+		return SortOptions.of(s -> s
 			.geoDistance(g -> g
 				.field("location")
 				.location(l -> l.latlon(ll -> ll.lat(lat).lon(lon)))
 				.order(SortOrder.Asc)
 				.unit(DistanceUnit.Kilometers))
 		);
+	}
 
-		// 3) NativeQuery (쿼리 + 정렬 + 페이징)
-		org.springframework.data.elasticsearch.core.query.Query query = NativeQuery.builder()
-			.withQuery(finalQuery)
-			.withSort(sortByDistance)
-			.withPageable(pageable)
-			.build();
-
-		// 4) 실행
-		var searchHits = operations.search(query, StoreDoc.class);
+	private static SortOptions sortByUid() {
+		return SortOptions.of(s -> s.field(f -> f.field("store_uid").order(SortOrder.Asc)));
+	}
 
-		// 5) 매핑 + Page 리턴
-		List<StoreResponseDto.SearchHit> content = new ArrayList<>(searchHits.getSearchHits().size());
-		for (SearchHit<StoreDoc> hit : searchHits) {
-			content.add(toDto(hit));
+	// 정렬 값 [거리, uid]
+	private static GeoSearchCursor nextCursor(SearchHit<?> hit) {
+		List<Object> sortValues = hit.getSortValues();
+		if (sortValues.size() < 2) {
+			return null;
 		}
-		return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+		return new GeoSearchCursor(GeoSearchCursor.ES,
+			((Number) sortValues.get(0)).doubleValue(),
+			((Number) sortValues.get(1)).longValue());
 	}
 
 	private StoreResponseDto.SearchHit toDto(SearchHit<StoreDoc> hit) {
@@ -2,33 +2,73 @@ package com.pcarchu.platepay.store.infrastructure;
 
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.search.infrastructure.GeoSearchEngine;
+import com.pcarchu.platepay.search.infrastructure.GeoTileSearchCache;
 import com.pcarchu.platepay.store.domain.entity.Store;
 import com.pcarchu.platepay.store.domain.enums.StoreType;
 import com.pcarchu.platepay.store.domain.repository.StoreRepository;
 import com.pcarchu.platepay.store.dto.StoreResponseDto;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class StoreRepositoryImpl implements StoreRepository {
 
 	private final StoreRepositoryJpa storeRepositoryJpa;
-	private final StoreRepositoryEs storeRepositoryEs;
+	private final GeoSearchEngine geoSearchEngine;
+	private final GeoTileSearchCache geoTileSearchCache;
+	private final StoreRepositoryQueryDsl storeRepositoryQueryDsl;
+
+	@Value("${geo.fallback.radius-km:10}")
+	private double fallbackRadiusKm;
 
 	@Override
 	public Optional<Store> findById(Long storeUid) {
 		return  storeRepositoryJpa.findById(storeUid);
 	}
 
+	/**
+	 * 근접 검색 엔진(ES / 인메모리) 거리순 검색 (타일 캐시 경유), 엔진을 쓸 수 없으면 DB 반경 검색으로 대체
+	 */
 	@Override
 	public Page<StoreResponseDto.SearchHit> search(double lat, double lon, StoreType type,
 		String keyword, Pageable pageable) {
-		return storeRepositoryEs.search(lat, lon, type, keyword, pageable);
+		try {
+			return geoTileSearchCache.searchStores(lat, lon, type, keyword, pageable);
+		} catch (DataAccessException e) {
+			log.warn("매장 근접 검색 엔진 실패, DB 반경 검색({}km)으로 대체: {}", fallbackRadiusKm, e.getMessage());
+			return storeRepositoryQueryDsl.searchWithin(lat, lon, fallbackRadiusKm, type, keyword, pageable);
+		}
+	}
+
+	/**
+	 * 거리순 커서 검색. 커서는 만든 경로(엔진 / DB)에서만 이어서 쓸 수 있다.
+	 * 엔진 실패 시 첫 페이지만 DB 반경 검색으로 대체하고, 중간 페이지면 처음부터 다시 검색하도록 한다.
+	 */
+	@Override
+	public CursorPage<StoreResponseDto.SearchHit> scroll(double lat, double lon, StoreType type, String keyword,
+		GeoSearchCursor after, int size, boolean trackTotalHits) {
+		if (after != null && after.isFrom(GeoSearchCursor.DB)) {
+			return storeRepositoryQueryDsl.scrollWithin(lat, lon, fallbackRadiusKm, type, keyword, after, size, trackTotalHits);
+		}
+		try {
+			return geoSearchEngine.scrollStores(lat, lon, type, keyword, after, size, trackTotalHits);
+		} catch (DataAccessException e) {
+			log.warn("매장 근접 검색 엔진 실패, DB 반경 검색({}km)으로 대체: {}", fallbackRadiusKm, e.getMessage());
+			GeoSearchCursor.requireSource(after, GeoSearchCursor.DB);
+			return storeRepositoryQueryDsl.scrollWithin(lat, lon, fallbackRadiusKm, type, keyword, null, size, trackTotalHits);
+		}
 	}
 
 	@Override
@@ -46,4 +86,9 @@ public class StoreRepositoryImpl implements StoreRepository {
 		return (int)(storeRepositoryJpa.count());
 	}
 
+	@Override
+	public int backfillLocation() {
+		return storeRepositoryJpa.backfillLocation();
+	}
+
 }
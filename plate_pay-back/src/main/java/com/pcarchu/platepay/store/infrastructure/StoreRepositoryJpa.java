@@ -3,8 +3,28 @@ package com.pcarchu.platepay.store.infrastructure;
 import com.pcarchu.platepay.store.domain.entity.Store;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 
 public interface StoreRepositoryJpa extends JpaRepository<Store, Long> {
 	boolean existsByStoreNameAndAddress(String storeName, String address);
+
+	@Query("SELECT s FROM Store s " +
+		"JOIN FETCH s.parkingLot p " +
+		"JOIN FETCH p.parkingLotFee " +
+		"WHERE s.location.latE6 IS NOT NULL")
+	List<Store> findAllLocatedWithParkingLot();
+
+	// 고정소수점 좌표 컬럼 추가 이전에 저장된 행 채우기
+	@Transactional
+	@Modifying
+	@Query("UPDATE Store s " +
+		"SET s.location.latE6 = CAST(ROUND(CAST(s.latitude AS Double) * 1000000, 0) AS Integer), " +
+		"s.location.lonE6 = CAST(ROUND(CAST(s.longitude AS Double) * 1000000, 0) AS Integer) " +
+		"WHERE s.location.latE6 IS NULL OR s.location.lonE6 IS NULL")
+	int backfillLocation();
 }
@@ -0,0 +1,154 @@
+package com.pcarchu.platepay.store.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.pcarchu.platepay.common.domain.GeoPointQuery;
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.parkingLot.domain.entity.QParkingLot;
+import com.pcarchu.platepay.store.domain.entity.QStore;
+import com.pcarchu.platepay.store.domain.entity.Store;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreRepositoryQueryDsl {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 반경 내 매장을 가까운 순으로 조회한다 (ES 장애 시 대체 검색).
+	 *
+	 * 조건:
+	 *  - (lat, lon)에서 radiusKm 이내 (lat_e6, lon_e6 인덱스 범위 조회 후 원 판정)
+	 *  - 매장 타입 일치 (type이 있을 때)
+	 *  - 매장명 부분 일치 (keyword가 있을 때)
+	 */
+	public Page<StoreResponseDto.SearchHit> searchWithin(double lat, double lon, double radiusKm,
+		StoreType type, String keyword, Pageable pageable) {
+		QStore store = QStore.store;
+		QParkingLot parkingLot = QParkingLot.parkingLot;
+
+		BooleanBuilder where = within(lat, lon, radiusKm, type, keyword);
+
+		List<Store> stores = queryFactory
+			.selectFrom(store)
+			.join(store.parkingLot, parkingLot).fetchJoin()
+			.where(where)
+			.orderBy(GeoPointQuery.distanceSquared(store.location, lat, lon).asc(), store.storeUid.asc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		Long total = queryFactory
+			.select(store.count())
+			.from(store)
+			.where(where)
+			.fetchOne();
+
+		List<StoreResponseDto.SearchHit> content = stores.stream()
+			.map(s -> toDto(s, lat, lon))
+			.toList();
+		return new PageImpl<>(content, pageable, total != null ? total : 0L);
+	}
+
+	/**
+	 * searchWithin의 커서(keyset) 버전.
+	 * (거리², storeUid)가 after보다 뒤인 것부터 size + 1개를 읽어 다음 페이지 여부를 판단한다.
+	 * 커서의 정렬 키는 DB가 계산한 거리² 값을 그대로 쓴다.
+	 *
+	 * @param trackTotalHits false면 count 쿼리를 생략한다
+	 */
+	public CursorPage<StoreResponseDto.SearchHit> scrollWithin(double lat, double lon, double radiusKm,
+		StoreType type, String keyword, GeoSearchCursor after, int size, boolean trackTotalHits) {
+		QStore store = QStore.store;
+		QParkingLot parkingLot = QParkingLot.parkingLot;
+		NumberExpression<Double> distance = GeoPointQuery.distanceSquared(store.location, lat, lon);
+
+		BooleanBuilder where = within(lat, lon, radiusKm, type, keyword);
+		BooleanBuilder page = new BooleanBuilder(where);
+		if (after != null) {
+			page.and(distance.gt(after.sortKey())
+				.or(distance.eq(after.sortKey()).and(store.storeUid.gt(after.uid()))));
+		}
+
+		List<Tuple> rows = queryFactory
+			.select(store, distance)
+			.from(store)
+			.join(store.parkingLot, parkingLot).fetchJoin()
+			.where(page)
+			.orderBy(distance.asc(), store.storeUid.asc())
+			.limit(size + 1L)
+			.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<StoreResponseDto.SearchHit> content = new ArrayList<>(Math.min(rows.size(), size));
+		GeoSearchCursor last = null;
+		for (Tuple row : rows.subList(0, Math.min(rows.size(), size))) {
+			Store s = row.get(store);
+			content.add(toDto(s, lat, lon));
+			last = new GeoSearchCursor(GeoSearchCursor.DB, row.get(distance), s.getStoreUid());
+		}
+
+		Long total = null;
+		if (trackTotalHits) {
+			total = queryFactory
+				.select(store.count())
+				.from(store)
+				.where(where)
+				.fetchOne();
+		}
+
+		return CursorPage.<StoreResponseDto.SearchHit>builder()
+			.content(content)
+			.nextCursor(hasNext && last != null ? last.encode() : null)
+			.hasNext(hasNext)
+			.totalHits(total)
+			.build();
+	}
+
+	private BooleanBuilder within(double lat, double lon, double radiusKm, StoreType type, String keyword) {
+		QStore store = QStore.store;
+
+		BooleanBuilder where = new BooleanBuilder(GeoPointQuery.within(store.location, lat, lon, radiusKm));
+		if (type != null) {
+			where.and(store.storeType.eq(type));
+		}
+		if (keyword != null && !keyword.isBlank()) {
+			where.and(store.storeName.contains(keyword));
+		}
+		return where;
+	}
+
+	private StoreResponseDto.SearchHit toDto(Store s, double lat, double lon) {
+		return StoreResponseDto.SearchHit.builder()
+			.storeUid(s.getStoreUid())
+			.storeName(s.getStoreName())
+			.storeType(s.getStoreType())
+			.address(s.getAddress())
+			.roadAddress(s.getRoadAddress())
+			.storePhoneNum(s.getStorePhoneNum())
+			.storeUrl(s.getStoreUrl())
+			.latitude(s.getLocation().latitude())
+			.longitude(s.getLocation().longitude())
+			.distanceKm(s.getLocation().distanceKm(lat, lon))
+			.openTime(s.getOpenTime())
+			.closeTime(s.getCloseTime())
+			.parkingId(s.getParkingLot().getParkingLotUid())
+			.parkingName(s.getParkingLot().getParkingLotName())
+			.build();
+	}
+}
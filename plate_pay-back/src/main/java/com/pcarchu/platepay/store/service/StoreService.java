@@ -1,7 +1,9 @@
 package com.pcarchu.platepay.store.service;
 
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotRepository;
 import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
-import com.pcarchu.platepay.parkingLot.infrastructure.ParkingLotRepositoryEs;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
 import com.pcarchu.platepay.store.domain.entity.Store;
 import com.pcarchu.platepay.store.domain.enums.StoreType;
 import com.pcarchu.platepay.store.domain.repository.StoreRepository;
@@ -17,9 +19,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StoreService {
+	private static final int MAX_SCROLL_SIZE = 100;
 
 	private final StoreRepository storeRepository;
-	private final ParkingLotRepositoryEs parkingLotRepositoryEs;
+	private final ParkingLotRepository parkingLotRepository;
 
 
 	/**
@@ -32,10 +35,10 @@ public class StoreService {
 	}
 
 	/**
-	 * 근접 매장 검색 (ES 기반, 거리순 + 페이징 + 필터링)
+	 * 근접 매장 검색 (근접 검색 엔진 기반, 거리순 + 페이징 + 필터링)
 	 */
 	/**
-	 * 근접 매장 + 주차장 검색 (ES 기반)
+	 * 근접 매장 + 주차장 검색 (근접 검색 엔진 기반)
 	 */
 	public StoreSearchResults searchStores(
 		double lat,
@@ -56,11 +59,50 @@ public class StoreService {
 		String keyword,
 		Pageable pageable
 	) {
-		Page<ParkingLotResponseDto.SearchHit> parkingLots = parkingLotRepositoryEs.search(lat, lon, keyword, pageable);
+		Page<ParkingLotResponseDto.SearchHit> parkingLots = parkingLotRepository.search(lat, lon, keyword, pageable);
 
 		return new ParkingLotSearchResults(parkingLots);
 	}
 
+	/**
+	 * 근접 매장 커서 검색 (무한 스크롤, 거리순)
+	 *
+	 * @param cursor 이전 응답의 nextCursor (처음이면 null). 같은 위치/조건으로 요청해야 한다.
+	 * @param withTotal 전체 개수 포함 여부 (false면 개수를 세지 않아 더 빠르다)
+	 * @throws IllegalArgumentException 잘못되었거나 더 이상 이어서 쓸 수 없는 커서
+	 */
+	public CursorPage<StoreResponseDto.SearchHit> scrollStores(
+		double lat,
+		double lon,
+		StoreType type,
+		String keyword,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		return storeRepository.scroll(lat, lon, type, keyword,
+			GeoSearchCursor.decode(cursor), clampSize(size), withTotal);
+	}
+
+	/**
+	 * 근접 주차장 커서 검색 (무한 스크롤, 거리순)
+	 */
+	public CursorPage<ParkingLotResponseDto.SearchHit> scrollParkingLots(
+		double lat,
+		double lon,
+		String keyword,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		return parkingLotRepository.scroll(lat, lon, keyword,
+			GeoSearchCursor.decode(cursor), clampSize(size), withTotal);
+	}
+
+	private static int clampSize(int size) {
+		return Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+	}
+
 	// === DTO 변환 ===
 	private StoreResponseDto.StoreInfo toInfo(Store s) {
 		return StoreResponseDto.StoreInfo.builder()
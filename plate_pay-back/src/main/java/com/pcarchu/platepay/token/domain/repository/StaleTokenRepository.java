@@ -2,9 +2,16 @@ package com.pcarchu.platepay.token.domain.repository;
 
 import com.pcarchu.platepay.token.domain.entity.StaleToken;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StaleTokenRepository {
     Optional<StaleToken> save(StaleToken staleToken);
     Optional<StaleToken> findByAccessToken(String accessToken);
+
+    // fromEpochMilli 이후에 등록된 토큰 (등록 시각순 목록에서 조회)
+    List<String> findRevokedSince(long fromEpochMilli);
+
+    // 등록 시각순 목록이 없을 때(이전 버전 데이터) 해시에 남아 있는 토큰을 한 번 옮긴다
+    void backfillRevokedLog();
 }
@@ -3,23 +3,64 @@ package com.pcarchu.platepay.token.infrastructure;
 import com.pcarchu.platepay.token.domain.entity.StaleToken;
 import com.pcarchu.platepay.token.domain.repository.StaleTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
+/**
+ * stale token 저장소
+ *
+ * 토큰 자체는 @RedisHash(stk)에 TTL로 저장하고, 노드별 필터 동기화용으로 등록 시각을 score로 한 ZSET에도 함께 넣는다.
+ * 동기화는 ZRANGEBYSCORE로 마지막 동기화 이후 등록분만 가져온다. (해시 전체 조회는 인덱스 SET + 항목별 HGETALL)
+ */
 @Repository
 @RequiredArgsConstructor
 public class StaleTokenRepositoryImpl implements StaleTokenRepository {
+    private static final String REVOKED_LOG_KEY = "platepay:stale-token:revoked-at";
+    // StaleToken TTL과 같게 유지 (그 뒤로는 access token도 만료)
+    private static final Duration RETENTION = Duration.ofHours(1);
 
     private final StaleTokenRepositoryJpa staleTokenRepositoryJpa;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Override
     public Optional<StaleToken> save(StaleToken staleToken) {
-        return Optional.ofNullable(staleTokenRepositoryJpa.save(staleToken));
+        StaleToken saved = staleTokenRepositoryJpa.save(staleToken);
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add(REVOKED_LOG_KEY, staleToken.getAccessToken(), now);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_LOG_KEY, Double.NEGATIVE_INFINITY, now - RETENTION.toMillis());
+        stringRedisTemplate.expire(REVOKED_LOG_KEY, RETENTION);
+        return Optional.ofNullable(saved);
     }
 
     @Override
     public Optional<StaleToken> findByAccessToken(String accessToken) {
         return staleTokenRepositoryJpa.findByAccessToken(accessToken);
     }
+
+    @Override
+    public List<String> findRevokedSince(long fromEpochMilli) {
+        long from = Math.max(fromEpochMilli, System.currentTimeMillis() - RETENTION.toMillis());
+        Set<String> tokens = stringRedisTemplate.opsForZSet().rangeByScore(REVOKED_LOG_KEY, from, Double.POSITIVE_INFINITY);
+        return tokens == null ? List.of() : List.copyOf(tokens);
+    }
+
+    @Override
+    public void backfillRevokedLog() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(REVOKED_LOG_KEY))) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // TTL로 만료된 항목은 인덱스에 남아 null로 조회될 수 있다.
+        StreamSupport.stream(staleTokenRepositoryJpa.findAll().spliterator(), false)
+                .filter(Objects::nonNull)
+                .forEach(staleToken -> stringRedisTemplate.opsForZSet().add(REVOKED_LOG_KEY, staleToken.getAccessToken(), now));
+        stringRedisTemplate.expire(REVOKED_LOG_KEY, RETENTION);
+    }
 }
@@ -1,5 +1,7 @@
 package com.pcarchu.platepay.token.service;
 
+import com.pcarchu.platepay.security.cache.VerifiedPrincipalCache;
+import com.pcarchu.platepay.security.revocation.TokenRevocationChecker;
 import com.pcarchu.platepay.token.domain.entity.StaleToken;
 import com.pcarchu.platepay.token.domain.repository.StaleTokenRepository;
 import jakarta.transaction.Transactional;
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StaleTokenServiceImpl implements StaleTokenService {
     private final StaleTokenRepository staleTokenRepository;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
+    private final TokenRevocationChecker tokenRevocationChecker;
 
     @Override
     @Transactional
@@ -19,5 +23,7 @@ public class StaleTokenServiceImpl implements StaleTokenService {
         staleTokenRepository.save(StaleToken.builder()
                 .accessToken(accessToken)
                 .build());
+        tokenRevocationChecker.revoke(accessToken);
+        verifiedPrincipalCache.revokeToken(accessToken);
     }
 }
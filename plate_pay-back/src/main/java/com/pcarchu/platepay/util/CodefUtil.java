@@ -9,7 +9,9 @@ import com.pcarchu.platepay.car.dto.CarResponseDto;
 import com.pcarchu.platepay.codefToken.domain.entity.CodefToken;
 import com.pcarchu.platepay.member.domain.entity.Member;
 import jakarta.json.Json;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -20,12 +22,6 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -34,71 +30,48 @@ import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CodefUtil {
+    @Qualifier("codefRestTemplate")
+    private final RestTemplate restTemplate;
 
     @Value("${codef.api.url}")
     private String codefUrl;
 
     public Map<String, Object> publishToken(String clientId, String clientSecret) {
-        BufferedReader br = null;
         try {
-            // HTTP 요청을 위한 URL 오브젝트 생성
-            URL url = new URL("https://oauth.codef.io/oauth/token");
             String params = "grant_type=client_credentials&scope=read";    // Oauth2.0 사용자 자격증명 방식(client_credentials) 토큰 요청 설정
 
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("POST");
-            con.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
             // 클라이언트아이디, 시크릿코드 Base64 인코딩
             String auth = clientId + ":" + clientSecret;
             String authStringEnc = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-            String authHeader = "Basic " + authStringEnc;
-
-            con.setRequestProperty("Authorization", authHeader);
-            con.setDoInput(true);
-            con.setDoOutput(true);
+            headers.set(HttpHeaders.AUTHORIZATION, "Basic " + authStringEnc);
 
-            // 리퀘스트 바디 전송
-            OutputStream os = con.getOutputStream();
-            os.write(params.getBytes());
-            os.flush();
-            os.close();
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    "https://oauth.codef.io/oauth/token",
+                    new HttpEntity<>(params, headers),
+                    String.class
+            );
 
             // 응답 코드 확인
-            int responseCode = con.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) {    // 정상 응답
-                br = new BufferedReader(new InputStreamReader(con.getInputStream()));
-            } else {     // 에러 발생
+            if (response.getStatusCode().value() != 200 || response.getBody() == null) {
                 return null;
             }
 
-            // 응답 바디 read
-            String inputLine;
-            StringBuffer responseStr = new StringBuffer();
-            while ((inputLine = br.readLine()) != null) {
-                responseStr.append(inputLine);
-            }
-            br.close();
             // 응답결과 URL Decoding(UTF-8)
             ObjectMapper mapper = new ObjectMapper();
-            HashMap<String, Object> tokenMap = mapper.readValue(URLDecoder.decode(responseStr.toString(), "UTF-8"), new TypeReference<HashMap<String, Object>>(){});
+            HashMap<String, Object> tokenMap = mapper.readValue(URLDecoder.decode(response.getBody(), "UTF-8"), new TypeReference<HashMap<String, Object>>(){});
             return tokenMap;
         } catch (Exception e) {
             return null;
-        } finally {
-            if(br != null) {
-                try {
-                    br.close();
-                } catch (IOException e) { }
-            }
         }
     }
 
     public Map<String, String> registerCarIssuance(CarRequestDto.RegisterCar registerCar, CarResponseDto.FirstPhaseInfo firstPhaseResult, Member member, CodefToken token, Integer phaseNo) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(token.getAccessToken());
@@ -1,8 +1,9 @@
 package com.pcarchu.platepay.util;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -11,38 +12,26 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Base64;
 import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FaceUtil {
+    @Qualifier("faceRestTemplate")
+    private final RestTemplate restTemplate;
+
     @Value("${face.api.url}")
     private String faceUrl;
 
     public String convertBase64(MultipartFile image) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            HttpHeaders fileHeaders = new HttpHeaders();
-            String ct = (image.getContentType() != null) ? image.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
-            fileHeaders.setContentType(MediaType.parseMediaType(ct));
-
-            fileHeaders.setContentDisposition(ContentDisposition
-                    .builder("form-data")
-                    .name("file")
-                    .filename((image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload")
-                    .build());
-
-            ByteArrayResource fileResource = new ByteArrayResource(image.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return (image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload";
-                }
-            };
-            HttpEntity<Resource> filePart = new HttpEntity<>(fileResource, fileHeaders);
-
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", filePart);
+            body.add("file", filePart(image));
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -73,32 +62,35 @@ public class FaceUtil {
         }
     }
 
+    /**
+     * 얼굴 임베딩 추출 (AI 서버는 float64 little-endian 임베딩을 base64로 돌려준다)
+     * 얼굴을 찾지 못하거나 호출에 실패하면 null
+     */
+    public float[] extractEmbedding(MultipartFile image) {
+        return decodeEmbedding(convertBase64(image));
+    }
+
+    public static float[] decodeEmbedding(String base64) {
+        if (base64 == null || base64.isBlank()) {
+            return null;
+        }
+        DoubleBuffer doubles = ByteBuffer.wrap(Base64.getDecoder().decode(base64.trim()))
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asDoubleBuffer();
+        float[] vector = new float[doubles.remaining()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) doubles.get(i);
+        }
+        return vector;
+    }
+
     public Boolean compareFace(MultipartFile image, String base64) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 파일 파트 헤더 생성
-            HttpHeaders fileHeaders = new HttpHeaders();
-            String ct = (image.getContentType() != null) ? image.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
-            fileHeaders.setContentType(MediaType.parseMediaType(ct));
-
-            fileHeaders.setContentDisposition(ContentDisposition
-                    .builder("form-data")
-                    .name("file")
-                    .filename((image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload")
-                    .build());
-
-            ByteArrayResource fileResource = new ByteArrayResource(image.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return (image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload";
-                }
-            };
-
-            HttpEntity<Resource> filePart = new HttpEntity<>(fileResource, fileHeaders);
-
-            log.info("[compareFace] 업로드 파일 이름 = {}", fileResource.getFilename());
-            log.info("[compareFace] 업로드 파일 Content-Type = {}", ct);
+            // 파일 파트
+            HttpEntity<Resource> filePart = filePart(image);
+
+            log.info("[compareFace] 업로드 파일 이름 = {}", image.getOriginalFilename());
+            log.info("[compareFace] 업로드 파일 Content-Type = {}", filePart.getHeaders().getContentType());
             log.info("[compareFace] 업로드 파일 크기(byte) = {}", image.getSize());
 
             // base64 파트
@@ -154,4 +146,22 @@ public class FaceUtil {
         }
     }
 
+    /**
+     * 업로드 파일 part를 byte[]로 읽지 않고 그대로 전달하는 파일 파트
+     * (multipart 임시 파일/입력 스트림에서 요청 바디로 청크 단위 복사)
+     */
+    private static HttpEntity<Resource> filePart(MultipartFile image) {
+        HttpHeaders fileHeaders = new HttpHeaders();
+        String ct = (image.getContentType() != null) ? image.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        fileHeaders.setContentType(MediaType.parseMediaType(ct));
+
+        fileHeaders.setContentDisposition(ContentDisposition
+                .builder("form-data")
+                .name("file")
+                .filename((image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload")
+                .build());
+
+        return new HttpEntity<>(image.getResource(), fileHeaders);
+    }
+
 }
@@ -1,8 +1,9 @@
 package com.pcarchu.platepay.util;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -15,31 +16,37 @@ import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class OCRUtil {
+    @Qualifier("ocrRestTemplate")
+    private final RestTemplate restTemplate;
+
     @Value("${ocr.api.url}")
     private String ocrUrl;
 
     public Map<String, Object> processOCR(MultipartFile image) {
+        return processOCR(image.getResource(), image.getContentType(), image.getOriginalFilename());
+    }
+
+    /**
+     * 이미지 Resource(업로드 part, 임시 파일)를 OCR 서버로 스트리밍해 OCR 수행
+     * 바디는 청크 단위로 복사되므로 이미지 크기와 무관하게 힙 사용량이 일정하다.
+     */
+    public Map<String, Object> processOCR(Resource image, String contentType, String originalFilename) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
+            String filename = (originalFilename != null) ? originalFilename : "upload";
 
             HttpHeaders fileHeaders = new HttpHeaders();
-            String ct = (image.getContentType() != null) ? image.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            String ct = (contentType != null) ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
             fileHeaders.setContentType(MediaType.parseMediaType(ct));
 
             fileHeaders.setContentDisposition(ContentDisposition
                     .builder("form-data")
                     .name("file")
-                    .filename((image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload")
+                    .filename(filename)
                     .build());
 
-            ByteArrayResource fileResource = new ByteArrayResource(image.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return (image.getOriginalFilename() != null) ? image.getOriginalFilename() : "upload";
-                }
-            };
-            HttpEntity<Resource> filePart = new HttpEntity<>(fileResource, fileHeaders);
+            HttpEntity<Resource> filePart = new HttpEntity<>(image, fileHeaders);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("file", filePart);
@@ -9,6 +9,7 @@ import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotFeeRepository
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -27,6 +28,9 @@ public class ParkingLotUtil {
 	private final ParkingLotRepository parkingLotRepository;
 	private final ParkingLotFeeRepository parkingLotFeeRepository;
 
+	@Qualifier("kakaoRestTemplate")
+	private final RestTemplate restTemplate;
+
 	@Value("${kakao.api.key}")
 	private String kakaoApiKey;
 
@@ -43,6 +47,7 @@ public class ParkingLotUtil {
 
 	@PostConstruct
 	public void initParkingLots() {
+		backfillLocation();
 
 		if (parkingLotRepository.count() > 100) {
 			log.info("주차장 데이터가 이미 존재합니다. 초기화 로직을 실행하지 않습니다.");
@@ -60,7 +65,6 @@ public class ParkingLotUtil {
 	}
 
 	private void saveParkingLotByKeyword(String keyword) throws Exception {
-		RestTemplate restTemplate = new RestTemplate();
 		HttpHeaders headers = new HttpHeaders();
 		headers.set("Authorization", "KakaoAK " + kakaoApiKey);
 		HttpEntity<String> entity = new HttpEntity<>(headers);
@@ -121,5 +125,15 @@ public class ParkingLotUtil {
 		}
 	}
 
-
+	/** 위경도 고정소수점 컬럼(lat_e6, lon_e6)이 비어 있는 기존 주차장 채우기 */
+	private void backfillLocation() {
+		try {
+			int updated = parkingLotRepository.backfillLocation();
+			if (updated > 0) {
+				log.info("주차장 좌표 컬럼 채움: {}건", updated);
+			}
+		} catch (Exception e) {
+			log.error("주차장 좌표 컬럼 채우기 실패", e);
+		}
+	}
 }
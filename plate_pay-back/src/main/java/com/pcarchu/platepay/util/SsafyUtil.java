@@ -2,13 +2,16 @@ package com.pcarchu.platepay.util;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -20,24 +23,47 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.ZoneId;
 
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SsafyUtil {
+    @Qualifier("ssafyRestTemplate")
+    private final RestTemplate restTemplate;
+
     @Value("${ssafy.api.url}")
     private String ssafyUrl;
     @Value("${ssafy.api.key}")
     private String key;
+    @Value("${ssafy.api.node-id:0}")
+    private int nodeId;
+
+    private final AtomicInteger sequence = new AtomicInteger();
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter DATE8 = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter TIME6 = DateTimeFormatter.ofPattern("HHmmss");
     private static final DateTimeFormatter DT14  = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
+    /**
+     * 일회성 요청용 기관거래고유번호 (20자리) = 요청 시각(yyyyMMddHHmmss) + 노드 번호 2자리 + 순번 4자리
+     * 노드마다 ssafy.api.node-id를 다르게 두면 초당 10000건까지 겹치지 않는다.
+     * 재시도가 필요한 출금은 결제 outbox가 DB 시퀀스로 발급한 번호를 저장해두고 재사용한다.
+     */
+    public String newInstitutionTransactionUniqueNo() {
+        return LocalDateTime.now(KST).format(DT14)
+                + String.format("%02d", nodeId % 100)
+                + String.format("%04d", Math.floorMod(sequence.getAndIncrement(), 10000));
+    }
+
     private Map<String, Object> buildHeader(String apiName, String apiServiceCode, String userKey) {
+        return buildHeader(apiName, apiServiceCode, userKey, newInstitutionTransactionUniqueNo());
+    }
+
+    private Map<String, Object> buildHeader(String apiName, String apiServiceCode, String userKey, String institutionTransactionUniqueNo) {
         ZonedDateTime now = ZonedDateTime.now(KST);
 
         Map<String, Object> header = new HashMap<>();
@@ -47,9 +73,6 @@ public class SsafyUtil {
         header.put("institutionCode", "00100");
         header.put("fintechAppNo", "001");
         header.put("apiServiceCode", apiServiceCode);
-        String institutionTransactionUniqueNo = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"))
-                + String.format("%03d", new Random().nextInt(1000));
         header.put("institutionTransactionUniqueNo", institutionTransactionUniqueNo);
         header.put("apiKey", key);
         header.put("userKey", userKey);
@@ -58,8 +81,6 @@ public class SsafyUtil {
 
     public Map<String, String> createAccount(String userId) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -95,8 +116,6 @@ public class SsafyUtil {
 
     public Map<String, String> searchAccount(String userId) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -132,7 +151,6 @@ public class SsafyUtil {
 
     public JsonObject inquireAccountHolder(String userKey, String accountNo) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -163,7 +181,6 @@ public class SsafyUtil {
 
     public boolean requestOneWonTransfer(String userKey, String accountNo) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -190,7 +207,6 @@ public class SsafyUtil {
 
     public boolean verifyOneWonCode(String userKey, String accountNo, String authCode) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -218,7 +234,6 @@ public class SsafyUtil {
 
     public JsonObject inquireAccountBalance(String userKey, String accountNo) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -249,36 +264,87 @@ public class SsafyUtil {
 
     public JsonObject updateDemandDepositAccountWithdrawal(String userKey, String accountNo, Integer amount, String transactionSummary) {
         try {
-            RestTemplate restTemplate = new RestTemplate();
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            BankResponse response = updateDemandDepositAccountWithdrawal(userKey, accountNo, amount, transactionSummary, newInstitutionTransactionUniqueNo());
+            if (response.isSuccess()) {
+                return response.rec();
+            }
+            log.error("updateDemandDepositAccountWithdrawal rejected: {}", response);
+            return null;
+        } catch (Exception e) {
+            log.error("updateDemandDepositAccountWithdrawal error: {}", e.getMessage());
+        }
 
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("Header", buildHeader(
-                    "updateDemandDepositAccountWithdrawal",
-                    "updateDemandDepositAccountWithdrawal",
-                    userKey));
-            requestBody.put("accountNo", accountNo);
-            requestBody.put("transactionBalance", String.valueOf(amount));
-            requestBody.put("transactionSummary", transactionSummary);
+        return null;
+    }
 
-            HttpEntity<?> httpEntity = new HttpEntity<>(requestBody, headers);
-            UriComponents uri = UriComponentsBuilder.fromHttpUrl(ssafyUrl + "/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountWithdrawal")
-                    .build()
-                    .encode();
+    /**
+     * 기관거래고유번호를 지정한 출금 (결제 outbox 재시도용)
+     * 은행이 응답한 경우(2xx, 4xx, 5xx)는 응답 코드를 담아 돌려주고, 응답을 받지 못한 오류(연결/타임아웃)만 던진다.
+     * 성공 여부는 호출하는 쪽에서 BankResponse.isSuccess()로 판정한다 (2xx라도 REC가 없으면 성공이 아니다).
+     */
+    public BankResponse updateDemandDepositAccountWithdrawal(String userKey, String accountNo, Integer amount,
+                                                             String transactionSummary, String institutionTransactionUniqueNo) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("Header", buildHeader(
+                "updateDemandDepositAccountWithdrawal",
+                "updateDemandDepositAccountWithdrawal",
+                userKey,
+                institutionTransactionUniqueNo));
+        requestBody.put("accountNo", accountNo);
+        requestBody.put("transactionBalance", String.valueOf(amount));
+        requestBody.put("transactionSummary", transactionSummary);
+
+        HttpEntity<?> httpEntity = new HttpEntity<>(requestBody, headers);
+        UriComponents uri = UriComponentsBuilder.fromHttpUrl(ssafyUrl + "/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountWithdrawal")
+                .build()
+                .encode();
 
+        try {
             ResponseEntity<String> response = restTemplate.postForEntity(uri.toUri(), httpEntity, String.class);
+            return BankResponse.of(response.getStatusCode().value(), response.getBody());
+        } catch (HttpStatusCodeException e) {
+            return BankResponse.of(e.getStatusCode().value(), e.getResponseBodyAsString());
+        }
+    }
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonObject body = JsonParser.parseString(response.getBody()).getAsJsonObject();
-                return body.getAsJsonObject("REC");
+    /**
+     * 은행 응답
+     * 정상 응답은 Header.responseCode, 오류 응답은 최상위 responseCode에 결과 코드가 담긴다.
+     *
+     * @param responseCode 은행 결과 코드 (H0000 : 정상), 본문을 해석할 수 없으면 null
+     * @param rec 거래 결과, 없으면 null
+     */
+    public record BankResponse(int httpStatus, String responseCode, String responseMessage, JsonObject rec) {
+        public static final String SUCCESS_CODE = "H0000";
+
+        public boolean isSuccess() {
+            return httpStatus / 100 == 2 && SUCCESS_CODE.equals(responseCode) && rec != null;
+        }
+
+        static BankResponse of(int httpStatus, String rawBody) {
+            JsonObject body;
+            try {
+                body = JsonParser.parseString(rawBody).getAsJsonObject();
+            } catch (Exception e) {
+                return new BankResponse(httpStatus, null, rawBody, null);
             }
 
-        } catch (Exception e) {
-            log.error("updateDemandDepositAccountWithdrawal error: {}", e.getMessage());
+            JsonObject result = body.has("Header") && body.get("Header").isJsonObject() ? body.getAsJsonObject("Header") : body;
+            JsonObject rec = body.has("REC") && body.get("REC").isJsonObject() ? body.getAsJsonObject("REC") : null;
+            return new BankResponse(httpStatus, text(result, "responseCode"), text(result, "responseMessage"), rec);
         }
 
-        return null;
+        private static String text(JsonObject object, String name) {
+            return object.has(name) && !object.get(name).isJsonNull() ? object.get(name).getAsString() : null;
+        }
+
+        @Override
+        public String toString() {
+            return "HTTP " + httpStatus + " " + responseCode + " " + responseMessage;
+        }
     }
 
 }
@@ -2,6 +2,7 @@ package com.pcarchu.platepay.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pcarchu.platepay.common.index.GeoPointIndex;
 import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
 import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotRepository;
 import com.pcarchu.platepay.store.domain.entity.Store;
@@ -9,6 +10,7 @@ import com.pcarchu.platepay.store.domain.enums.StoreType;
 import com.pcarchu.platepay.store.domain.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -29,6 +31,9 @@ public class StoreUtil {
 	private final StoreRepository storeRepository;
 	private final ParkingLotRepository parkingLotRepository;
 
+	@Qualifier("kakaoRestTemplate")
+	private final RestTemplate restTemplate;
+
 	@Value("${kakao.api.key}")
 	private String kakaoApiKey;
 
@@ -44,6 +49,10 @@ public class StoreUtil {
 	@EventListener(ApplicationReadyEvent.class)
 	public void initStores() {
 		try {
+			int updated = storeRepository.backfillLocation();
+			if (updated > 0) {
+				log.info("매장 좌표 컬럼 채움: {}건", updated);
+			}
 
 			//DB에 이미 한 500개 이상 있으면 존재하는 것으로 치부.
 			if (storeRepository.count() > 500) {
@@ -51,10 +60,17 @@ public class StoreUtil {
 				return;
 			}
 
+			// 주차장 좌표 인덱스는 한 번만 만들고 모든 매장의 최근접 주차장 검색에 재사용한다.
+			GeoPointIndex<ParkingLot> parkingLotIndex = GeoPointIndex.build(
+				parkingLotRepository.findAll().stream().filter(p -> p.getLocation() != null).toList(),
+				p -> p.getLocation().latitude(),
+				p -> p.getLocation().longitude());
+			log.info("주차장 좌표 인덱스 생성: {}개", parkingLotIndex.size());
+
 			for (String region : regionKeywords) {
 				for (String category : storeKeywords) {
 					String keyword = region + " " + category;
-					saveStoresByKeyword(keyword);
+					saveStoresByKeyword(keyword, parkingLotIndex);
 				}
 			}
 		} catch (Exception e) {
@@ -62,8 +78,7 @@ public class StoreUtil {
 		}
 	}
 
-	private void saveStoresByKeyword(String keyword) throws Exception {
-		RestTemplate restTemplate = new RestTemplate();
+	private void saveStoresByKeyword(String keyword, GeoPointIndex<ParkingLot> parkingLotIndex) throws Exception {
 		HttpHeaders headers = new HttpHeaders();
 		headers.set("Authorization", "KakaoAK " + kakaoApiKey);
 		HttpEntity<String> entity = new HttpEntity<>(headers);
@@ -105,7 +120,7 @@ public class StoreUtil {
 					}
 
 					// 가까운 주차장 찾기
-					ParkingLot nearestLot = findNearestParkingLot(latitude, longitude);
+					ParkingLot nearestLot = findNearestParkingLot(parkingLotIndex, latitude, longitude);
 					if (nearestLot == null) {
 						log.warn("가까운 주차장 없음 → 매장 저장 스킵: {}", name);
 						continue;
@@ -137,29 +152,7 @@ public class StoreUtil {
 	}
 
 	/** 위경도로 가장 가까운 주차장 찾기 */
-	private ParkingLot findNearestParkingLot(String latStr, String lonStr) {
-		double lat = Double.parseDouble(latStr);
-		double lon = Double.parseDouble(lonStr);
-
-		return parkingLotRepository.findAll().stream()
-			.min((p1, p2) -> {
-				double d1 = haversine(lat, lon,
-					Double.parseDouble(p1.getLatitude()), Double.parseDouble(p1.getLongitude()));
-				double d2 = haversine(lat, lon,
-					Double.parseDouble(p2.getLatitude()), Double.parseDouble(p2.getLongitude()));
-				return Double.compare(d1, d2);
-			})
-			.orElse(null);
-	}
-
-	/** Haversine 공식 (단위: km) */
-	private double haversine(double lat1, double lon1, double lat2, double lon2) {
-		double R = 6371;
-		double dLat = Math.toRadians(lat2 - lat1);
-		double dLon = Math.toRadians(lon2 - lon1);
-		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-			Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-				Math.sin(dLon / 2) * Math.sin(dLon / 2);
-		return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	private ParkingLot findNearestParkingLot(GeoPointIndex<ParkingLot> parkingLotIndex, String latStr, String lonStr) {
+		return parkingLotIndex.nearest(Double.parseDouble(latStr), Double.parseDouble(lonStr));
 	}
 }
@@ -0,0 +1,98 @@
+package com.pcarchu.platepay.account.infrastructure;
+
+import com.pcarchu.platepay.PlatepayApplication;
+import com.pcarchu.platepay.account.domain.entity.Account;
+import com.pcarchu.platepay.bank.domain.entity.Bank;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌 목록 조회가 은행을 계좌마다 따로 조회하지 않고 한 번에 가져오는지 쿼리 수로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AccountRepositoryJpaTest {
+
+	@Autowired
+	private AccountRepositoryJpa accountRepositoryJpa;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long memberUid;
+
+	@BeforeEach
+	void setUp() {
+		Member member = em.persist(Member.builder()
+				.email("user@platepay.com")
+				.loginType("KAKAO")
+				.roles(new ArrayList<>(List.of("ROLE_USER")))
+				.build());
+		memberUid = member.getMemberUid();
+
+		em.getEntityManager()
+				.createNativeQuery("INSERT INTO bank (bank_code, bank_name) VALUES ('088', '신한은행'), ('004', '국민은행')")
+				.executeUpdate();
+		List<Bank> banks = em.getEntityManager().createQuery("select b from Bank b", Bank.class).getResultList();
+		for (int i = 0; i < 4; i++) {
+			em.persist(Account.builder()
+					.bank(banks.get(i % banks.size()))
+					.member(member)
+					.accountName("계좌" + i)
+					.accountNo("0880000000" + i)
+					.isMain(i == 0)
+					.status(true)
+					.build());
+		}
+
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	@DisplayName("계좌 목록은 은행까지 한 번에 가져온다")
+	void findAllByMemberLoadsBanksInOneQuery() {
+		List<Account> accounts = accountRepositoryJpa.findAllByMember_MemberUidAndStatusIsTrue(memberUid);
+
+		Statistics statistics = statistics();
+		assertThat(accounts).hasSize(4);
+		assertThat(accounts).allMatch(account -> Hibernate.isInitialized(account.getBank()));
+		assertThat(accounts).noneMatch(account -> Hibernate.isInitialized(account.getMember()));
+
+		assertThat(accounts).extracting(account -> account.getBank().getBankName())
+				.containsOnly("신한은행", "국민은행");
+		// 은행 이름을 읽어도 은행별 추가 쿼리 없음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// PlatepayApplication의 Elasticsearch 저장소 설정 없이 JPA만 올린다
+	@SpringBootConfiguration
+	@EntityScan(basePackageClasses = PlatepayApplication.class)
+	@EnableJpaRepositories(basePackageClasses = AccountRepositoryJpa.class)
+	static class JpaTestConfiguration {
+	}
+}
@@ -0,0 +1,122 @@
+package com.pcarchu.platepay.car.infrastructure;
+
+import com.pcarchu.platepay.PlatepayApplication;
+import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.file.domain.entity.PlatePayFile;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 차량 목록/상세 조회가 차량 이미지를 같은 쿼리로 가져오고, 차량 수 제한 확인이 차량을 로딩하지 않는지 쿼리 수로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CarRepositoryJpaTest {
+	private static final int CARS = 3;
+
+	@Autowired
+	private CarRepositoryJpa carRepositoryJpa;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long memberUid;
+	private Long carUid;
+
+	@BeforeEach
+	void setUp() {
+		Member member = em.persist(Member.builder()
+				.email("user@platepay.com")
+				.loginType("KAKAO")
+				.roles(new ArrayList<>(List.of("ROLE_USER")))
+				.build());
+		memberUid = member.getMemberUid();
+
+		for (int i = 0; i < CARS; i++) {
+			PlatePayFile img = em.persist(PlatePayFile.builder()
+					.type("image/png").name("car" + i).ext("png").path("/car" + i + ".png")
+					.build());
+			Car car = em.persist(Car.builder()
+					.plateNum("12가345" + i)
+					.member(member)
+					.platePayFile(img)
+					.status(true)
+					.build());
+			carUid = car.getCarUid();
+		}
+
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	@DisplayName("차량 목록은 차량 이미지까지 한 번에 가져온다")
+	void findByMemberLoadsImagesInOneQuery() {
+		List<Car> cars = carRepositoryJpa.findByMember_MemberUidAndStatusIsTrue(memberUid);
+
+		Statistics statistics = statistics();
+		assertThat(cars).hasSize(CARS);
+		assertThat(cars).allMatch(car -> Hibernate.isInitialized(car.getPlatePayFile()));
+		assertThat(cars).noneMatch(car -> Hibernate.isInitialized(car.getMember()));
+
+		assertThat(cars).extracting(car -> car.getPlatePayFile().getPath())
+				.containsExactlyInAnyOrder("/car0.png", "/car1.png", "/car2.png");
+		// 이미지 경로를 읽어도 차량마다 추가 쿼리 없음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("차량 상세는 차량 이미지까지 한 번에 가져온다")
+	void findByCarUidLoadsImageInOneQuery() {
+		Car car = carRepositoryJpa.findByCarUidAndStatusIsTrue(carUid).orElseThrow();
+
+		Statistics statistics = statistics();
+		assertThat(Hibernate.isInitialized(car.getPlatePayFile())).isTrue();
+		assertThat(car.getPlatePayFile().getPath()).isEqualTo("/car2.png");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("차량 수 제한 확인은 count 쿼리 하나로 끝나고 차량/회원을 로딩하지 않는다")
+	void countByMemberDoesNotLoadCars() {
+		long count = carRepositoryJpa.countByMember_MemberUid(memberUid);
+
+		Statistics statistics = statistics();
+		assertThat(count).isEqualTo(CARS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(Car.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(PlatePayFile.class.getName()).getLoadCount()).isZero();
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// PlatepayApplication의 Elasticsearch 저장소 설정 없이 JPA만 올린다
+	@SpringBootConfiguration
+	@EntityScan(basePackageClasses = PlatepayApplication.class)
+	@EnableJpaRepositories(basePackageClasses = CarRepositoryJpa.class)
+	static class JpaTestConfiguration {
+	}
+}
@@ -0,0 +1,112 @@
+package com.pcarchu.platepay.common.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GeoPointIndex 최근접 결과를 전체 탐색(haversine 정렬)과 비교한다.
+ */
+class GeoPointIndexTest {
+	private static final double EPSILON_KM = 1e-6;
+
+	@Test
+	@DisplayName("서울 근방에 몰린 지점에서 k개 최근접이 전체 탐색과 같다")
+	void nearestMatchesBruteForceInDenseCity() {
+		Random random = new Random(21);
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			places.add(new Place(i, 37.45 + random.nextDouble() * 0.25, 126.8 + random.nextDouble() * 0.35));
+		}
+		// 같은 좌표 중복 (같은 건물 매장)
+		for (int i = 0; i < 50; i++) {
+			Place p = places.get(random.nextInt(places.size()));
+			places.add(new Place(3000 + i, p.lat(), p.lon()));
+		}
+
+		assertEquivalent(places, random, 37.4, 37.75, 126.75, 127.2);
+	}
+
+	@Test
+	@DisplayName("경도 ±180° 경계와 고위도에서도 전체 탐색과 같다")
+	void nearestMatchesBruteForceAcrossAntimeridianAndPoles() {
+		Random random = new Random(42);
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			places.add(new Place(i, -90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360));
+		}
+		for (int i = 0; i < 200; i++) {
+			double lon = random.nextBoolean() ? 179.9 + random.nextDouble() * 0.1 : -180 + random.nextDouble() * 0.1;
+			places.add(new Place(2000 + i, -10 + random.nextDouble() * 20, lon));
+			places.add(new Place(2200 + i, 89 + random.nextDouble(), -180 + random.nextDouble() * 360));
+		}
+
+		assertEquivalent(places, random, -90, 90, -180, 180);
+
+		GeoPointIndex<Place> index = GeoPointIndex.build(places, Place::lat, Place::lon);
+		Place near = index.nearest(0, 179.99);
+		double expected = places.stream().mapToDouble(p -> distanceKm(0, 179.99, p.lat(), p.lon())).min().orElseThrow();
+		assertEquals(expected, distanceKm(0, 179.99, near.lat(), near.lon()), EPSILON_KM);
+	}
+
+	@Test
+	@DisplayName("빈 인덱스, k <= 0, k가 전체보다 큰 경우")
+	void edgeCases() {
+		GeoPointIndex<Place> empty = GeoPointIndex.build(List.of(), Place::lat, Place::lon);
+		assertNull(empty.nearest(37.5, 127.0));
+		assertTrue(empty.nearest(37.5, 127.0, 3).isEmpty());
+
+		List<Place> places = List.of(new Place(1, 37.5, 127.0), new Place(2, 37.6, 127.1), new Place(3, 35.1, 129.0));
+		GeoPointIndex<Place> index = GeoPointIndex.build(places, Place::lat, Place::lon);
+		assertEquals(3, index.size());
+		assertTrue(index.nearest(37.5, 127.0, 0).isEmpty());
+
+		List<Place> all = index.nearest(37.5, 127.0, 10);
+		assertEquals(List.of(1L, 2L, 3L), all.stream().map(Place::uid).toList());
+	}
+
+	private static void assertEquivalent(List<Place> places, Random random,
+										 double minLat, double maxLat, double minLon, double maxLon) {
+		GeoPointIndex<Place> index = GeoPointIndex.build(places, Place::lat, Place::lon);
+		assertEquals(places.size(), index.size());
+
+		for (int q = 0; q < 300; q++) {
+			double lat = minLat + random.nextDouble() * (maxLat - minLat);
+			double lon = minLon + random.nextDouble() * (maxLon - minLon);
+			for (int k : new int[]{1, 5, 37}) {
+				List<Place> actual = index.nearest(lat, lon, k);
+				List<Place> expected = places.stream()
+						.sorted(Comparator.comparingDouble(p -> distanceKm(lat, lon, p.lat(), p.lon())))
+						.limit(k)
+						.toList();
+
+				// 같은 거리의 지점은 순서가 다를 수 있으므로 거리로 비교한다
+				assertEquals(expected.size(), actual.size());
+				for (int i = 0; i < k; i++) {
+					assertEquals(distanceKm(lat, lon, expected.get(i).lat(), expected.get(i).lon()),
+							distanceKm(lat, lon, actual.get(i).lat(), actual.get(i).lon()),
+							EPSILON_KM, "query=(" + lat + ", " + lon + "), k=" + k + ", rank=" + i);
+				}
+			}
+		}
+	}
+
+	private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+				+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * 6371 * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	private record Place(long uid, double lat, double lon) {
+	}
+}
@@ -0,0 +1,167 @@
+package com.pcarchu.platepay.common.index;
+
+import com.pcarchu.platepay.common.domain.GeoPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GeoTextIndex search / searchAfter 결과를 전체 탐색(조건 필터 후 거리, id 정렬)과 비교한다.
+ */
+class GeoTextIndexTest {
+	private static final double CELL_DEGREES = 0.01;
+	private static final String[] CATEGORIES = {"CAFE", "RESTAURANT", "CONVENIENCE"};
+	private static final String[] WORDS = {"스타벅스", "이디야", "맥도날드", "버거킹", "BBQ 치킨", "Paris Baguette", "GS25", "CU", "세븐일레븐", "김밥천국"};
+	private static final String[] KEYWORDS = {null, "", " ", "스타", "스타 벅스", "치킨 버거", "bbq", "paris  baguette", "u", "없는가게", "역삼"};
+	private static final String[] BRANCHES = {"역삼점", "강남점", "판교점", "해운대점", "서면점"};
+
+	private List<Place> places;
+	private GeoTextIndex<Place> index;
+	private Random random;
+
+	@BeforeEach
+	void setUp() {
+		random = new Random(23);
+		places = new ArrayList<>();
+		long id = 1;
+		// 서울 밀집 지역 + 부산 (ring 탐색이 멀리 퍼지는 경우)
+		for (int i = 0; i < 4000; i++) {
+			places.add(place(id++, 37.48 + random.nextDouble() * 0.1, 127.0 + random.nextDouble() * 0.1));
+		}
+		for (int i = 0; i < 300; i++) {
+			places.add(place(id++, 35.1 + random.nextDouble() * 0.1, 129.0 + random.nextDouble() * 0.1));
+		}
+		// 같은 좌표 (거리 동률은 id 순)
+		for (int i = 0; i < 100; i++) {
+			Place p = places.get(random.nextInt(places.size()));
+			places.add(new Place(id++, p.lat(), p.lon(), p.name(), p.category()));
+		}
+		index = GeoTextIndex.build(places, Place::id, Place::lat, Place::lon, Place::name, Place::category, CELL_DEGREES);
+	}
+
+	@Test
+	@DisplayName("offset 페이지 검색이 전체 탐색과 같다")
+	void searchMatchesBruteForce() {
+		for (int q = 0; q < 200; q++) {
+			double lat = queryLat();
+			double lon = queryLon();
+			Object category = queryCategory();
+			String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+			int limit = 1 + random.nextInt(30);
+			long offset = random.nextInt(4) == 0 ? random.nextInt(600) : random.nextInt(3) * limit;
+
+			List<GeoTextIndex.Hit<Place>> expected = bruteForce(lat, lon, category, keyword);
+			GeoTextIndex.Result<Place> result = index.search(lat, lon, category, keyword, offset, limit);
+
+			String label = "query=(" + lat + ", " + lon + "), category=" + category + ", keyword=" + keyword
+					+ ", offset=" + offset + ", limit=" + limit;
+			assertEquals(expected.size(), result.total(), label);
+			int from = (int) Math.min(offset, expected.size());
+			int to = (int) Math.min(offset + limit, expected.size());
+			assertEquals(ids(expected.subList(from, to)), ids(result.hits()), label);
+		}
+	}
+
+	@Test
+	@DisplayName("커서로 끝까지 넘긴 결과가 전체 탐색과 같다")
+	void searchAfterMatchesBruteForce() {
+		for (int q = 0; q < 60; q++) {
+			double lat = queryLat();
+			double lon = queryLon();
+			Object category = queryCategory();
+			String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+			int limit = 5 + random.nextInt(200);
+			String label = "query=(" + lat + ", " + lon + "), category=" + category + ", keyword=" + keyword + ", limit=" + limit;
+
+			List<GeoTextIndex.Hit<Place>> expected = bruteForce(lat, lon, category, keyword);
+			List<Long> scrolled = new ArrayList<>();
+			GeoTextIndex.Position after = null;
+			boolean first = true;
+			while (true) {
+				GeoTextIndex.Scroll<Place> page = index.searchAfter(lat, lon, category, keyword, after, limit, first);
+				if (first) {
+					assertEquals(Long.valueOf(expected.size()), page.total(), label);
+				} else {
+					assertNull(page.total(), label);
+				}
+				first = false;
+				page.hits().forEach(h -> scrolled.add(h.id()));
+				if (!page.hasNext()) {
+					break;
+				}
+				assertEquals(limit, page.hits().size(), label);
+				GeoTextIndex.Hit<Place> last = page.hits().get(page.hits().size() - 1);
+				after = new GeoTextIndex.Position(last.distanceKm(), last.id());
+			}
+			assertEquals(ids(expected), scrolled, label);
+		}
+	}
+
+	@Test
+	@DisplayName("조건에 맞는 것이 없거나 limit이 0이면 빈 결과")
+	void emptyResults() {
+		GeoTextIndex.Result<Place> none = index.search(37.5, 127.0, "UNKNOWN", null, 0, 10);
+		assertEquals(0, none.total());
+		assertTrue(none.hits().isEmpty());
+
+		GeoTextIndex.Result<Place> zero = index.search(37.5, 127.0, null, "스타", 0, 0);
+		assertTrue(zero.hits().isEmpty());
+		assertEquals(bruteForce(37.5, 127.0, null, "스타").size(), zero.total());
+
+		GeoTextIndex.Scroll<Place> scroll = index.searchAfter(37.5, 127.0, null, "없는가게", null, 10, true);
+		assertTrue(scroll.hits().isEmpty());
+		assertFalse(scroll.hasNext());
+		assertEquals(Long.valueOf(0), scroll.total());
+	}
+
+	private List<GeoTextIndex.Hit<Place>> bruteForce(double lat, double lon, Object category, String keyword) {
+		List<String> terms = keyword == null || keyword.isBlank()
+				? List.of()
+				: Arrays.stream(keyword.trim().split("\\s+")).map(GeoTextIndex::normalize).toList();
+		return places.stream()
+				.filter(p -> category == null || Objects.equals(category, p.category()))
+				.filter(p -> terms.isEmpty() || terms.stream().anyMatch(t -> GeoTextIndex.normalize(p.name()).contains(t)))
+				.map(p -> new GeoTextIndex.Hit<>(p, p.id(), GeoPoint.distanceKm(lat, lon, p.lat(), p.lon())))
+				.sorted(Comparator.<GeoTextIndex.Hit<Place>>comparingDouble(GeoTextIndex.Hit::distanceKm)
+						.thenComparingLong(GeoTextIndex.Hit::id))
+				.toList();
+	}
+
+	private Place place(long id, double lat, double lon) {
+		String name = WORDS[random.nextInt(WORDS.length)] + " " + BRANCHES[random.nextInt(BRANCHES.length)];
+		String category = random.nextInt(10) == 0 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)];
+		return new Place(id, lat, lon, name, category);
+	}
+
+	private double queryLat() {
+		return random.nextInt(5) == 0 ? 35.0 + random.nextDouble() * 0.3 : 37.4 + random.nextDouble() * 0.3;
+	}
+
+	private double queryLon() {
+		return random.nextInt(5) == 0 ? 128.9 + random.nextDouble() * 0.3 : 126.9 + random.nextDouble() * 0.3;
+	}
+
+	private Object queryCategory() {
+		int r = random.nextInt(CATEGORIES.length + 1);
+		return r == CATEGORIES.length ? null : CATEGORIES[r];
+	}
+
+	private static List<Long> ids(List<GeoTextIndex.Hit<Place>> hits) {
+		return hits.stream().map(GeoTextIndex.Hit::id).toList();
+	}
+
+	private record Place(long id, double lat, double lon, String name, String category) {
+	}
+}
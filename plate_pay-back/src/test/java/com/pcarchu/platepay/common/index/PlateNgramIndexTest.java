@@ -0,0 +1,145 @@
+package com.pcarchu.platepay.common.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PlateNgramIndex 검색 결과를 전체 번호판 contains 확인과 비교한다. (등록/변경/삭제를 섞어서)
+ */
+class PlateNgramIndexTest {
+	private static final String HANGUL = "가나다라마거너더러머버서어저고노도로모보소오조구누두루무부수우주하허호배";
+	private static final String[] REGIONS = {"서울", "부산", "경기", "인천"};
+
+	@Test
+	@DisplayName("등록/변경/삭제 후 검색 결과가 전체 탐색과 같다")
+	void searchMatchesBruteForce() {
+		Random random = new Random(5);
+		PlateNgramIndex<Long, Long> index = new PlateNgramIndex<>();
+		Map<Long, String> plates = new HashMap<>();
+
+		for (int step = 0; step < 20_000; step++) {
+			long key = random.nextInt(3000);
+			int op = random.nextInt(10);
+			if (op < 6) {
+				String plate = randomPlate(random);
+				index.put(key, plate, key);
+				plates.put(key, plate);
+			} else if (op < 7) {
+				Long removed = index.remove(key);
+				assertEquals(plates.remove(key) == null ? null : key, removed);
+			} else {
+				String query = randomQuery(random, plates);
+				assertSearch(index, plates, query);
+			}
+		}
+		assertEquals(plates.size(), index.size());
+	}
+
+	@Test
+	@DisplayName("뒷자리 4자리, 한 글자, 자모 분리/공백/하이픈 입력")
+	void queryForms() {
+		PlateNgramIndex<Long, Long> index = new PlateNgramIndex<>();
+		Map<Long, String> plates = new HashMap<>();
+		String[] values = {"227루1837", "12가1837", "123가4567", "서울12가3456", "18나3456", "99허1234"};
+		for (int i = 0; i < values.length; i++) {
+			index.put((long) i, values[i], (long) i);
+			plates.put((long) i, values[i]);
+		}
+
+		for (String query : new String[]{"1837", "3456", "0000", "7", "루", "가", "7루18", "루1", "12가",
+				"227 루 1837", "227-루-1837", Normalizer.normalize("루1837", Normalizer.Form.NFD), "", " "}) {
+			assertSearch(index, plates, query);
+		}
+		assertEquals(Set.of(0L, 1L), new HashSet<>(index.search("1837", 10)));
+		assertEquals(Set.of(0L), new HashSet<>(index.search(Normalizer.normalize("7루", Normalizer.Form.NFD), 10)));
+	}
+
+	@Test
+	@DisplayName("limit만큼만 돌려주고, 변경된 번호판의 이전 번호로는 찾지 않는다")
+	void limitAndReindex() {
+		PlateNgramIndex<Long, Long> index = new PlateNgramIndex<>();
+		for (long i = 0; i < 100; i++) {
+			index.put(i, String.format("%d가%04d", 10 + i % 90, i), i);
+		}
+		assertEquals(5, index.search("가", 5).size());
+		assertEquals(5, index.search("00", 5).size());
+		assertTrue(index.search("가", 0).isEmpty());
+
+		index.put(7L, "55하9999", 7L);
+		assertTrue(index.search("0007", 10).isEmpty());
+		assertEquals(List.of(7L), index.search("9999", 10));
+
+		assertEquals(Long.valueOf(7), index.remove(7L));
+		assertNull(index.remove(7L));
+		assertTrue(index.search("9999", 10).isEmpty());
+
+		index.clear();
+		assertEquals(0, index.size());
+		assertTrue(index.search("가", 10).isEmpty());
+	}
+
+	private static void assertSearch(PlateNgramIndex<Long, Long> index, Map<Long, String> plates, String query) {
+		String q = PlateNgramIndex.normalize(query);
+		Set<Long> expected = q.isEmpty()
+				? Set.of()
+				: plates.entrySet().stream()
+						.filter(e -> PlateNgramIndex.normalize(e.getValue()).contains(q))
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toSet());
+
+		List<Long> all = index.search(query, Integer.MAX_VALUE);
+		assertEquals(all.size(), new HashSet<>(all).size(), "duplicate results for " + query);
+		assertEquals(expected, new HashSet<>(all), "query=" + query);
+
+		int limit = 3;
+		List<Long> limited = index.search(query, limit);
+		assertEquals(Math.min(limit, expected.size()), limited.size(), "query=" + query);
+		assertTrue(expected.containsAll(limited), "query=" + query);
+	}
+
+	private static String randomPlate(Random random) {
+		char hangul = HANGUL.charAt(random.nextInt(HANGUL.length()));
+		String plate = switch (random.nextInt(3)) {
+			case 0 -> String.format("%02d%c%04d", random.nextInt(100), hangul, random.nextInt(10_000));
+			case 1 -> String.format("%03d%c%04d", random.nextInt(1000), hangul, random.nextInt(10_000));
+			default -> String.format("%s%02d%c%04d", REGIONS[random.nextInt(REGIONS.length)], random.nextInt(100), hangul, random.nextInt(10_000));
+		};
+		// 입력 형태 차이 (자모 분리, 공백)
+		return switch (random.nextInt(6)) {
+			case 0 -> Normalizer.normalize(plate, Normalizer.Form.NFD);
+			case 1 -> plate.replaceFirst("(\\d+)(\\D)", "$1 $2 ");
+			default -> plate;
+		};
+	}
+
+	private static String randomQuery(Random random, Map<Long, String> plates) {
+		if (plates.isEmpty() || random.nextInt(5) == 0) {
+			return String.format("%04d", random.nextInt(10_000));
+		}
+		List<String> values = new ArrayList<>(plates.values());
+		String plate = PlateNgramIndex.normalize(values.get(random.nextInt(values.size())));
+		return switch (random.nextInt(4)) {
+			case 0 -> plate.substring(plate.length() - 4);
+			case 1 -> String.valueOf(plate.charAt(random.nextInt(plate.length())));
+			default -> {
+				int from = random.nextInt(plate.length() - 1);
+				int to = from + 2 + random.nextInt(Math.min(4, plate.length() - from - 1));
+				yield plate.substring(from, Math.min(to, plate.length()));
+			}
+		};
+	}
+}
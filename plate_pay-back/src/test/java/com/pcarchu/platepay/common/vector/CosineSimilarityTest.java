@@ -0,0 +1,95 @@
+package com.pcarchu.platepay.common.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CosineSimilarity.cosine을 한 원소씩 세 번 순회하는 단순 계산과 비교한다.
+ */
+class CosineSimilarityTest {
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	@DisplayName("4의 배수가 아닌 길이(나머지 구간)를 포함해 단순 계산과 같다")
+	void matchesNaiveForAllTailLengths() {
+		Random random = new Random(19);
+		for (int n = 1; n <= 67; n++) {
+			for (int trial = 0; trial < 20; trial++) {
+				float[] a = randomVector(random, n);
+				float[] b = randomVector(random, n);
+				assertEquals(naive(a, b), CosineSimilarity.cosine(a, b), EPSILON, "n=" + n);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("임베딩 차원(128, 512, 2622, 4096)에서 단순 계산과 같다")
+	void matchesNaiveForEmbeddingDimensions() {
+		Random random = new Random(128);
+		for (int n : new int[]{128, 512, 2622, 4096}) {
+			for (int trial = 0; trial < 50; trial++) {
+				float[] a = randomVector(random, n);
+				float[] b = randomVector(random, n);
+				assertEquals(naive(a, b), CosineSimilarity.cosine(a, b), EPSILON, "n=" + n);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("같은 방향은 1, 반대 방향은 -1, 직교는 0")
+	void knownAngles() {
+		float[] a = {1, 2, 3, 4, 5};
+		float[] twice = {2, 4, 6, 8, 10};
+		float[] opposite = {-1, -2, -3, -4, -5};
+		assertEquals(1.0, CosineSimilarity.cosine(a, twice), EPSILON);
+		assertEquals(-1.0, CosineSimilarity.cosine(a, opposite), EPSILON);
+		assertEquals(0.0, CosineSimilarity.cosine(new float[]{1, 0, 0, 0, 0}, new float[]{0, 1, 0, 0, 0}), EPSILON);
+	}
+
+	@Test
+	@DisplayName("영벡터나 빈 벡터는 0 (NaN이 아님)")
+	void zeroVectors() {
+		for (int n : new int[]{0, 1, 3, 4, 5, 128}) {
+			float[] zero = new float[n];
+			float[] other = randomVector(new Random(n), n);
+			assertEquals(0.0, CosineSimilarity.cosine(zero, other), "n=" + n);
+			assertEquals(0.0, CosineSimilarity.cosine(other, zero), "n=" + n);
+			assertEquals(0.0, CosineSimilarity.cosine(zero, zero), "n=" + n);
+		}
+	}
+
+	@Test
+	@DisplayName("차원이 다르면 IllegalArgumentException")
+	void dimensionMismatch() {
+		assertThrows(IllegalArgumentException.class, () -> CosineSimilarity.cosine(new float[128], new float[512]));
+	}
+
+	private static double naive(float[] a, float[] b) {
+		double dot = 0;
+		for (int i = 0; i < a.length; i++) {
+			dot += (double) a[i] * b[i];
+		}
+		double normA = 0;
+		for (float v : a) {
+			normA += (double) v * v;
+		}
+		double normB = 0;
+		for (float v : b) {
+			normB += (double) v * v;
+		}
+		return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+	}
+
+	private static float[] randomVector(Random random, int n) {
+		float[] v = new float[n];
+		for (int i = 0; i < n; i++) {
+			v[i] = (float) random.nextGaussian();
+		}
+		return v;
+	}
+}
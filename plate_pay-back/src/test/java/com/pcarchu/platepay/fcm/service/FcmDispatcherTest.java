@@ -0,0 +1,222 @@
+package com.pcarchu.platepay.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * FcmDispatcher를 FcmSender stub으로 돌려 일괄 크기, 재시도, 버림, 커밋 이후 발송을 확인한다.
+ */
+class FcmDispatcherTest {
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private FcmDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (dispatcher != null) {
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("쌓인 알림을 batch-size(최대 500)씩 나눠 한 번씩만 보낸다")
+	void sendsQueuedMessagesInBatches() {
+		StubSender sender = new StubSender(call -> Outcome.SUCCESS);
+		dispatcher = new FcmDispatcher(sender, 10_000, 1000, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+		for (int i = 0; i < 1200; i++) {
+			dispatcher.enqueue("token-" + i, "출차", "결제 완료");
+		}
+		dispatcher.start();
+
+		await(() -> sender.sentCount() == 1200);
+		assertEquals(List.of(500, 500, 200), sender.batchSizes);
+	}
+
+	@Test
+	@DisplayName("일시 오류(UNAVAILABLE)는 다시 보내고, 성공하면 멈춘다")
+	void retriesTransientErrors() throws InterruptedException {
+		StubSender sender = new StubSender(call -> call == 0 ? Outcome.UNAVAILABLE : Outcome.SUCCESS);
+		dispatcher = new FcmDispatcher(sender, 100, 500, 5, Duration.ofMillis(1), Duration.ofMillis(5));
+		for (int i = 0; i < 3; i++) {
+			dispatcher.enqueue("token-" + i, "출차", "결제 완료");
+		}
+		dispatcher.start();
+
+		await(() -> sender.sentCount() == 6);
+		Thread.sleep(200);
+		assertEquals(6, sender.sentCount());
+	}
+
+	@Test
+	@DisplayName("토큰 오류(UNREGISTERED)는 재시도하지 않는다")
+	void dropsTokenErrors() throws InterruptedException {
+		StubSender sender = new StubSender(call -> Outcome.UNREGISTERED);
+		dispatcher = new FcmDispatcher(sender, 100, 500, 5, Duration.ofMillis(1), Duration.ofMillis(5));
+		dispatcher.enqueue("stale-token", "출차", "결제 완료");
+		dispatcher.start();
+
+		await(() -> sender.sentCount() == 1);
+		Thread.sleep(200);
+		assertEquals(1, sender.sentCount());
+	}
+
+	@Test
+	@DisplayName("발송 예외가 계속되면 max-attempts번까지만 보낸다")
+	void givesUpAfterMaxAttempts() throws InterruptedException {
+		StubSender sender = new StubSender(call -> Outcome.THROW);
+		dispatcher = new FcmDispatcher(sender, 100, 500, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+		dispatcher.enqueue("token", "출차", "결제 완료");
+		dispatcher.start();
+
+		await(() -> sender.sentCount() == 3);
+		Thread.sleep(200);
+		assertEquals(3, sender.sentCount());
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 새 알림을 버린다")
+	void dropsWhenQueueIsFull() throws InterruptedException {
+		StubSender sender = new StubSender(call -> Outcome.SUCCESS);
+		dispatcher = new FcmDispatcher(sender, 2, 500, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+		for (int i = 0; i < 5; i++) {
+			dispatcher.enqueue("token-" + i, "출차", "결제 완료");
+		}
+		dispatcher.enqueue(" ", "출차", "토큰 없음");
+		dispatcher.start();
+
+		await(() -> sender.sentCount() == 2);
+		Thread.sleep(200);
+		assertEquals(2, sender.sentCount());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 등록하면 커밋 이후에만 보내고, 롤백되면 보내지 않는다")
+	void sendsOnlyAfterCommit() throws InterruptedException {
+		StubSender sender = new StubSender(call -> Outcome.SUCCESS);
+		dispatcher = new FcmDispatcher(sender, 100, 500, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+		dispatcher.start();
+
+		completeTransaction(() -> dispatcher.enqueue("rolled-back", "출차", "결제 완료"), false);
+		Thread.sleep(200);
+		assertEquals(0, sender.sentCount());
+
+		completeTransaction(() -> dispatcher.enqueue("committed", "출차", "결제 완료"), true);
+		await(() -> sender.sentCount() == 1);
+	}
+
+	private static void completeTransaction(Runnable body, boolean commit) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			body.run();
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			for (TransactionSynchronization synchronization : synchronizations) {
+				if (commit) {
+					synchronization.afterCommit();
+				}
+				synchronization.afterCompletion(commit
+						? TransactionSynchronization.STATUS_COMMITTED
+						: TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("조건을 " + WAIT + " 안에 만족하지 못함");
+			}
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AssertionError(e);
+			}
+		}
+	}
+
+	private enum Outcome {
+		SUCCESS, UNAVAILABLE, UNREGISTERED, THROW
+	}
+
+	/**
+	 * 호출 순번별 결과를 돌려주는 FcmSender (한 호출 안의 메시지는 모두 같은 결과)
+	 */
+	private static final class StubSender implements FcmSender {
+		private final IntFunction<Outcome> outcomes;
+		private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		private final SendResponse success = response(true, null);
+		private final SendResponse unavailable = response(false, MessagingErrorCode.UNAVAILABLE);
+		private final SendResponse unregistered = response(false, MessagingErrorCode.UNREGISTERED);
+
+		private StubSender(IntFunction<Outcome> outcomes) {
+			this.outcomes = outcomes;
+		}
+
+		@Override
+		public BatchResponse sendEach(List<Message> messages) {
+			Outcome outcome = outcomes.apply(batchSizes.size());
+			batchSizes.add(messages.size());
+			SendResponse r = switch (outcome) {
+				case SUCCESS -> success;
+				case UNAVAILABLE -> unavailable;
+				case UNREGISTERED -> unregistered;
+				case THROW -> throw new IllegalStateException("FCM 연결 실패");
+			};
+			List<SendResponse> responses = messages.stream().map(m -> r).toList();
+			int successCount = outcome == Outcome.SUCCESS ? responses.size() : 0;
+			return new BatchResponse() {
+				@Override
+				public List<SendResponse> getResponses() {
+					return responses;
+				}
+
+				@Override
+				public int getSuccessCount() {
+					return successCount;
+				}
+
+				@Override
+				public int getFailureCount() {
+					return responses.size() - successCount;
+				}
+			};
+		}
+
+		int sentCount() {
+			return batchSizes.stream().mapToInt(Integer::intValue).sum();
+		}
+
+		private static SendResponse response(boolean successful, MessagingErrorCode code) {
+			SendResponse response = mock(SendResponse.class);
+			when(response.isSuccessful()).thenReturn(successful);
+			if (code != null) {
+				FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+				when(exception.getMessagingErrorCode()).thenReturn(code);
+				when(response.getException()).thenReturn(exception);
+			}
+			return response;
+		}
+	}
+}
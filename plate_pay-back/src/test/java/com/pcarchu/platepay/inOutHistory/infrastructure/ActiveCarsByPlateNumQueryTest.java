@@ -0,0 +1,168 @@
+package com.pcarchu.platepay.inOutHistory.infrastructure;
+
+import com.pcarchu.platepay.PlatepayApplication;
+import com.pcarchu.platepay.account.domain.entity.Account;
+import com.pcarchu.platepay.bank.domain.entity.Bank;
+import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.config.querydsl.QueryDslConfig;
+import com.pcarchu.platepay.file.domain.entity.PlatePayFile;
+import com.pcarchu.platepay.inOutHistory.domain.entity.InOutHistory;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLot;
+import com.pcarchu.platepay.parkingLot.domain.entity.ParkingLotFee;
+import com.pcarchu.platepay.parkingLot.infrastructure.ParkingLotRepositoryQueryDsl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키오스크 번호판 부분검색(InOutHistory/ParkingLot QueryDSL)이 차량 이미지를 fetch join으로 함께 가져와
+ * 결과 차량 수와 관계없이 쿼리 한 번으로 끝나는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ActiveCarsByPlateNumQueryTest {
+	private static final String PLATE = "1837";
+
+	@Autowired
+	private InOutHistoryRepositoryQueryDsl inOutHistoryRepositoryQueryDsl;
+
+	@Autowired
+	private ParkingLotRepositoryQueryDsl parkingLotRepositoryQueryDsl;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long parkingLotUid;
+
+	@BeforeEach
+	void setUp() {
+		Member member = em.persist(Member.builder()
+				.email("user@platepay.com")
+				.loginType("KAKAO")
+				.roles(new ArrayList<>(List.of("ROLE_USER")))
+				.build());
+
+		em.getEntityManager()
+				.createNativeQuery("INSERT INTO bank (bank_code, bank_name) VALUES ('088', '신한은행')")
+				.executeUpdate();
+		Bank bank = em.getEntityManager().createQuery("select b from Bank b", Bank.class).getSingleResult();
+		Account account = em.persist(Account.builder()
+				.bank(bank)
+				.member(member)
+				.accountName("계좌")
+				.accountNo("08800000000")
+				.isMain(true)
+				.status(true)
+				.build());
+
+		ParkingLot parkingLot = persistParkingLot("주차장1");
+		ParkingLot otherLot = persistParkingLot("주차장2");
+		parkingLotUid = parkingLot.getParkingLotUid();
+
+		// 입차 중: 227루1837, 12가1837, 33나1837 / 출차: 45다1837 / 다른 주차장: 56라1837 / 번호 불일치: 78마5555
+		persistHistory(parkingLot, persistCar(member, "227루1837"), account, null);
+		persistHistory(parkingLot, persistCar(member, "12가1837"), account, null);
+		persistHistory(parkingLot, persistCar(member, "33나1837"), account, null);
+		persistHistory(parkingLot, persistCar(member, "45다1837"), account, LocalDateTime.now());
+		persistHistory(otherLot, persistCar(member, "56라1837"), account, null);
+		persistHistory(parkingLot, persistCar(member, "78마5555"), account, null);
+
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	@DisplayName("InOutHistory 부분검색은 차량과 이미지를 한 번에 가져온다")
+	void inOutHistoryQueryLoadsImagesInOneQuery() {
+		assertSingleQuery(inOutHistoryRepositoryQueryDsl.findActiveCarsByParkingLotAndPlateNum(parkingLotUid, PLATE));
+	}
+
+	@Test
+	@DisplayName("ParkingLot 부분검색은 차량과 이미지를 한 번에 가져온다")
+	void parkingLotQueryLoadsImagesInOneQuery() {
+		assertSingleQuery(parkingLotRepositoryQueryDsl.findActiveCarsByParkingLotAndPlateNum(parkingLotUid, PLATE));
+	}
+
+	private void assertSingleQuery(List<Car> cars) {
+		Statistics statistics = statistics();
+		assertThat(cars).extracting(Car::getPlateNum)
+				.containsExactlyInAnyOrder("227루1837", "12가1837", "33나1837");
+		assertThat(cars).allMatch(car -> Hibernate.isInitialized(car.getPlatePayFile()));
+		assertThat(cars).noneMatch(car -> Hibernate.isInitialized(car.getMember()));
+
+		assertThat(cars).extracting(car -> car.getPlatePayFile().getPath())
+				.containsExactlyInAnyOrder("/227루1837.png", "/12가1837.png", "/33나1837.png");
+		// 이미지 경로(CarInfo.imgUrl)를 읽어도 차량마다 추가 쿼리 없음, 입출차 이력의 주차장(EAGER)도 조회하지 않음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(ParkingLot.class.getName()).getLoadCount()).isZero();
+	}
+
+	private ParkingLot persistParkingLot(String name) {
+		ParkingLotFee fee = em.persist(ParkingLotFee.builder()
+				.primaryFee(1000)
+				.additionalFee(500)
+				.build());
+		return em.persist(ParkingLot.builder()
+				.parkingLotName(name)
+				.latitude("35.1595")
+				.longitude("126.8526")
+				.address("광주광역시 동구")
+				.parkingLotFee(fee)
+				.build());
+	}
+
+	private Car persistCar(Member member, String plateNum) {
+		PlatePayFile img = em.persist(PlatePayFile.builder()
+				.type("image/png").name(plateNum).ext("png").path("/" + plateNum + ".png")
+				.build());
+		return em.persist(Car.builder()
+				.plateNum(plateNum)
+				.member(member)
+				.platePayFile(img)
+				.status(true)
+				.build());
+	}
+
+	private void persistHistory(ParkingLot parkingLot, Car car, Account account, LocalDateTime outTime) {
+		em.persist(InOutHistory.builder()
+				.parkingLot(parkingLot)
+				.car(car)
+				.account(account)
+				.inTime(LocalDateTime.now().minusHours(1))
+				.outTime(outTime)
+				.build());
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// PlatepayApplication의 Elasticsearch 저장소 설정 없이 JPA와 QueryDSL 저장소만 올린다
+	@SpringBootConfiguration
+	@EntityScan(basePackageClasses = PlatepayApplication.class)
+	@EnableJpaRepositories(basePackageClasses = InOutHistoryRepositoryJpa.class)
+	@Import({QueryDslConfig.class, InOutHistoryRepositoryQueryDsl.class, ParkingLotRepositoryQueryDsl.class})
+	static class JpaTestConfiguration {
+	}
+}
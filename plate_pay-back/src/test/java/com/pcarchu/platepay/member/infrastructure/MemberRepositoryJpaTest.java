@@ -0,0 +1,119 @@
+package com.pcarchu.platepay.member.infrastructure;
+
+import com.pcarchu.platepay.PlatepayApplication;
+import com.pcarchu.platepay.account.domain.entity.Account;
+import com.pcarchu.platepay.bank.domain.entity.Bank;
+import com.pcarchu.platepay.car.domain.entity.Car;
+import com.pcarchu.platepay.file.domain.entity.PlatePayFile;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터의 회원 조회가 차량/계좌/차량 이미지를 끌어오지 않는지 쿼리 수로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MemberRepositoryJpaTest {
+	private static final String EMAIL = "user@platepay.com";
+	private static final String LOGIN_TYPE = "KAKAO";
+
+	@Autowired
+	private MemberRepositoryJpa memberRepositoryJpa;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setUp() {
+		Member member = em.persist(Member.builder()
+				.email(EMAIL)
+				.loginType(LOGIN_TYPE)
+				.roles(new ArrayList<>(List.of("ROLE_USER")))
+				.build());
+
+		for (int i = 0; i < 3; i++) {
+			PlatePayFile img = em.persist(PlatePayFile.builder()
+					.type("image/png").name("car" + i).ext("png").path("/car" + i + ".png")
+					.build());
+			em.persist(Car.builder()
+					.plateNum("12가345" + i)
+					.member(member)
+					.platePayFile(img)
+					.status(true)
+					.build());
+		}
+
+		em.getEntityManager()
+				.createNativeQuery("INSERT INTO bank (bank_code, bank_name) VALUES ('088', '신한은행')")
+				.executeUpdate();
+		Bank bank = em.getEntityManager().createQuery("select b from Bank b", Bank.class).getSingleResult();
+		for (int i = 0; i < 2; i++) {
+			em.persist(Account.builder()
+					.bank(bank)
+					.member(member)
+					.accountName("계좌" + i)
+					.accountNo("0880000000" + i)
+					.isMain(i == 0)
+					.status(true)
+					.build());
+		}
+
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	@DisplayName("인증 조회는 회원과 권한만 한 번에 가져온다")
+	void findByEmailAndLoginTypeLoadsOnlyMemberAndRoles() {
+		Member member = memberRepositoryJpa.findByEmailAndLoginType(EMAIL, LOGIN_TYPE).orElseThrow();
+		LoginMember loginMember = LoginMember.from(member);
+
+		Statistics statistics = statistics();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(Car.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(PlatePayFile.class.getName()).getLoadCount()).isZero();
+		assertThat(Hibernate.isInitialized(member.getCars())).isFalse();
+		assertThat(Hibernate.isInitialized(member.getAccounts())).isFalse();
+
+		assertThat(loginMember.getMemberUid()).isEqualTo(member.getMemberUid());
+		assertThat(loginMember.getAuthorities())
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactly("ROLE_USER");
+		// LoginMember 생성 후에도 추가 쿼리 없음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// PlatepayApplication의 Elasticsearch 저장소 설정 없이 JPA만 올린다
+	@SpringBootConfiguration
+	@EntityScan(basePackageClasses = PlatepayApplication.class)
+	@EnableJpaRepositories(basePackageClasses = MemberRepositoryJpa.class)
+	static class JpaTestConfiguration {
+	}
+}
@@ -0,0 +1,103 @@
+package com.pcarchu.platepay.parkingLot.service;
+
+import com.pcarchu.platepay.car.dto.CarResponseDto;
+import com.pcarchu.platepay.inOutHistory.domain.repository.InOutHistoryRepository;
+import com.pcarchu.platepay.inOutHistory.dto.InOutHistoryResponseDto;
+import com.pcarchu.platepay.inOutHistory.infrastructure.ActiveSessionIndex;
+import com.pcarchu.platepay.parkingLot.domain.repository.ParkingLotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입차 세션 인덱스가 준비되면 미적중이어도 DB 부분검색(LIKE)을 하지 않고,
+ * 복제 유실로 stale인 동안만 DB로 대체하는지 확인한다.
+ */
+class ParkingLotServiceImplTest {
+	private static final Long LOT = 1L;
+
+	private InOutHistoryRepository inOutHistoryRepository;
+	private ParkingLotRepository parkingLotRepository;
+	private ActiveSessionIndex index;
+	private ParkingLotServiceImpl service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		inOutHistoryRepository = mock(InOutHistoryRepository.class);
+		parkingLotRepository = mock(ParkingLotRepository.class);
+		when(inOutHistoryRepository.findAllActiveWithCar()).thenReturn(List.of());
+		index = new ActiveSessionIndex(inOutHistoryRepository, mock(ObjectProvider.class));
+		service = new ParkingLotServiceImpl(parkingLotRepository, index);
+
+		index.rebuild();
+		index.applyEnter(session(10L, "227루1837"));
+	}
+
+	@Test
+	@DisplayName("인덱스 적중/미적중 모두 DB를 조회하지 않는다")
+	void readyIndexIsTheAnswer() {
+		List<CarResponseDto.CarInfo> hit = service.getActiveCars(LOT, "1837");
+		assertEquals(1, hit.size());
+		assertEquals(10L, hit.get(0).getCarUid());
+
+		assertTrue(service.getActiveCars(LOT, "9999").isEmpty());      // 주차장에 없는 번호판
+		assertTrue(service.getActiveCars(LOT, "1873").isEmpty());      // 오타
+		assertTrue(service.getActiveCars(LOT, "5").isEmpty());         // 한 글자 (bigram 미만)
+		assertTrue(service.getActiveCars(2L, "1837").isEmpty());       // 입차 차량이 없는 주차장
+
+		verify(parkingLotRepository, never()).findActiveCarsByParkingLotAndPlateNum(any(), any());
+	}
+
+	@Test
+	@DisplayName("복제 유실로 stale이면 재구성이 끝날 때까지 DB로 대체한다")
+	void staleIndexFallsBackUntilRebuilt() {
+		index.markStale();
+		assertTrue(index.isStale());
+
+		service.getActiveCars(LOT, "9999");
+		verify(parkingLotRepository, times(1)).findActiveCarsByParkingLotAndPlateNum(LOT, "9999");
+
+		index.rebuild();
+		assertFalse(index.isStale());
+		service.getActiveCars(LOT, "9999");
+		verify(parkingLotRepository, times(1)).findActiveCarsByParkingLotAndPlateNum(any(), any());
+	}
+
+	@Test
+	@DisplayName("재구성 도중 감지된 유실은 그 재구성으로 해소되지 않는다")
+	void gapDuringRebuildKeepsStale() {
+		when(inOutHistoryRepository.findAllActiveWithCar()).thenAnswer(inv -> {
+			index.markStale(); // DB 조회와 겹친 유실
+			return List.of();
+		});
+
+		index.rebuild();
+
+		assertTrue(index.isStale());
+	}
+
+	private static InOutHistoryResponseDto.ActiveSession session(Long carUid, String plateNum) {
+		return InOutHistoryResponseDto.ActiveSession.builder()
+				.inOutHistoryUid(100L + carUid)
+				.parkingLotUid(LOT)
+				.carUid(carUid)
+				.plateNum(plateNum)
+				.nickName("내 차")
+				.carModel("아반떼")
+				.build();
+	}
+}
@@ -0,0 +1,133 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pcarchu.platepay.common.dto.CursorPage;
+import com.pcarchu.platepay.common.event.GeoPlaceChanged;
+import com.pcarchu.platepay.parkingLot.dto.ParkingLotResponseDto;
+import com.pcarchu.platepay.search.dto.GeoSearchCursor;
+import com.pcarchu.platepay.store.domain.enums.StoreType;
+import com.pcarchu.platepay.store.dto.StoreResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 매장/주차장 변경(GeoPlaceChanged) 후 인메모리 엔진 인덱스를 다시 만든 다음 타일을 비워
+ * 주기 갱신을 기다리지 않고 변경이 검색에 보이는지, 연달은 변경의 재생성이 한 번으로 합쳐지는지 확인한다.
+ */
+class GeoTileSearchCacheRefreshTest {
+	private static final double LAT = 35.1595;
+	private static final double LON = 126.8526;
+
+	private IndexedEngine engine;
+	private List<Runnable> queued;
+	private GeoTileSearchCache cache;
+
+	@BeforeEach
+	void setUp() {
+		engine = new IndexedEngine();
+		queued = new ArrayList<>();
+		cache = new GeoTileSearchCache(engine, Caffeine.newBuilder().build(), Caffeine.newBuilder().build(),
+				queued::add, true, 0.005, 200);
+	}
+
+	@Test
+	@DisplayName("주차장 요금이 바뀌면 인덱스 재생성 후 타일이 비워져 새 요금이 보인다")
+	void feeChangeIsVisibleAfterRebuild() {
+		engine.source = List.of(lot(1L, 1000));
+		engine.refresh();
+		assertEquals(1000, firstFee());
+
+		engine.source = List.of(lot(1L, 2000));
+		cache.onGeoPlaceChanged(new GeoPlaceChanged(GeoPlaceChanged.Type.PARKING_LOT, null));
+		assertEquals(1000, firstFee()); // 재생성 전에는 이전 인덱스로 다시 채워진다
+
+		runQueued();
+		assertEquals(2000, firstFee());
+		assertEquals(2, engine.refreshes);
+	}
+
+	@Test
+	@DisplayName("재생성 전에 연달아 바뀌면 한 번만 다시 만든다")
+	void coalescesRefreshes() {
+		engine.source = List.of(lot(1L, 1000));
+
+		cache.onGeoPlaceChanged(new GeoPlaceChanged(GeoPlaceChanged.Type.PARKING_LOT, 1L));
+		cache.onGeoPlaceChanged(new GeoPlaceChanged(GeoPlaceChanged.Type.STORE, 3L));
+		cache.onGeoPlaceChanged(new GeoPlaceChanged(GeoPlaceChanged.Type.PARKING_LOT, 2L));
+		assertEquals(1, queued.size());
+
+		runQueued();
+		assertEquals(1, engine.refreshes);
+
+		cache.onGeoPlaceChanged(new GeoPlaceChanged(GeoPlaceChanged.Type.STORE, 3L));
+		assertEquals(1, queued.size());
+	}
+
+	private int firstFee() {
+		return cache.searchParkingLots(LAT, LON, null, PageRequest.of(0, 10)).getContent().get(0).getPrimaryFee();
+	}
+
+	private void runQueued() {
+		List<Runnable> tasks = new ArrayList<>(queued);
+		queued.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+	private static ParkingLotResponseDto.SearchHit lot(Long uid, int primaryFee) {
+		return ParkingLotResponseDto.SearchHit.builder()
+				.parkingLotUid(uid)
+				.parkingLotName("주차장" + uid)
+				.latitude(LAT)
+				.longitude(LON)
+				.primaryFee(primaryFee)
+				.additionalFee(500)
+				.build();
+	}
+
+	/**
+	 * refresh 시점에만 원본(source)을 다시 읽는 인메모리 엔진 대역
+	 */
+	private static class IndexedEngine implements GeoSearchEngine {
+		private volatile List<ParkingLotResponseDto.SearchHit> source = List.of();
+		private volatile List<ParkingLotResponseDto.SearchHit> indexed = List.of();
+		private int refreshes;
+
+		@Override
+		public void refresh() {
+			indexed = List.copyOf(source);
+			refreshes++;
+		}
+
+		@Override
+		public Page<StoreResponseDto.SearchHit> searchStores(double lat, double lon, StoreType type, String keyword, Pageable pageable) {
+			return new PageImpl<>(List.of(), pageable, 0);
+		}
+
+		@Override
+		public Page<ParkingLotResponseDto.SearchHit> searchParkingLots(double lat, double lon, String keyword, Pageable pageable) {
+			return new PageImpl<>(indexed, pageable, indexed.size());
+		}
+
+		@Override
+		public CursorPage<StoreResponseDto.SearchHit> scrollStores(double lat, double lon, StoreType type, String keyword,
+																   GeoSearchCursor after, int size, boolean trackTotalHits) {
+			return CursorPage.<StoreResponseDto.SearchHit>builder().content(List.of()).build();
+		}
+
+		@Override
+		public CursorPage<ParkingLotResponseDto.SearchHit> scrollParkingLots(double lat, double lon, String keyword,
+																			 GeoSearchCursor after, int size, boolean trackTotalHits) {
+			return CursorPage.<ParkingLotResponseDto.SearchHit>builder().content(List.of()).build();
+		}
+	}
+}
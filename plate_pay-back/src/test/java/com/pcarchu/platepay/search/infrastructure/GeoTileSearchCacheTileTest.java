@@ -0,0 +1,154 @@
+package com.pcarchu.platepay.search.infrastructure;
+
+import com.pcarchu.platepay.common.domain.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GeoTileSearchCache.Tile.page가 답을 주는 경우 전체 탐색(요청 지점 기준 거리, id 정렬)과 같은지 확인한다.
+ * 후보는 엔진처럼 칸 중심 기준 가까운 순 candidates개를 쓴다.
+ */
+class GeoTileSearchCacheTileTest {
+	private static final double CELL_DEGREES = 0.005;
+	private static final int CANDIDATES = 200;
+
+	private static final GeoTileSearchCache.HitType<Place> PLACE_HITS = new GeoTileSearchCache.HitType<>(
+			Place::uid, Place::lat, Place::lon, Place::withDistance);
+
+	@Test
+	@DisplayName("후보 범위(coverKm) 안쪽 페이지는 전체 탐색과 같고, 아니면 null")
+	void pageMatchesBruteForceOrReturnsNull() {
+		Random random = new Random(25);
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			places.add(new Place(i, 37.45 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2, null));
+		}
+		// 좌표 없는 주차장 (엔진 정렬상 맨 뒤)
+		for (int i = 0; i < 20; i++) {
+			places.add(new Place(5000 + i, Double.NaN, Double.NaN, null));
+		}
+
+		int answered = 0;
+		int firstPagesAnswered = 0;
+		int firstPages = 0;
+		for (int q = 0; q < 2000; q++) {
+			double lat = 37.5 + random.nextDouble() * 0.1;
+			double lon = 126.95 + random.nextDouble() * 0.1;
+			int size = 1 + random.nextInt(30);
+			int pageNumber = random.nextInt(3) == 0 ? random.nextInt(200 / size) : 0;
+			PageRequest pageable = PageRequest.of(pageNumber, size);
+
+			GeoTileSearchCache.TileKey key = GeoTileSearchCache.TileKey.of(lat, lon, CELL_DEGREES, null, null);
+			double centerLat = key.centerLat(CELL_DEGREES);
+			double centerLon = key.centerLon(CELL_DEGREES);
+			GeoTileSearchCache.Tile<Place> tile = GeoTileSearchCache.Tile.of(
+					engine(places, centerLat, centerLon, PageRequest.of(0, CANDIDATES)), centerLat, centerLon, PLACE_HITS);
+
+			Page<Place> page = tile.page(lat, lon, pageable, PLACE_HITS);
+			if (pageNumber == 0) {
+				firstPages++;
+			}
+			if (page == null) {
+				continue;
+			}
+			answered++;
+			if (pageNumber == 0) {
+				firstPagesAnswered++;
+			}
+
+			Page<Place> expected = engine(places, lat, lon, pageable);
+			String label = "query=(" + lat + ", " + lon + "), page=" + pageable;
+			assertEquals(expected.getTotalElements(), page.getTotalElements(), label);
+			assertEquals(uids(expected.getContent()), uids(page.getContent()), label);
+			for (int i = 0; i < page.getContent().size(); i++) {
+				assertEquals(expected.getContent().get(i).distanceKm(), page.getContent().get(i).distanceKm(), 1e-12, label);
+			}
+		}
+
+		// 도심 밀도에서는 첫 페이지 대부분을 캐시로 답해야 의미가 있다
+		assertTrue(answered > 0);
+		assertTrue(firstPagesAnswered > firstPages * 0.9, firstPagesAnswered + " / " + firstPages);
+	}
+
+	@Test
+	@DisplayName("조건에 맞는 전체가 후보에 들어 있으면(complete) 범위와 무관하게 전체 탐색과 같다")
+	void completeTileAnswersEveryPage() {
+		Random random = new Random(7);
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			places.add(new Place(i, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5, null));
+		}
+
+		for (int q = 0; q < 200; q++) {
+			double lat = 33 + random.nextDouble() * 5;
+			double lon = 125 + random.nextDouble() * 5;
+			GeoTileSearchCache.TileKey key = GeoTileSearchCache.TileKey.of(lat, lon, CELL_DEGREES, null, null);
+			double centerLat = key.centerLat(CELL_DEGREES);
+			double centerLon = key.centerLon(CELL_DEGREES);
+			GeoTileSearchCache.Tile<Place> tile = GeoTileSearchCache.Tile.of(
+					engine(places, centerLat, centerLon, PageRequest.of(0, CANDIDATES)), centerLat, centerLon, PLACE_HITS);
+			assertTrue(tile.complete());
+
+			for (int pageNumber = 0; pageNumber < 4; pageNumber++) {
+				PageRequest pageable = PageRequest.of(pageNumber, 20);
+				Page<Place> page = tile.page(lat, lon, pageable, PLACE_HITS);
+				Page<Place> expected = engine(places, lat, lon, pageable);
+				assertEquals(expected.getTotalElements(), page.getTotalElements());
+				assertEquals(uids(expected.getContent()), uids(page.getContent()));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("후보가 성긴 지역의 깊은 페이지는 null (엔진 직접 검색)")
+	void sparseDeepPageFallsBack() {
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			places.add(new Place(i, 37.5 + i * 0.001, 127.0, null));
+		}
+		double lat = 37.5;
+		double lon = 127.0;
+		GeoTileSearchCache.TileKey key = GeoTileSearchCache.TileKey.of(lat, lon, CELL_DEGREES, null, null);
+		double centerLat = key.centerLat(CELL_DEGREES);
+		double centerLon = key.centerLon(CELL_DEGREES);
+		GeoTileSearchCache.Tile<Place> tile = GeoTileSearchCache.Tile.of(
+				engine(places, centerLat, centerLon, PageRequest.of(0, CANDIDATES)), centerLat, centerLon, PLACE_HITS);
+
+		assertNull(tile.page(lat, lon, PageRequest.of(9, 20), PLACE_HITS));
+		assertNull(tile.page(lat, lon, PageRequest.of(10, 20), PLACE_HITS));
+	}
+
+	// 엔진과 같이 좌표 있는 것을 거리, id 순으로, 좌표 없는 것은 맨 뒤에 둔다
+	private static Page<Place> engine(List<Place> places, double lat, double lon, PageRequest pageable) {
+		List<Place> sorted = places.stream()
+				.map(p -> p.withDistance(Double.isNaN(p.lat()) ? Double.POSITIVE_INFINITY : GeoPoint.distanceKm(lat, lon, p.lat(), p.lon())))
+				.sorted(Comparator.comparingDouble(Place::distanceKm).thenComparingLong(Place::uid))
+				.map(p -> Double.isInfinite(p.distanceKm()) ? p.withDistance(null) : p)
+				.toList();
+		int from = (int) Math.min(pageable.getOffset(), sorted.size());
+		int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), sorted.size());
+		return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+	}
+
+	private static List<Long> uids(List<Place> places) {
+		return places.stream().map(Place::uid).toList();
+	}
+
+	private record Place(long uid, double lat, double lon, Double distanceKm) {
+		Place withDistance(Double distanceKm) {
+			return new Place(uid, lat, lon, distanceKm);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.pcarchu.platepay.security.filter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pcarchu.platepay.member.domain.entity.Member;
+import com.pcarchu.platepay.member.domain.repository.MemberRepository;
+import com.pcarchu.platepay.security.cache.VerifiedPrincipalCache;
+import com.pcarchu.platepay.security.dto.LoginMember;
+import com.pcarchu.platepay.security.provider.TokenProvider;
+import com.pcarchu.platepay.security.revocation.TokenRevocationChecker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캐시 미스 경로(stale token 확인 → 회원 조회 → 캐시 저장) 도중 로그아웃/회원 무효화가 끼어들어도
+ * 무효화된 인증 정보가 캐시에 남지 않는지 확인한다.
+ */
+class JwtAuthenticationFilterTest {
+	private static final String TOKEN = "header.payload.signature";
+	private static final String EMAIL = "driver@platepay.com";
+	private static final String LOGIN_TYPE = "KAKAO";
+	private static final Long MEMBER_UID = 7L;
+
+	private MemberRepository memberRepository;
+	private TokenRevocationChecker tokenRevocationChecker;
+	private VerifiedPrincipalCache principalCache;
+	private JwtAuthenticationFilter filter;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		memberRepository = mock(MemberRepository.class);
+		tokenRevocationChecker = mock(TokenRevocationChecker.class);
+		TokenProvider tokenProvider = mock(TokenProvider.class);
+		principalCache = new VerifiedPrincipalCache(Caffeine.newBuilder().build(),
+				mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+		filter = new JwtAuthenticationFilter(memberRepository, tokenRevocationChecker, tokenProvider, principalCache);
+
+		Claims claims = Jwts.claims().setSubject(EMAIL);
+		claims.put("loginType", LOGIN_TYPE);
+		claims.setExpiration(new Date(System.currentTimeMillis() + 3_600_000));
+		when(tokenProvider.parseClaims(TOKEN)).thenReturn(claims);
+
+		member = mock(Member.class);
+		when(member.getMemberUid()).thenReturn(MEMBER_UID);
+		when(member.getEmail()).thenReturn(EMAIL);
+		when(member.getLoginType()).thenReturn(LOGIN_TYPE);
+		doReturn(List.of(new SimpleGrantedAuthority("ROLE_USER"))).when(member).getAuthorities();
+		when(memberRepository.findByEmailAndLoginType(EMAIL, LOGIN_TYPE)).thenReturn(Optional.of(member));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("검증 후 캐시 저장 (무효화가 없으면 다음 요청은 캐시로 인증)")
+	void cachesVerifiedPrincipal() throws Exception {
+		when(tokenRevocationChecker.isRevoked(TOKEN)).thenReturn(false);
+
+		assertEquals(200, doFilter().getStatus());
+
+		assertTrue(principalCache.get(TOKEN).isPresent());
+	}
+
+	@Test
+	@DisplayName("stale token 확인과 캐시 저장 사이에 로그아웃되면 캐시에 넣지 않는다")
+	void logoutBetweenRevocationCheckAndPutIsNotCached() throws Exception {
+		AtomicBoolean loggedOut = new AtomicBoolean();
+		when(tokenRevocationChecker.isRevoked(TOKEN)).thenAnswer(inv -> {
+			if (loggedOut.get()) {
+				return true;
+			}
+			// 확인을 통과한 직후 다른 요청이 같은 토큰으로 로그아웃
+			loggedOut.set(true);
+			principalCache.revokeToken(TOKEN);
+			return false;
+		});
+
+		assertEquals(200, doFilter().getStatus()); // 확인 시점에는 유효했던 요청
+		assertTrue(principalCache.get(TOKEN).isEmpty(), "로그아웃된 토큰이 캐시에 다시 들어갔다");
+
+		SecurityContextHolder.clearContext();
+		MockHttpServletResponse next = doFilter();
+		assertEquals(401, next.getStatus());
+		assertTrue(next.getContentAsString().contains("stale token"));
+	}
+
+	@Test
+	@DisplayName("회원 조회 후 커밋된 회원 무효화가 캐시 저장보다 먼저 끝나면 옛 인증 정보를 넣지 않는다")
+	void memberEvictionBeforePutIsNotCached() throws Exception {
+		when(tokenRevocationChecker.isRevoked(TOKEN)).thenReturn(false);
+		when(memberRepository.findByEmailAndLoginType(EMAIL, LOGIN_TYPE)).thenAnswer(inv -> {
+			// 조회한 회원 정보가 커밋 이후 무효화됨 (트랜잭션 밖이므로 즉시 제거)
+			principalCache.evictMember(MEMBER_UID);
+			return Optional.of(member);
+		});
+
+		doFilter();
+
+		assertTrue(principalCache.get(TOKEN).isEmpty(), "무효화된 회원 정보가 캐시에 다시 들어갔다");
+	}
+
+	@Test
+	@DisplayName("저장 전에 읽은 세대가 바뀌었으면 put은 저장하지 않는다")
+	void putIsDroppedWhenGenerationChanged() {
+		long generation = principalCache.generation();
+		principalCache.revokeToken("other-token");
+
+		boolean stored = principalCache.put(TOKEN, LoginMember.from(member), Instant.now().plusSeconds(60), generation);
+
+		assertFalse(stored);
+		assertTrue(principalCache.get(TOKEN).isEmpty());
+	}
+
+	private MockHttpServletResponse doFilter() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/members");
+		request.setServletPath("/api/v1/members");
+		request.addHeader("Authorization", "Bearer " + TOKEN);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+		if (response.getStatus() == 200) {
+			assertNotNull(chain.getRequest(), "인증 후 다음 필터로 넘기지 않았다");
+		}
+		return response;
+	}
+}
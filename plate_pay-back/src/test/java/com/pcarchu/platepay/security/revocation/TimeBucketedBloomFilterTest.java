@@ -0,0 +1,102 @@
+package com.pcarchu.platepay.security.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TimeBucketedBloomFilter 구간 회전을 시계를 직접 움직여 확인한다.
+ */
+class TimeBucketedBloomFilterTest {
+	private static final int BUCKETS = 5;
+	private static final long BUCKET_MILLIS = 15 * 60 * 1000L;
+	private static final double FALSE_POSITIVE_RATE = 0.001;
+
+	private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+	@Test
+	@DisplayName("유지 기간((구간 수 - 1) x 구간 길이) 안에서는 거짓 음성이 없다")
+	void keepsValuesForRetentionPeriod() {
+		TimeBucketedBloomFilter filter = newFilter(1000);
+		// 구간이 끝나기 직전에 넣은 값이 가장 빨리 지워진다
+		now.set((now.get() / BUCKET_MILLIS + 1) * BUCKET_MILLIS - 1);
+		for (int i = 0; i < 1000; i++) {
+			filter.put("token-" + i);
+		}
+
+		now.addAndGet(1 + (BUCKETS - 1) * BUCKET_MILLIS - 1);
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(filter.mightContain("token-" + i), "token-" + i);
+		}
+
+		// 구간 하나를 더 넘기면 넣었던 구간이 비워진다
+		now.incrementAndGet();
+		for (int i = 0; i < 1000; i++) {
+			assertFalse(filter.mightContain("token-" + i), "token-" + i);
+		}
+	}
+
+	@Test
+	@DisplayName("전체 구간보다 오래 조회가 없었으면 모든 구간을 비운다")
+	void clearsEverythingAfterLongIdle() {
+		TimeBucketedBloomFilter filter = newFilter(100);
+		for (int i = 0; i < 100; i++) {
+			now.addAndGet(BUCKET_MILLIS / 10);
+			filter.put("token-" + i);
+		}
+
+		now.addAndGet(BUCKETS * BUCKET_MILLIS * 3);
+		for (int i = 0; i < 100; i++) {
+			assertFalse(filter.mightContain("token-" + i), "token-" + i);
+		}
+	}
+
+	@Test
+	@DisplayName("시간을 무작위로 진행하며 넣고 조회해도 유지 기간 안의 값은 모두 있고, 거짓 양성은 목표 근처다")
+	void matchesReferenceModel() {
+		Random random = new Random(9);
+		TimeBucketedBloomFilter filter = newFilter(2000);
+		Map<String, Long> insertedEpoch = new HashMap<>();
+		int falsePositives = 0;
+		int negatives = 0;
+
+		for (int step = 0; step < 20_000; step++) {
+			now.addAndGet(random.nextInt((int) (BUCKET_MILLIS / 200)));
+			long epoch = now.get() / BUCKET_MILLIS;
+
+			String value = "token-" + random.nextInt(50_000);
+			if (random.nextInt(4) == 0) {
+				filter.put(value);
+				insertedEpoch.put(value, epoch);
+				continue;
+			}
+
+			Long inserted = insertedEpoch.get(value);
+			boolean retained = inserted != null && inserted > epoch - BUCKETS;
+			boolean contained = filter.mightContain(value);
+			if (retained) {
+				assertTrue(contained, value + " inserted at epoch " + inserted + ", now " + epoch);
+			} else {
+				negatives++;
+				if (contained) {
+					falsePositives++;
+				}
+			}
+		}
+
+		// 구간 수만큼 필터를 OR로 보므로 거짓 양성 상한은 대략 BUCKETS x 목표
+		double rate = (double) falsePositives / negatives;
+		assertTrue(rate <= BUCKETS * FALSE_POSITIVE_RATE * 3, "false positive rate " + rate);
+	}
+
+	private TimeBucketedBloomFilter newFilter(int expectedInsertionsPerBucket) {
+		return new TimeBucketedBloomFilter(BUCKETS, BUCKET_MILLIS, expectedInsertionsPerBucket, FALSE_POSITIVE_RATE, now::get);
+	}
+}
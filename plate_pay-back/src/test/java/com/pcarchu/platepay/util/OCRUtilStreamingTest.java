@@ -0,0 +1,140 @@
+package com.pcarchu.platepay.util;
+
+import com.pcarchu.platepay.config.http.HttpClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OCRUtil이 운영과 같은 ocrRestTemplate(HttpClientConfig)으로 이미지를 버퍼링 없이 스트리밍하는지 확인한다.
+ * 요청 바디를 byte[]로 모은 뒤 보내면 클라이언트가 스트림을 끝까지 읽기 전에는 서버가 한 바이트도 받지 못한다.
+ */
+class OCRUtilStreamingTest {
+	private static final long IMAGE_BYTES = 64L * 1024 * 1024;
+	// 소켓 버퍼보다 충분히 크게 보낸 뒤 서버 수신을 기다린다
+	private static final long WAIT_AFTER_BYTES = 8L * 1024 * 1024;
+	private static final long SERVER_SIGNAL_BYTES = 1024 * 1024;
+
+	private HttpServer server;
+	private final AtomicLong received = new AtomicLong();
+	private final CountDownLatch serverReceiving = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api/v1/ocr/license-plate", exchange -> {
+			byte[] buf = new byte[64 * 1024];
+			try (InputStream in = exchange.getRequestBody()) {
+				int n;
+				while ((n = in.read(buf)) != -1) {
+					if (received.addAndGet(n) >= SERVER_SIGNAL_BYTES) {
+						serverReceiving.countDown();
+					}
+				}
+			}
+			byte[] body = ("{\"plate_number\":\"12가3456\",\"received\":" + received.get() + "}")
+					.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("큰 이미지도 바디를 모으지 않고 읽는 대로 OCR 서버에 전송한다")
+	void streamsImageWithoutBuffering() {
+		RestTemplate restTemplate = new HttpClientConfig(new SimpleMeterRegistry())
+				.ocrRestTemplate(new RestTemplateBuilder(), Duration.ofSeconds(2), Duration.ofSeconds(30), 4);
+		OCRUtil ocrUtil = new OCRUtil(restTemplate);
+		ReflectionTestUtils.setField(ocrUtil, "ocrUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+
+		AtomicBoolean streamedBeforeEnd = new AtomicBoolean();
+		InputStream image = new GeneratedImageStream(IMAGE_BYTES, WAIT_AFTER_BYTES,
+				() -> streamedBeforeEnd.set(await(serverReceiving)));
+
+		Map<String, Object> result = ocrUtil.processOCR(new InputStreamResource(image), "image/jpeg", "plate.jpg");
+
+		assertNotNull(result, "OCR 호출 실패");
+		assertTrue(streamedBeforeEnd.get(), "이미지를 다 읽기 전에 OCR 서버가 바디를 받지 못했다 (요청 바디 버퍼링)");
+		assertTrue(received.get() > IMAGE_BYTES, "OCR 서버가 받은 바이트 수: " + received.get());
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 힙에 올리지 않고 size 바이트를 만들어 내는 스트림, afterBytes 바이트를 내준 뒤 한 번 onThreshold를 실행한다.
+	 */
+	private static final class GeneratedImageStream extends InputStream {
+		private final long size;
+		private final long afterBytes;
+		private final Runnable onThreshold;
+		private long position;
+		private boolean fired;
+
+		GeneratedImageStream(long size, long afterBytes, Runnable onThreshold) {
+			this.size = size;
+			this.afterBytes = afterBytes;
+			this.onThreshold = onThreshold;
+		}
+
+		@Override
+		public int read() {
+			byte[] one = new byte[1];
+			return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (!fired && position >= afterBytes) {
+				fired = true;
+				onThreshold.run();
+			}
+			if (position >= size) {
+				return -1;
+			}
+			int n = (int) Math.min(len, size - position);
+			for (int i = 0; i < n; i++) {
+				b[off + i] = (byte) (position + i);
+			}
+			position += n;
+			return n;
+		}
+	}
+}
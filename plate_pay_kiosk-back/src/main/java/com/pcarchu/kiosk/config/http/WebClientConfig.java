@@ -0,0 +1,56 @@
+package com.pcarchu.kiosk.config.http;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * PlatePay 서버 호출용 WebClient (Reactor Netty 커넥션 풀 + keep-alive)
+ *
+ * 호출은 논블로킹으로 처리되어 소수의 이벤트 루프 스레드로 많은 동시 결제를 다룬다.
+ * 풀 대기열(pending-acquire-max-count)이 가득 차거나 대기 시간(pending-acquire-timeout)을 넘기면 실패시켜 PlatePay 서버로 부하를 넘기지 않는다.
+ * 호출 지연시간은 http.client.requests, 풀 사용량은 reactor.netty.connection.provider.* 메트릭으로 노출된다.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider platePayConnectionProvider(
+            @Value("${http.client.platepay.max-connections:64}") int maxConnections,
+            @Value("${http.client.platepay.pending-acquire-max-count:256}") int pendingAcquireMaxCount,
+            @Value("${http.client.platepay.pending-acquire-timeout:1s}") Duration pendingAcquireTimeout,
+            @Value("${http.client.platepay.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("platepay")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient platePayWebClient(WebClient.Builder builder,
+                                       ConnectionProvider platePayConnectionProvider,
+                                       @Value("${platepay.api.url}") String platePayUrl,
+                                       @Value("${http.client.platepay.connect-timeout:2s}") Duration connectTimeout,
+                                       @Value("${http.client.platepay.read-timeout:10s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(platePayConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(readTimeout);
+
+        return builder
+                .baseUrl(platePayUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,19 +1,18 @@
 package com.pcarchu.kiosk.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pcarchu.kiosk.common.dto.ResponseDto;
 import com.pcarchu.kiosk.dto.KioskRequestDto;
 import com.pcarchu.kiosk.service.KioskService;
+import com.pcarchu.kiosk.util.PlatePayUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.util.List;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -22,46 +21,48 @@ import java.util.List;
 public class KioskController {
     private final KioskService kioskService;
     private final ResponseDto responseDto;
+    private final ObjectMapper objectMapper;
 
     @GetMapping(value = "/{parkingLotId}/{plateNum}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> getCarsByParkingLot(@PathVariable Long parkingLotId, @PathVariable String plateNum) {
-        try {
-            log.info("getCarsByParkingLot occurred!");
-            String response = kioskService.getParkingData(parkingLotId, plateNum);
-
-            // BOM 제거(간헐적 UTF-8 BOM 방지)
-            if (response != null && response.startsWith("\uFEFF")) {
-                response = response.substring(1);
-            }
-
-            ObjectMapper om = new ObjectMapper();
-            JsonNode json = om.readTree(response); // ← 여기서 JSON 확인/파싱
-            return ResponseEntity.ok(json);        // ← JSON으로 응답 (UTF-8, application/json)
-        } catch (Exception e) {
-            log.debug("getCarsByParkingLot error occurred!", e);
-            return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+    public Mono<ResponseEntity<?>> getCarsByParkingLot(@PathVariable Long parkingLotId, @PathVariable String plateNum) {
+        log.info("getCarsByParkingLot occurred!");
+        return kioskService.getParkingData(parkingLotId, plateNum)
+                .<ResponseEntity<?>>handle((response, sink) -> {
+                    // BOM 제거(간헐적 UTF-8 BOM 방지)
+                    if (response.startsWith("\uFEFF")) {
+                        response = response.substring(1);
+                    }
+                    try {
+                        sink.next(ResponseEntity.ok(objectMapper.readTree(response))); // JSON 확인/파싱 후 응답
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR)))
+                .onErrorResume(e -> fail("getCarsByParkingLot", e));
     }
 
     @PostMapping("/{plateNum}")
-    public ResponseEntity<?> orderMenu(@PathVariable String plateNum, @RequestBody KioskRequestDto.orderMenuRequest orderMenuRequest) {
-        try {
-            boolean response = kioskService.orderMenu(plateNum, orderMenuRequest);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.debug("orderMenu error occurred!");
-            return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+    public Mono<ResponseEntity<?>> orderMenu(@PathVariable String plateNum, @RequestBody KioskRequestDto.orderMenuRequest orderMenuRequest) {
+        return kioskService.orderMenu(plateNum, orderMenuRequest)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> fail("orderMenu", e));
     }
 
     @PostMapping(value = "/{plateNum}/compare", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> compareFace(@PathVariable String plateNum, @RequestPart("file") MultipartFile compface, @RequestPart("orderMenuRequest") KioskRequestDto.orderMenuRequestWithFace orderMenuRequest) {
-        try {
-            boolean response = kioskService.compareFace(plateNum, compface, orderMenuRequest);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.debug("compareFace error occurred!");
-            return responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR);
+    public Mono<ResponseEntity<?>> compareFace(@PathVariable String plateNum, @RequestPart("file") FilePart compface, @RequestPart("orderMenuRequest") KioskRequestDto.orderMenuRequestWithFace orderMenuRequest) {
+        return kioskService.compareFace(plateNum, compface, orderMenuRequest)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> fail("compareFace", e));
+    }
+
+    // PlatePay 커넥션 풀이 포화된 경우(대기열 초과, 대기 시간 초과) 503, 그 외 500
+    private Mono<ResponseEntity<?>> fail(String api, Throwable e) {
+        if (PlatePayUtil.isOverloaded(e)) {
+            log.warn("{} rejected: PlatePay 커넥션 풀 포화 ({})", api, e.getMessage());
+            return Mono.just(responseDto.fail("server busy", HttpStatus.SERVICE_UNAVAILABLE));
         }
+        log.debug("{} error occurred!", api, e);
+        return Mono.just(responseDto.fail("server error", HttpStatus.INTERNAL_SERVER_ERROR));
     }
 }
@@ -29,9 +29,11 @@ public class KioskRequestDto {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class ValidateFace {
+    public static class Checkout {
         private String plateNum;
         private Long storeId;
+        private Integer cost;
+        private String password;
     }
 
 }
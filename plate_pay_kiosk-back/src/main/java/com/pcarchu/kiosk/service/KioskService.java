@@ -1,12 +1,13 @@
 package com.pcarchu.kiosk.service;
 
 import com.pcarchu.kiosk.dto.KioskRequestDto;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.http.codec.multipart.FilePart;
+import reactor.core.publisher.Mono;
 
 public interface KioskService {
-    String getParkingData(Long parkingLotId, String plateNum);
+    Mono<String> getParkingData(Long parkingLotId, String plateNum);
 
-    boolean orderMenu(String plateNum, KioskRequestDto.orderMenuRequest orderMenuRequest);
+    Mono<Boolean> orderMenu(String plateNum, KioskRequestDto.orderMenuRequest orderMenuRequest);
 
-    boolean compareFace(String plateNum, MultipartFile compface, KioskRequestDto.orderMenuRequestWithFace orderMenuRequest);
+    Mono<Boolean> compareFace(String plateNum, FilePart compface, KioskRequestDto.orderMenuRequestWithFace orderMenuRequest);
 }
@@ -1,26 +0,0 @@
-package com.pcarchu.kiosk.util;
-
-import org.springframework.core.io.InputStreamResource;
-
-import java.io.IOException;
-import java.io.InputStream;
-
-public class MultipartInputStreamFileResource extends InputStreamResource {
-
-    private final String filename;
-
-    public MultipartInputStreamFileResource(InputStream inputStream, String filename) {
-        super(inputStream);
-        this.filename = filename;
-    }
-
-    @Override
-    public String getFilename() {
-        return this.filename;
-    }
-
-    @Override
-    public long contentLength() throws IOException {
-        return -1; // 파일 사이즈 미리 계산하지 않도록 설정
-    }
-}
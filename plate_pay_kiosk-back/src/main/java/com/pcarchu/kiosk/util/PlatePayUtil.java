@@ -1,176 +1,123 @@
 package com.pcarchu.kiosk.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pcarchu.kiosk.dto.KioskRequestDto;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
 
+/**
+ * PlatePay 서버 호출 (논블로킹)
+ *
+ * 결제(인증 + 주문) 실패는 false로, 커넥션 풀 포화(대기열 초과, 대기 시간 초과)는 그대로 전달해 호출자가 503으로 응답한다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PlatePayUtil {
 
-    @Value("${platepay.api.url}")
-    private String platePayUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    public String getParkingInfo(Long parkingLotId, String plateNum) {
-        try {
-            log.info("[getParkingInfo] 호출 시작 - parkingLotId: {}, plateNum: {}", parkingLotId, plateNum);
-
-            UriComponents uri = UriComponentsBuilder
-                    .fromHttpUrl(platePayUrl + "/api/v1/parking/{parkingLotId}/{plateNum}")
-                    .buildAndExpand(parkingLotId, plateNum)
-                    .encode();
-
-            ResponseEntity<String> response = restTemplate.getForEntity(uri.toUri(), String.class);
-
-            log.info("[getParkingInfo] 응답 상태코드 = {}", response.getStatusCode());
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.info("[getParkingInfo] 성공 - 응답 바디 길이 = {}", response.getBody() != null ? response.getBody().length() : 0);
-                return response.getBody();
-            } else {
-                log.error("getParkingInfo failed: status {}", response.getStatusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            log.error("getParkingInfo error: {}", e.getMessage());
-            return null;
-        }
+    // Reactor Netty가 reactor-pool을 내부 패키지로 셰이딩해 쓰므로 타입 대신 클래스 이름으로 판별한다.
+    private static final Set<String> POOL_EXHAUSTED = Set.of(
+            "PoolAcquirePendingLimitException", // 대기열(pending-acquire-max-count) 초과
+            "PoolAcquireTimeoutException");     // 대기 시간(pending-acquire-timeout) 초과
+
+    private final WebClient platePayWebClient;
+
+    public Mono<String> getParkingInfo(Long parkingLotId, String plateNum) {
+        log.info("[getParkingInfo] 호출 시작 - parkingLotId: {}, plateNum: {}", parkingLotId, plateNum);
+
+        return platePayWebClient.get()
+                .uri("/api/v1/parking/{parkingLotId}/{plateNum}", parkingLotId, plateNum)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(body -> log.info("[getParkingInfo] 성공 - 응답 바디 길이 = {}", body.length()))
+                .onErrorResume(e -> !isOverloaded(e), e -> {
+                    log.error("getParkingInfo error: {}", e.getMessage());
+                    return Mono.empty();
+                });
     }
 
-    public boolean validatePayPassword(String plateNum, Long storeId, String password) {
-        try {
-            log.info("[validatePayPassword] 호출 시작 - plateNum: {}, storeId: {}, password: {}", plateNum, storeId, password);
-            UriComponents uri = UriComponentsBuilder
-                    .fromHttpUrl(platePayUrl + "/api/v1/members/password-validation")
-                    .build()
-                    .encode();
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("plateNum", plateNum);
-            requestBody.put("storeId", storeId);
-            requestBody.put("password", password);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> httpEntity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(uri.toUri(), httpEntity, String.class);
-
-            log.info("[validatePayPassword] 응답 상태코드 = {}", response.getStatusCode());
-            log.info("[validatePayPassword] 응답 바디 = {}", response.getBody());
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode root = mapper.readTree(response.getBody());
-                return root.path("data").path("result").asBoolean(false); // result 없으면 기본 false
-            }
-            return false;
-        } catch (Exception e) {
-            log.error("validatePayPassword error: {}", e.getMessage(), e);
-            return false;
-        }
+    /**
+     * 결제 비밀번호 검증 + 주문 (PlatePay 서버 한 번 호출)
+     */
+    public Mono<Boolean> checkout(String plateNum, Long storeId, Integer cost, String password) {
+        log.info("[checkout] 호출 시작 - plateNum: {}, storeId: {}, cost: {} ", plateNum, storeId, cost);
+
+        KioskRequestDto.Checkout requestBody = KioskRequestDto.Checkout.builder()
+                .plateNum(plateNum)
+                .storeId(storeId)
+                .cost(cost)
+                .password(password)
+                .build();
+
+        return platePayWebClient.post()
+                .uri("/api/v1/order-histories/checkout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(root -> root.path("data").path("result").asBoolean(false)) // result 없으면 기본 false
+                .doOnNext(result -> log.info("[checkout] data.result 값 = {}", result))
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> !isOverloaded(e), e -> {
+                    log.error("checkout error: {}", e.getMessage());
+                    return Mono.just(false);
+                });
     }
 
-    public boolean compareFace(String plateNum, Long storeId, MultipartFile compface) {
-        try {
-            log.info("[compareFace] 호출 시작 - plateNum: {}", plateNum);
-
-            UriComponents uri = UriComponentsBuilder
-                    .fromHttpUrl(platePayUrl + "/api/v1/members/face-validation")
-                    .build()
-                    .encode();
-
-            KioskRequestDto.ValidateFace validateFace = KioskRequestDto.ValidateFace.builder()
-                    .plateNum(plateNum)
-                    .storeId(storeId)
-                    .build();
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonInfo = objectMapper.writeValueAsString(validateFace);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("info", jsonInfo);
-            body.add("compface", new MultipartInputStreamFileResource(
-                    compface.getInputStream(), compface.getOriginalFilename()
-            ));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(uri.toUri(), requestEntity, String.class);
-
-            log.info("[compareFace] 응답 상태코드 = {}", response.getStatusCode());
-            log.info("[compareFace] 응답 바디 = {}", response.getBody());
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode root = mapper.readTree(response.getBody());
-
-                boolean result = root.path("data").path("result").asBoolean(false);
-                log.info("[compareFace] data.result 값 = {}", result);
-
-                return result;
-            } else {
-                return false;
-            }
-        } catch (Exception e) {
-            log.error("compareFace error: {}", e.getMessage(), e);
-            return false;
-        }
+    /**
+     * 얼굴 인증 + 주문 (PlatePay 서버 한 번 호출)
+     * 얼굴 사진은 메모리에 모으지 않고 수신한 DataBuffer 그대로 PlatePay 서버로 흘려보낸다.
+     */
+    public Mono<Boolean> checkoutWithFace(String plateNum, Long storeId, Integer cost, FilePart compface) {
+        log.info("[checkoutWithFace] 호출 시작 - plateNum: {}, storeId: {}, cost: {} ", plateNum, storeId, cost);
+
+        KioskRequestDto.Checkout info = KioskRequestDto.Checkout.builder()
+                .plateNum(plateNum)
+                .storeId(storeId)
+                .cost(cost)
+                .build();
+
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("info", info, MediaType.APPLICATION_JSON);
+        body.asyncPart("compface", compface.content(), DataBuffer.class)
+                .filename(compface.filename())
+                .contentType(compface.headers().getContentType() != null
+                        ? compface.headers().getContentType()
+                        : MediaType.APPLICATION_OCTET_STREAM);
+
+        return platePayWebClient.post()
+                .uri("/api/v1/order-histories/checkout/face")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(root -> root.path("data").path("result").asBoolean(false))
+                .doOnNext(result -> log.info("[checkoutWithFace] data.result 값 = {}", result))
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> !isOverloaded(e), e -> {
+                    log.error("checkoutWithFace error: {}", e.getMessage());
+                    return Mono.just(false);
+                });
     }
 
-
-
-    public boolean orderMenu(Long storeId, String plateNum, Integer cost) {
-        log.info("[orderMenu] 호출 시작 - plateNum: {}, storeId: {}, cost: {} ", plateNum, storeId, cost);
-
-        try {
-            UriComponents uri = UriComponentsBuilder
-                    .fromHttpUrl(platePayUrl + "/api/v1/order-histories")
-                    .build()
-                    .encode();
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("storeId", storeId);
-            requestBody.put("plateNum", plateNum);
-            requestBody.put("cost", cost);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> httpEntity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(uri.toUri(), httpEntity, String.class);
-
-            log.info("[orderMenu] 응답 상태코드 = {}", response.getStatusCode());
-
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            log.error("orderMenu error: {}", e.getMessage());
-            return false;
+    // WebClient는 커넥션 획득 실패를 WebClientRequestException으로 감싼다.
+    public static boolean isOverloaded(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (POOL_EXHAUSTED.contains(t.getClass().getSimpleName())) {
+                return true;
+            }
         }
+        return false;
     }
-
 }